@@ -47,6 +47,7 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
     private final SelectionSet selectionSet;
     private final Map<String, Object> variables;
     private final Map<String, String> variableTypes;
+    private volatile String query;
 
     /**
      * Constructor for AppSyncGraphQLRequest.
@@ -81,6 +82,14 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
         return Immutable.of(variables);
     }
 
+    SelectionSet getSelectionSet() {
+        return selectionSet;
+    }
+
+    Map<String, String> getVariableTypes() {
+        return variableTypes;
+    }
+
     /**
      *  Returns String value used for GraphQL "query" in HTTP request body.
      *
@@ -95,6 +104,17 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
      */
     @Override
     public String getQuery() {
+        String document = query;
+        if (document == null) {
+            document = GraphQLDocumentCache.instance().getDocument(this);
+            query = document;
+        }
+        return document;
+    }
+
+    // Builds the value of getQuery(). Requests of the same model, operation and variable types
+    // share a document, so this is only called for the first of them.
+    String buildQuery() {
         String inputTypeString = "";
         String inputParameterString = "";
         if (variableTypes.size() > 0) {
@@ -217,7 +237,8 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
             this.modelSchema = request.modelSchema;
             this.operation = request.operation;
             this.responseType = request.getResponseType();
-            this.selectionSet = new SelectionSet(request.selectionSet);
+            // Selection sets are immutable, and are shared by the requests built from them.
+            this.selectionSet = request.selectionSet;
             this.variables = new HashMap<>(request.variables);
             this.variableTypes = new HashMap<>(request.variableTypes);
         }
@@ -308,18 +329,18 @@ public final class AppSyncGraphQLRequest<R> extends GraphQLRequest<R> {
                     );
                 }
                 // Derive modelSchema from modelClass if not available
-                modelSchema = ModelSchema.fromModelClass(this.modelClass);
+                modelSchema = GraphQLDocumentCache.instance().getModelSchema(this.modelClass);
             }
 
             // if this Builder was created via newBuilder(),
             // selectionSet will already be set, so we can continue on.
             if (selectionSet == null) {
-                selectionSet = SelectionSet.builder()
-                        .modelSchema(this.modelSchema)
-                        .modelClass(this.modelClass)
-                        .operation(this.operation)
-                        .requestOptions(Objects.requireNonNull(this.requestOptions))
-                        .build();
+                selectionSet = GraphQLDocumentCache.instance().getSelectionSet(
+                        this.modelSchema,
+                        this.modelClass,
+                        this.operation,
+                        Objects.requireNonNull(this.requestOptions)
+                );
             }
             return new AppSyncGraphQLRequest<>(this);
         }
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.api.graphql.Operation;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.datastore.appsync.SerializedModel;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A cache of the parts of GraphQL documents which are the same for every request of a model
+ * and operation: the schema of the model, the selection set of the operation, and the text of
+ * the document for a given layout of variables.
+ *
+ * Building these parts reflects over model classes, and joins many strings. Requests of the
+ * same model and operation are made over and over, e.g. for each mutation of a model, or for
+ * each page of a sync. They all use the parts which were built for the first of them.
+ *
+ * The cache is shared by all requests, for the life of the process. Each of its parts holds a
+ * bounded number of entries, and drops the least recently used of them when it is full, since
+ * schemas of {@link SerializedModel}s and selection sets passed in by callers are not bounded
+ * by the model classes of the app.
+ */
+final class GraphQLDocumentCache {
+    private static final GraphQLDocumentCache INSTANCE = new GraphQLDocumentCache();
+    private static final int MAX_CACHED_MODEL_SCHEMAS = 200;
+    private static final int MAX_CACHED_SELECTION_SETS = 500;
+    private static final int MAX_CACHED_DOCUMENTS = 1_000;
+    private static final float CACHE_LOAD_FACTOR = 0.75f;
+
+    private final Map<Class<? extends Model>, ModelSchema> modelSchemas;
+    private final Map<SelectionSetKey, SelectionSet> selectionSets;
+    private final Map<DocumentKey, String> documents;
+
+    private GraphQLDocumentCache() {
+        this.modelSchemas = leastRecentlyUsed(MAX_CACHED_MODEL_SCHEMAS);
+        this.selectionSets = leastRecentlyUsed(MAX_CACHED_SELECTION_SETS);
+        this.documents = leastRecentlyUsed(MAX_CACHED_DOCUMENTS);
+    }
+
+    // Reads of an access-ordered LinkedHashMap reorder it, so even they need to be synchronized.
+    private static <K, V> Map<K, V> leastRecentlyUsed(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(maxEntries, CACHE_LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Gets the instance of the cache, which is shared by all requests.
+     * @return The document cache
+     */
+    @NonNull
+    static GraphQLDocumentCache instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the schema of a model class.
+     * @param modelClass A model class
+     * @return The schema of the model class
+     * @throws AmplifyException If a schema can't be created from the model class
+     */
+    @NonNull
+    ModelSchema getModelSchema(@NonNull Class<? extends Model> modelClass) throws AmplifyException {
+        ModelSchema modelSchema = modelSchemas.get(modelClass);
+        if (modelSchema == null) {
+            modelSchema = ModelSchema.fromModelClass(modelClass);
+            modelSchemas.put(modelClass, modelSchema);
+        }
+        return modelSchema;
+    }
+
+    /**
+     * Gets the selection set of an operation on a model.
+     * @param modelSchema The schema of the model
+     * @param modelClass The model class, or null if only the schema is known
+     * @param operation An operation
+     * @param requestOptions Options which define how the selection set is built
+     * @return The selection set, which must not be modified
+     * @throws AmplifyException If the selection set can't be built from the model
+     */
+    @NonNull
+    SelectionSet getSelectionSet(
+            @NonNull ModelSchema modelSchema,
+            Class<? extends Model> modelClass,
+            @NonNull Operation operation,
+            @NonNull GraphQLRequestOptions requestOptions) throws AmplifyException {
+        // The selection set of a SerializedModel is built from its schema, rather than its class.
+        final Object model = modelClass == null || SerializedModel.class == modelClass ? modelSchema : modelClass;
+        final SelectionSetKey key = new SelectionSetKey(model, operation, requestOptions);
+        SelectionSet selectionSet = selectionSets.get(key);
+        if (selectionSet == null) {
+            selectionSet = SelectionSet.builder()
+                .modelSchema(modelSchema)
+                .modelClass(modelClass)
+                .operation(operation)
+                .requestOptions(requestOptions)
+                .build();
+            selectionSets.put(key, selectionSet);
+        }
+        return selectionSet;
+    }
+
+    /**
+     * Gets the text of a document, building it on first use.
+     * @param request A request
+     * @return The text of the request's document
+     */
+    @NonNull
+    String getDocument(@NonNull AppSyncGraphQLRequest<?> request) {
+        final DocumentKey key = new DocumentKey(request);
+        String document = documents.get(key);
+        if (document == null) {
+            document = request.buildQuery();
+            documents.put(key, document);
+        }
+        return document;
+    }
+
+    /**
+     * Identifies a selection set by everything that it is built from. Request options are compared by
+     * their values, since new options are usually created for each request.
+     */
+    private static final class SelectionSetKey {
+        private final Object model;
+        private final Operation operation;
+        private final List<String> paginationFields;
+        private final List<String> modelMetaFields;
+        private final String listField;
+        private final int maxDepth;
+        private final LeafSerializationBehavior leafSerializationBehavior;
+
+        SelectionSetKey(Object model, Operation operation, GraphQLRequestOptions requestOptions) {
+            this.model = Objects.requireNonNull(model);
+            this.operation = Objects.requireNonNull(operation);
+            this.paginationFields = requestOptions.paginationFields();
+            this.modelMetaFields = requestOptions.modelMetaFields();
+            this.listField = requestOptions.listField();
+            this.maxDepth = requestOptions.maxDepth();
+            this.leafSerializationBehavior = requestOptions.leafSerializationBehavior();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+            SelectionSetKey that = (SelectionSetKey) object;
+            return maxDepth == that.maxDepth &&
+                ObjectsCompat.equals(model, that.model) &&
+                ObjectsCompat.equals(operation, that.operation) &&
+                ObjectsCompat.equals(paginationFields, that.paginationFields) &&
+                ObjectsCompat.equals(modelMetaFields, that.modelMetaFields) &&
+                ObjectsCompat.equals(listField, that.listField) &&
+                ObjectsCompat.equals(leafSerializationBehavior, that.leafSerializationBehavior);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(model, operation, paginationFields, modelMetaFields,
+                listField, maxDepth, leafSerializationBehavior);
+        }
+    }
+
+    /**
+     * Identifies the text of a document by everything that it is built from. Selection sets are
+     * compared by identity, since they are shared by all requests of a model and operation. A key
+     * of a selection set which has been dropped from the cache is no longer used, and is dropped
+     * in turn, once newer documents have filled the cache.
+     */
+    private static final class DocumentKey {
+        private final SelectionSet selectionSet;
+        private final Operation operation;
+        private final String modelName;
+        private final String modelPluralName;
+        private final Map<String, String> variableTypes;
+
+        DocumentKey(AppSyncGraphQLRequest<?> request) {
+            this.selectionSet = request.getSelectionSet();
+            this.operation = request.getOperation();
+            this.modelName = request.getModelSchema().getName();
+            this.modelPluralName = request.getModelSchema().getPluralName();
+            this.variableTypes = request.getVariableTypes();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (object == null || getClass() != object.getClass()) {
+                return false;
+            }
+            DocumentKey that = (DocumentKey) object;
+            return selectionSet == that.selectionSet &&
+                ObjectsCompat.equals(operation, that.operation) &&
+                ObjectsCompat.equals(modelName, that.modelName) &&
+                ObjectsCompat.equals(modelPluralName, that.modelPluralName) &&
+                ObjectsCompat.equals(variableTypes, that.variableTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return ObjectsCompat.hash(System.identityHashCode(selectionSet), operation, modelName,
+                modelPluralName, variableTypes);
+        }
+    }
+}
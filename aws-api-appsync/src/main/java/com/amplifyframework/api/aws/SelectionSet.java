@@ -62,7 +62,7 @@ public final class SelectionSet {
      */
     @SuppressWarnings("CopyConstructorMissesField") // It is cloned, by recursion
     public SelectionSet(SelectionSet selectionSet) {
-        this(selectionSet.value, new HashSet<>(selectionSet.nodes));
+        this(selectionSet.value, selectionSet.nodes);
     }
 
     /**
@@ -76,16 +76,17 @@ public final class SelectionSet {
     /**
      * Default constructor.
      * @param value String value of the field
-     * @param nodes Set of child nodes
+     * @param nodes Set of child nodes, which is copied, so that later changes to it are not seen
      */
     public SelectionSet(String value, @NonNull Set<SelectionSet> nodes) {
         this.value = value;
-        this.nodes = Objects.requireNonNull(nodes);
+        this.nodes = Collections.unmodifiableSet(new HashSet<>(Objects.requireNonNull(nodes)));
     }
 
     /**
-     * Returns child nodes.
-     * @return child nodes
+     * Returns child nodes. A selection set is immutable, so that it can be shared by many requests:
+     * its nodes are copied when it is constructed, and can't be added or removed afterwards.
+     * @return child nodes, which can't be modified
      */
     @NonNull
     public Set<SelectionSet> getNodes() {
@@ -24,6 +24,8 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 @RunWith(RobolectricTestRunner.class)
 public class AppSyncGraphQlRequestTest {
@@ -46,4 +48,36 @@ public class AppSyncGraphQlRequestTest {
         assertEquals(original.getContent(), newInstance.getContent());
         assertEquals(original.toString(), newInstance.toString());
     }
+
+    /**
+     * Requests of the same model and operation share a selection set, and requests which also
+     * have the same variable types share the text of their document.
+     * @throws AmplifyException on failure to build request.
+     */
+    @Test
+    public void requestsOfSameModelAndOperationShareDocument() throws AmplifyException {
+        AppSyncGraphQLRequest<Todo> first = AppSyncGraphQLRequest.builder()
+                .modelClass(Todo.class)
+                .operation(QueryType.GET)
+                .requestOptions(new DefaultGraphQLRequestOptions())
+                .responseType(Todo.class)
+                .variable("id", "ID!", "first")
+                .build();
+        AppSyncGraphQLRequest<Todo> second = AppSyncGraphQLRequest.builder()
+                .modelClass(Todo.class)
+                .operation(QueryType.GET)
+                .requestOptions(new DefaultGraphQLRequestOptions())
+                .responseType(Todo.class)
+                .variable("id", "ID!", "second")
+                .build();
+        AppSyncGraphQLRequest<Todo> withOtherVariables = second.newBuilder()
+                .variable("foo", "String!", "bar")
+                .build();
+
+        assertSame(first.getSelectionSet(), second.getSelectionSet());
+        assertSame(first.getQuery(), second.getQuery());
+        assertNotEquals(first.getContent(), second.getContent());
+        assertSame(second.getSelectionSet(), withOtherVariables.getSelectionSet());
+        assertNotEquals(second.getQuery(), withOtherVariables.getQuery());
+    }
 }
@@ -36,7 +36,9 @@ import org.robolectric.RobolectricTestRunner;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 
@@ -148,4 +150,17 @@ public class SelectionSetTest {
                 .build();
         assertEquals(Resources.readAsString("selection-set-ownerauth.txt"), selectionSet.toString() + "\n");
     }
+
+    /**
+     * Test that a selection set keeps a copy of the nodes it is constructed with, so that
+     * changing the caller's set afterwards doesn't change the selection set.
+     */
+    @Test
+    public void nodesAreCopiedOnConstruction() {
+        Set<SelectionSet> nodes = new HashSet<>(Collections.singleton(new SelectionSet("id")));
+        SelectionSet selectionSet = new SelectionSet(null, nodes);
+        nodes.add(new SelectionSet("name"));
+
+        assertEquals(Collections.singleton(new SelectionSet("id")), selectionSet.getNodes());
+    }
 }
@@ -123,25 +123,25 @@ public final class AppSyncGraphQLOperation<R> extends GraphQLOperation<R> {
         public void onResponse(@NonNull Call call,
                                @NonNull Response response) {
             final ResponseBody responseBody = response.body();
-            String jsonResponse = null;
-            if (responseBody != null) {
-                try {
-                    jsonResponse = responseBody.string();
-                } catch (IOException exception) {
-                    onFailure.accept(new ApiException(
-                        "Could not retrieve the response body from the returned JSON",
-                        exception, AmplifyException.TODO_RECOVERY_SUGGESTION
-                    ));
-                    return;
-                }
-            }
-
+            final GraphQLResponse<R> graphQLResponse;
             try {
-                onResponse.accept(wrapResponse(jsonResponse, getResponseType()));
-                //TODO: Dispatch to hub
+                if (responseBody != null) {
+                    // Decode the response as it arrives, rather than reading all of it into a String first.
+                    graphQLResponse = wrapResponse(responseBody.charStream(), getResponseType());
+                } else {
+                    graphQLResponse = wrapResponse((String) null, getResponseType());
+                }
             } catch (ApiException exception) {
                 onFailure.accept(exception);
+                return;
+            } finally {
+                if (responseBody != null) {
+                    responseBody.close();
+                }
             }
+
+            onResponse.accept(graphQLResponse);
+            //TODO: Dispatch to hub
         }
 
         @Override
@@ -26,24 +26,41 @@ import com.amplifyframework.util.GsonFactory;
 import com.amplifyframework.util.TypeMaker;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * Converts JSON strings into models of a given type, using Gson.
+ * Converts JSON into models of a given type, using Gson.
+ *
+ * The JSON is decoded as it is read, straight into the models. Neither the whole
+ * JSON text nor a tree of all of its elements is held in memory at once, so that
+ * the size of a response, such as a large page of results, doesn't cause a spike
+ * in memory use.
  */
 final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
-    private final Gson gson;
+    private static final String DATA_KEY = "data";
+    private static final String ERRORS_KEY = "errors";
+
+    // The request whose response is being built on the current thread. Gson deserializes
+    // synchronously, on the thread which calls it, so the adapter of lists finds
+    // the request here, without a new Gson having to be built around it.
+    private final ThreadLocal<GraphQLRequest<?>> currentRequest;
+    private final Gson responseGson;
 
     GsonGraphQLResponseFactory() {
         this(GsonFactory.instance());
@@ -51,74 +68,255 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
 
     @VisibleForTesting
     GsonGraphQLResponseFactory(Gson gson) {
-        this.gson = gson;
+        this.currentRequest = new ThreadLocal<>();
+        this.responseGson = gson.newBuilder()
+            .registerTypeAdapterFactory(new IterableTypeAdapterFactory(currentRequest))
+            .create();
     }
 
     @Override
     public <T> GraphQLResponse<T> buildResponse(GraphQLRequest<T> request, String responseJson, Type typeOfT)
             throws ApiException {
-        Type responseType = TypeMaker.getParameterizedType(GraphQLResponse.class, typeOfT);
+        if (responseJson == null) {
+            return null;
+        }
+        return buildResponse(request, new StringReader(responseJson), typeOfT);
+    }
+
+    @Override
+    public <T> GraphQLResponse<T> buildResponse(GraphQLRequest<T> request, Reader responseReader, Type typeOfT)
+            throws ApiException {
+        final GraphQLRequest<?> enclosingRequest = currentRequest.get();
+        currentRequest.set(request);
         try {
-            Gson responseGson = gson.newBuilder()
-                .registerTypeHierarchyAdapter(Iterable.class, new IterableDeserializer<>(request))
-                .create();
-            return responseGson.fromJson(responseJson, responseType);
-        } catch (JsonSyntaxException jsonSyntaxException) {
+            // Lenient, as Gson.fromJson(...) is, so that the same responses are accepted as before.
+            JsonReader reader = new JsonReader(responseReader);
+            reader.setLenient(true);
+            return readResponse(reader, typeOfT);
+        } catch (JsonParseException jsonParseException) {
             throw new ApiException(
                 "Amplify encountered an error while deserializing an object.",
-                jsonSyntaxException,
+                jsonParseException,
                 AmplifyException.TODO_RECOVERY_SUGGESTION
             );
+        } catch (IOException ioException) {
+            throw new ApiException(
+                "Could not retrieve the response body from the returned JSON",
+                ioException,
+                AmplifyException.TODO_RECOVERY_SUGGESTION
+            );
+        } finally {
+            if (enclosingRequest == null) {
+                currentRequest.remove();
+            } else {
+                currentRequest.set(enclosingRequest);
+            }
+        }
+    }
+
+    /*
+     * Reads a response such as the following, where the data is found under
+     * the response's single top level field:
+     *   {
+     *      "data": {
+     *          "listTodos": { ... }
+     *      },
+     *      "errors": [ ... ]
+     *   }
+     */
+    private <T> GraphQLResponse<T> readResponse(JsonReader reader, Type typeOfT) throws IOException {
+        final JsonToken firstToken;
+        try {
+            firstToken = reader.peek();
+        } catch (EOFException emptyResponse) {
+            // An empty response has no data, nor errors, to build a response out of.
+            return null;
+        }
+        if (firstToken == JsonToken.NULL) {
+            // Nor does a null one.
+            reader.nextNull();
+            return null;
+        }
+        if (firstToken != JsonToken.BEGIN_OBJECT) {
+            throw new JsonParseException(
+                "Expected a JsonObject while deserializing GraphQLResponse but found " + firstToken
+            );
+        }
+
+        T data = null;
+        List<GraphQLResponse.Error> errors = Collections.emptyList();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case DATA_KEY:
+                    data = readData(reader, typeOfT);
+                    break;
+                case ERRORS_KEY:
+                    errors = readErrors(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return new GraphQLResponse<>(data, errors);
+    }
+
+    // Reads the content of the query, not the query itself
+    @SuppressWarnings("unchecked") // The adapter reads values of typeOfT, which is T
+    private <T> T readData(JsonReader reader, Type typeOfT) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        reader.beginObject();
+        if (!reader.hasNext()) {
+            throw new JsonParseException(
+                "Amplify encountered an error while serializing/deserializing an object.  " +
+                    "Please add a single top level field in your query."
+            );
+        }
+        reader.nextName();
+        final T data = (T) responseGson.getAdapter(TypeToken.get(typeOfT)).read(reader);
+        if (reader.hasNext()) {
+            throw new JsonParseException(
+                "Amplify encountered an error while serializing/deserializing an object.  " +
+                    "Please reduce your query to a single top level field."
+            );
+        }
+        reader.endObject();
+        return data;
+    }
+
+    @SuppressWarnings("unchecked") // The adapter reads values of listType, which is a List of errors
+    private List<GraphQLResponse.Error> readErrors(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return Collections.emptyList();
         }
+        Type listType = TypeMaker.getParameterizedType(ArrayList.class, GraphQLResponse.Error.class);
+        return (List<GraphQLResponse.Error>) responseGson.getAdapter(TypeToken.get(listType)).read(reader);
     }
 
-    static final class IterableDeserializer<R> implements JsonDeserializer<Iterable<Object>> {
+    /**
+     * Creates adapters which read JSON lists into Java {@link Iterable}s, one item at a time.
+     */
+    static final class IterableTypeAdapterFactory implements TypeAdapterFactory {
         private static final String ITEMS_KEY = "items";
         private static final String NEXT_TOKEN_KEY = "nextToken";
 
-        private final GraphQLRequest<R> request;
+        private final ThreadLocal<GraphQLRequest<?>> currentRequest;
 
-        IterableDeserializer(GraphQLRequest<R> request) {
-            this.request = request;
+        IterableTypeAdapterFactory(ThreadLocal<GraphQLRequest<?>> currentRequest) {
+            this.currentRequest = currentRequest;
         }
 
+        @SuppressWarnings("unchecked") // The adapter reads Iterables, which the type token is for
         @Override
-        public Iterable<Object> deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
-                throws JsonParseException {
-            final Type templateClassType;
-            if (typeOfT instanceof ParameterizedType) {
-                templateClassType = ((ParameterizedType) typeOfT).getActualTypeArguments()[0];
-            } else {
-                throw new JsonParseException("Expected a parameterized type during list deserialization.");
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+            if (!Iterable.class.isAssignableFrom(typeToken.getRawType())) {
+                return null;
+            }
+            final Type type = typeToken.getType();
+            final TypeAdapter<?> itemAdapter = type instanceof ParameterizedType
+                ? gson.getAdapter(TypeToken.get(((ParameterizedType) type).getActualTypeArguments()[0]))
+                : null;
+            return (TypeAdapter<T>) new IterableAdapter(gson, typeToken, itemAdapter);
+        }
+
+        // A next token is any primitive value. Anything else means that there is no next page.
+        private static String readNextToken(JsonReader reader) throws IOException {
+            switch (reader.peek()) {
+                case STRING:
+                case NUMBER:
+                    return reader.nextString();
+                case BOOLEAN:
+                    return String.valueOf(reader.nextBoolean());
+                default:
+                    reader.skipValue();
+                    return null;
+            }
+        }
+
+        private final class IterableAdapter extends TypeAdapter<Iterable<Object>> {
+            private final Gson gson;
+            private final TypeToken<?> typeToken;
+            private final TypeAdapter<?> itemAdapter;
+            private final boolean isPaginated;
+
+            IterableAdapter(Gson gson, TypeToken<?> typeToken, TypeAdapter<?> itemAdapter) {
+                this.gson = gson;
+                this.typeToken = typeToken;
+                this.itemAdapter = itemAdapter;
+                this.isPaginated = PaginatedResult.class.equals(typeToken.getRawType());
+            }
+
+            // Iterables are only read by this adapter. They are written as Gson would otherwise write them.
+            @SuppressWarnings("unchecked") // The delegate writes Iterables, which the type token is for
+            @Override
+            public void write(JsonWriter writer, Iterable<Object> value) throws IOException {
+                ((TypeAdapter<Iterable<Object>>) gson.getDelegateAdapter(IterableTypeAdapterFactory.this, typeToken))
+                    .write(writer, value);
             }
 
-            // If the json we got is not really a list and the list has a generics type...
-            if (json.isJsonObject()) {
-                /*
-                 * Parses JSON such as the following:
-                 *   {
-                 *      "items" : [
-                 *          {
-                 *              "description": null,
-                 *              "id": "92863611-684a-424d-b3e5-94d42c4914c9",
-                 *              "name": "some name"
-                 *          }
-                 *      ],
-                 *      "nextToken" : "some_next_token"
-                 *   }
-                 */
-                JsonObject jsonObject = json.getAsJsonObject();
-                // ...and it is in the format we expect from AppSync
-                // for a list of objects in a relationship
-                if (jsonObject.has(ITEMS_KEY) && jsonObject.get(ITEMS_KEY).isJsonArray()) {
-                    JsonArray itemsArray = jsonObject.get(ITEMS_KEY).getAsJsonArray();
-                    Iterable<Object> items = toList(itemsArray, templateClassType, context);
-                    if (PaginatedResult.class.equals(((ParameterizedType) typeOfT).getRawType())) {
+            @Override
+            public Iterable<Object> read(JsonReader reader) throws IOException {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                    return null;
+                }
+                if (itemAdapter == null) {
+                    throw new JsonParseException("Expected a parameterized type during list deserialization.");
+                }
+
+                // If the json we got is not really a list and the list has a generics type...
+                if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    /*
+                     * Parses JSON such as the following:
+                     *   {
+                     *      "items" : [
+                     *          {
+                     *              "description": null,
+                     *              "id": "92863611-684a-424d-b3e5-94d42c4914c9",
+                     *              "name": "some name"
+                     *          }
+                     *      ],
+                     *      "nextToken" : "some_next_token"
+                     *   }
+                     */
+                    Iterable<Object> items = null;
+                    String nextToken = null;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        final String name = reader.nextName();
+                        if (ITEMS_KEY.equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                            items = toList(reader);
+                        } else if (NEXT_TOKEN_KEY.equals(name)) {
+                            nextToken = readNextToken(reader);
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+
+                    // ...and it is in the format we expect from AppSync
+                    // for a list of objects in a relationship
+                    if (items == null) {
+                        throw new JsonParseException(
+                            "Got JSON from an API call which was supposed to go with a List " +
+                                "but is in the form of an object rather than an array. " +
+                                "It also is not in the standard format of having an items " +
+                                "property with the actual array of data so we do not know how " +
+                                "to deserialize it."
+                        );
+                    }
+                    if (isPaginated) {
                         // Results of a GraphQL query at the root level are parsed into a PaginatedResult.
                         // A PaginatedResult extends the Iterable class, augmenting it with knowledge
                         // of whether a next page exists, and how to request that next page
                         // (via the nextToken).
-                        return buildPaginatedResult(items, jsonObject.get(NEXT_TOKEN_KEY));
+                        return buildPaginatedResult(items, nextToken);
                     } else {
                         // Results below than the root level are parsed as a List, because that
                         // is the type on the code generated model for a one to many relationship
@@ -128,50 +326,44 @@ final class GsonGraphQLResponseFactory implements GraphQLResponse.Factory {
                         // which would expose these details for customers.
                         return items;
                     }
-                } else {
-                    throw new JsonParseException(
-                        "Got JSON from an API call which was supposed to go with a List " +
-                            "but is in the form of an object rather than an array. " +
-                            "It also is not in the standard format of having an items " +
-                            "property with the actual array of data so we do not know how " +
-                            "to deserialize it."
-                    );
+                } else if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    return toList(reader);
                 }
-            } else if (json.isJsonArray()) {
-                return toList(json.getAsJsonArray(), templateClassType, context);
+                throw new JsonParseException(
+                        "Got a JSON value that was not an object or a list. " +
+                                "Refusing to deserialize into a Java Iterable."
+                );
             }
-            throw new JsonParseException(
-                    "Got a JSON value that was not an object or a list. " +
-                            "Refusing to deserialize into a Java Iterable."
-            );
-        }
 
-        private Iterable<Object> toList(JsonArray jsonArray, Type type, JsonDeserializationContext context) {
-            final List<Object> items = new ArrayList<>();
-            for (JsonElement item : jsonArray) {
-                items.add(context.deserialize(item, type));
+            private Iterable<Object> toList(JsonReader reader) throws IOException {
+                final List<Object> items = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    items.add(itemAdapter.read(reader));
+                }
+                reader.endArray();
+                return items;
             }
-            return items;
-        }
 
-        private PaginatedResult<Object> buildPaginatedResult(Iterable<Object> items, JsonElement nextTokenElement) {
-            GraphQLRequest<PaginatedResult<Object>> requestForNextPage = null;
-            if (nextTokenElement.isJsonPrimitive()) {
-                String nextToken = nextTokenElement.getAsJsonPrimitive().getAsString();
-                try {
-                    if (request instanceof AppSyncGraphQLRequest) {
-                        requestForNextPage = ((AppSyncGraphQLRequest<R>) request).newBuilder()
-                                .variable(NEXT_TOKEN_KEY, "String", nextToken)
-                                .build();
+            private PaginatedResult<Object> buildPaginatedResult(Iterable<Object> items, String nextToken) {
+                GraphQLRequest<PaginatedResult<Object>> requestForNextPage = null;
+                if (nextToken != null) {
+                    GraphQLRequest<?> request = currentRequest.get();
+                    try {
+                        if (request instanceof AppSyncGraphQLRequest) {
+                            requestForNextPage = ((AppSyncGraphQLRequest<?>) request).newBuilder()
+                                    .variable(NEXT_TOKEN_KEY, "String", nextToken)
+                                    .build();
+                        }
+                    } catch (AmplifyException exception) {
+                        throw new JsonParseException(
+                            "Failed to create requestForNextPage with nextToken variable",
+                            exception
+                        );
                     }
-                } catch (AmplifyException exception) {
-                    throw new JsonParseException(
-                        "Failed to create requestForNextPage with nextToken variable",
-                        exception
-                    );
                 }
+                return new PaginatedResult<>(items, requestForNextPage);
             }
-            return new PaginatedResult<>(items, requestForNextPage);
         }
     }
 }
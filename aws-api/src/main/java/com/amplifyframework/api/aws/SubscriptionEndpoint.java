@@ -18,6 +18,7 @@ package com.amplifyframework.api.aws;
 import android.net.Uri;
 import android.util.Base64;
 import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
 import androidx.core.util.ObjectsCompat;
 
 import com.amplifyframework.AmplifyException;
@@ -44,6 +45,9 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -61,6 +65,10 @@ final class SubscriptionEndpoint {
     private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-api");
     private static final int CONNECTION_ACKNOWLEDGEMENT_TIMEOUT = 30 /* seconds */;
     private static final int NORMAL_CLOSURE_STATUS = 1000;
+    @VisibleForTesting
+    static final int MAX_RECONNECTION_ATTEMPTS = 6;
+    private static final long INITIAL_RECONNECTION_DELAY_MS = TimeUnit.SECONDS.toMillis(1);
+    private static final long MAX_RECONNECTION_DELAY_MS = TimeUnit.SECONDS.toMillis(30);
 
     private final ApiConfiguration apiConfiguration;
     private final SubscriptionAuthorizer authorizer;
@@ -69,27 +77,69 @@ final class SubscriptionEndpoint {
     private final TimeoutWatchdog timeoutWatchdog;
     private final Set<String> pendingSubscriptionIds;
     private final OkHttpClient okHttpClient;
+    private final ScheduledExecutorService scheduler;
+    private final long subscriptionAcknowledgementTimeoutMs;
+    private final long initialReconnectionDelayMs;
     private WebSocket webSocket;
     private AmplifyWebSocketListener webSocketListener;
+    private int reconnectionAttempts;
 
     SubscriptionEndpoint(
             @NonNull ApiConfiguration apiConfiguration,
             @NonNull GraphQLResponse.Factory responseFactory,
             @NonNull SubscriptionAuthorizer authorizer
     ) throws ApiException {
+        this(apiConfiguration, responseFactory, authorizer,
+            new OkHttpClient.Builder()
+                .addNetworkInterceptor(UserAgentInterceptor.using(UserAgent::string))
+                .retryOnConnectionFailure(true)
+                .build(),
+            TimeUnit.SECONDS.toMillis(Subscription.ACKNOWLEDGEMENT_TIMEOUT),
+            INITIAL_RECONNECTION_DELAY_MS
+        );
+    }
+
+    /*
+     * Creates an endpoint which connects with the given client, and waits the given times
+     * for subscriptions to be acknowledged, and before it first tries to reconnect.
+     */
+    @VisibleForTesting
+    SubscriptionEndpoint(
+            @NonNull ApiConfiguration apiConfiguration,
+            @NonNull GraphQLResponse.Factory responseFactory,
+            @NonNull SubscriptionAuthorizer authorizer,
+            @NonNull OkHttpClient okHttpClient,
+            long subscriptionAcknowledgementTimeoutMs,
+            long initialReconnectionDelayMs
+    ) {
         this.apiConfiguration = Objects.requireNonNull(apiConfiguration);
         this.subscriptions = new ConcurrentHashMap<>();
         this.responseFactory = Objects.requireNonNull(responseFactory);
         this.authorizer = Objects.requireNonNull(authorizer);
         this.timeoutWatchdog = new TimeoutWatchdog();
         this.pendingSubscriptionIds = Collections.synchronizedSet(new HashSet<>());
-        this.okHttpClient = new OkHttpClient.Builder()
-            .addNetworkInterceptor(UserAgentInterceptor.using(UserAgent::string))
-            .retryOnConnectionFailure(true)
-            .build();
+        this.okHttpClient = Objects.requireNonNull(okHttpClient);
+        this.subscriptionAcknowledgementTimeoutMs = subscriptionAcknowledgementTimeoutMs;
+        this.initialReconnectionDelayMs = initialReconnectionDelayMs;
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        // Let the thread go when no subscriptions are waiting for acknowledgement,
+        // and no connection is waiting to be re-established.
+        scheduler.setKeepAliveTime(CONNECTION_ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        this.scheduler = scheduler;
+        this.reconnectionAttempts = 0;
     }
 
-    synchronized <T> void requestSubscription(
+    /*
+     * Requests a subscription. Many subscriptions can be requested at once, from different threads.
+     * The endpoint's lock is only held while the shared connection is looked up, or created. A start
+     * message is sent for each subscription as soon as the connection is ready, without waiting for
+     * the acknowledgement of any other subscription. Each subscription is started, or fails, on its own,
+     * when its start_ack (or error) is received, or when it times out.
+     * Returns the ID of the requested subscription, which may still be pending, or null if
+     * the subscription could not be requested.
+     */
+    <T> String requestSubscription(
             @NonNull GraphQLRequest<T> request,
             @NonNull Consumer<String> onSubscriptionStarted,
             @NonNull Consumer<GraphQLResponse<T>> onNextItem,
@@ -101,105 +151,283 @@ final class SubscriptionEndpoint {
         Objects.requireNonNull(onSubscriptionError);
         Objects.requireNonNull(onSubscriptionComplete);
 
-        // The first call to subscribe OR a disconnected websocket listener will
-        // force a new connection to be created.
-        if (webSocketListener == null || webSocketListener.isDisconnectedState()) {
-            webSocketListener = new AmplifyWebSocketListener();
-            try {
-                webSocket = okHttpClient.newWebSocket(new Request.Builder()
-                    .url(buildConnectionRequestUrl())
-                    .addHeader("Sec-WebSocket-Protocol", "graphql-ws")
-                    .build(), webSocketListener);
-            } catch (ApiException apiException) {
-                onSubscriptionError.accept(apiException);
-                return;
+        final String subscriptionId = UUID.randomUUID().toString();
+        final AmplifyWebSocketListener listener;
+        final WebSocket socket;
+        synchronized (this) {
+            // The first call to subscribe OR a disconnected websocket listener will
+            // force a new connection to be created. A connection that is still being
+            // established is shared, rather than replaced.
+            if (webSocketListener == null || webSocketListener.isDisconnectedState()) {
+                try {
+                    openConnection();
+                } catch (ApiException apiException) {
+                    onSubscriptionError.accept(apiException);
+                    return null;
+                }
             }
-
+            listener = webSocketListener;
+            socket = webSocket;
+            pendingSubscriptionIds.add(subscriptionId);
         }
-        final String subscriptionId = UUID.randomUUID().toString();
-        pendingSubscriptionIds.add(subscriptionId);
-        // Every request waits here for the connection to be ready.
-        Connection connection = webSocketListener.waitForConnectionReady();
+
+        // Every request waits here for the connection to be ready. Requests wait side by side,
+        // not one after another, since the lock is not held.
+        Connection connection = listener.waitForConnectionReady();
         if (connection.hasFailure()) {
+            // Don't leave behind a connection which was never acknowledged.
+            socket.cancel();
             // If the latch didn't count all the way down
             if (pendingSubscriptionIds.remove(subscriptionId)) {
                 // The subscription was pending, so we need to emit an error.
                 onSubscriptionError.accept(
                     new ApiException(connection.getFailureReason(), AmplifyException.TODO_RECOVERY_SUGGESTION));
-                return;
             }
+            return null;
+        }
+
+        // The subscription is known before its start message is sent, so that
+        // its acknowledgement can't arrive before it.
+        Subscription<T> subscription = new Subscription<>(
+            onSubscriptionStarted, onNextItem, onSubscriptionError, onSubscriptionComplete,
+            responseFactory, request.getResponseType(), request, listener
+        );
+        subscriptions.put(subscriptionId, subscription);
+        if (!pendingSubscriptionIds.contains(subscriptionId)) {
+            // It was released while waiting for the connection.
+            subscriptions.remove(subscriptionId);
+            return null;
         }
+        return sendStartMessage(socket, subscriptionId, subscription) ? subscriptionId : null;
+    }
+
+    /*
+     * Sends the start message of a pending subscription, and waits for its acknowledgement.
+     * Returns false if the message could not be constructed, in which case the subscription
+     * has been told so, and is no longer known.
+     */
+    private boolean sendStartMessage(WebSocket socket, String subscriptionId, Subscription<?> subscription) {
+        subscription.cancelAcknowledgementTimeout();
+        subscription.startAcknowledgementTimeout(scheduler, subscriptionAcknowledgementTimeoutMs, () -> {
+            if (pendingSubscriptionIds.remove(subscriptionId)) {
+                subscriptions.remove(subscriptionId);
+                subscription.dispatchError(new ApiException(
+                    "Timed out waiting for subscription start_ack.",
+                    "Check your Internet connection. Is your device online?"
+                ));
+            }
+        });
 
         try {
-            webSocket.send(new JSONObject()
+            socket.send(new JSONObject()
                 .put("id", subscriptionId)
                 .put("type", "start")
                 .put("payload", new JSONObject()
-                .put("data", request.getContent())
+                .put("data", subscription.getRequest().getContent())
                 .put("extensions", new JSONObject()
-                .put("authorization", authorizer.createHeadersForSubscription(request))))
+                .put("authorization", authorizer.createHeadersForSubscription(subscription.getRequest()))))
                 .toString()
             );
         } catch (JSONException | ApiException exception) {
             // If the subscriptionId was still pending, then we can call the onSubscriptionError
             if (pendingSubscriptionIds.remove(subscriptionId)) {
-                onSubscriptionError.accept(new ApiException(
+                subscriptions.remove(subscriptionId);
+                subscription.cancelAcknowledgementTimeout();
+                subscription.dispatchError(new ApiException(
                     "Failed to construct subscription registration message.",
                     exception,
                     AmplifyException.TODO_RECOVERY_SUGGESTION
                 ));
             }
+            return false;
+        }
+        return true;
+    }
 
+    /*
+     * Opens a new connection, which becomes the one that subscriptions are requested over.
+     * The caller must hold the endpoint's lock.
+     */
+    private void openConnection() throws ApiException {
+        final AmplifyWebSocketListener listener = new AmplifyWebSocketListener();
+        // Before the socket is created, so that its failure can't be overwritten.
+        listener.endpointStatus.set(EndpointStatus.CONNECTING);
+        webSocket = okHttpClient.newWebSocket(new Request.Builder()
+            .url(buildConnectionRequestUrl())
+            .addHeader("Sec-WebSocket-Protocol", "graphql-ws")
+            .build(), listener);
+        webSocketListener = listener;
+    }
+
+    /*
+     * Called when a connection is lost without having been closed by the endpoint. If any
+     * subscriptions were active over it, a new connection is opened after a delay, which grows
+     * with each attempt that fails in a row. Those subscriptions are started again, with the
+     * same IDs, once the new connection is acknowledged. If they can't be, they fail (or are
+     * completed, if the connection was closed by the service), as they would have without
+     * reconnecting. The failure is null if the service closed the connection.
+     */
+    private void onConnectionLost(AmplifyWebSocketListener listener, Throwable failure) {
+        synchronized (this) {
+            if (listener != webSocketListener || listener.isLost) {
+                // It was closed because it was no longer needed, or it has already been handled.
+                return;
+            }
+            listener.isLost = true;
+            timeoutWatchdog.stop();
+        }
+        // Subscriptions that were waiting to be acknowledged over the lost connection are
+        // started again with the others, rather than timing out.
+        for (Subscription<?> subscription : subscriptions.values()) {
+            if (subscription.getConnection() == listener) {
+                subscription.cancelAcknowledgementTimeout();
+            }
+        }
+        scheduleReconnection(listener, failure);
+    }
+
+    private void scheduleReconnection(AmplifyWebSocketListener lostListener, Throwable failure) {
+        final long reconnectionDelayMs;
+        synchronized (this) {
+            if (lostListener != webSocketListener) {
+                return;
+            }
+            if (hasConnectedSubscriptions() && reconnectionAttempts < MAX_RECONNECTION_ATTEMPTS) {
+                reconnectionDelayMs =
+                    Math.min(initialReconnectionDelayMs << reconnectionAttempts, MAX_RECONNECTION_DELAY_MS);
+                reconnectionAttempts++;
+            } else {
+                reconnectionDelayMs = -1;
+                reconnectionAttempts = 0;
+                webSocket = null;
+                webSocketListener = null;
+            }
+        }
+
+        if (reconnectionDelayMs < 0) {
+            disconnectSubscriptions(failure);
             return;
         }
+        LOG.warn("Websocket connection lost. Reconnecting in " + reconnectionDelayMs + " ms.", failure);
+        scheduler.schedule(() -> reconnect(lostListener), reconnectionDelayMs, TimeUnit.MILLISECONDS);
+    }
 
-        Subscription<T> subscription = new Subscription<>(
-            onNextItem, onSubscriptionError, onSubscriptionComplete,
-            responseFactory, request.getResponseType(), request
-        );
-        subscriptions.put(subscriptionId, subscription);
-        if (subscription.awaitSubscriptionReady()) {
-            pendingSubscriptionIds.remove(subscriptionId);
-            onSubscriptionStarted.accept(subscriptionId);
+    private void reconnect(AmplifyWebSocketListener lostListener) {
+        final AmplifyWebSocketListener listener;
+        final WebSocket socket;
+        ApiException reconnectionFailure = null;
+        synchronized (this) {
+            if (lostListener != webSocketListener) {
+                // All subscriptions were released, or a new connection was opened by a new subscription.
+                // Either way, the subscriptions are started over the new connection once it is acknowledged.
+                return;
+            }
+            try {
+                openConnection();
+            } catch (ApiException exception) {
+                reconnectionFailure = exception;
+            }
+            listener = webSocketListener;
+            socket = webSocket;
+        }
+        if (reconnectionFailure != null) {
+            scheduleReconnection(lostListener, reconnectionFailure);
+            return;
         }
+        // If the connection is opened, but never acknowledged, give up on it, so that it counts as lost.
+        scheduler.schedule(() -> {
+            if (!listener.isConnectedState()) {
+                socket.cancel();
+            }
+        }, CONNECTION_ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /*
+     * Starts each subscription that was started over a connection which has since been lost,
+     * over this newly acknowledged one. Each is told that it has started again, with the same ID,
+     * once its start_ack is received. Any data published while it was not connected is not
+     * received, so it is up to the subscriber to catch up on it.
+     */
+    private void resubscribe(AmplifyWebSocketListener listener, WebSocket socket) {
+        synchronized (this) {
+            if (listener == webSocketListener) {
+                reconnectionAttempts = 0;
+            }
+        }
+        for (Map.Entry<String, Subscription<?>> entry : subscriptions.entrySet()) {
+            final String subscriptionId = entry.getKey();
+            final Subscription<?> subscription = entry.getValue();
+            final AmplifyWebSocketListener lostListener = subscription.getConnection();
+            // A subscription that was released, or that could not be kept, has no connection.
+            if (lostListener == null || lostListener == listener ||
+                    !subscription.moveConnection(lostListener, listener)) {
+                continue;
+            }
+            LOG.info("Resubscribing after reconnection: " + subscriptionId);
+            pendingSubscriptionIds.add(subscriptionId);
+            sendStartMessage(socket, subscriptionId, subscription);
+        }
+    }
+
+    private boolean hasConnectedSubscriptions() {
+        for (Subscription<?> subscription : subscriptions.values()) {
+            if (subscription.getConnection() != null) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private void notifySubscriptionAcknowledged(final String subscriptionId) throws ApiException {
+    /*
+     * Tells every subscription that is still connected that it has failed, or, if the service
+     * closed its connection, that it has completed. They are no longer started again, if the
+     * endpoint reconnects for some other subscription.
+     */
+    private void disconnectSubscriptions(Throwable failure) {
+        for (Map.Entry<String, Subscription<?>> entry : subscriptions.entrySet()) {
+            final Subscription<?> subscription = entry.getValue();
+            if (subscription.releaseConnection() == null) {
+                continue;
+            }
+            if (pendingSubscriptionIds.remove(entry.getKey())) {
+                subscription.cancelAcknowledgementTimeout();
+            }
+            if (failure == null) {
+                subscription.dispatchCompleted();
+            } else {
+                subscription.dispatchError(new ApiException(
+                    "Subscription failed.", failure,
+                    "Check your Internet connection. Is your device online?"
+                ));
+            }
+        }
+    }
+
+    private void notifySubscriptionAcknowledged(final String subscriptionId) {
         Subscription<?> subscription = subscriptions.get(subscriptionId);
-        // If the subscription is still present (and it should also be pending if it hasn't been canceled),
-        // then invoke the callback
+        // If the subscription is still present and pending (it isn't, if it has been released,
+        // or has timed out), then invoke the callback
         if (subscription != null && pendingSubscriptionIds.remove(subscriptionId)) {
-            subscription.acknowledgeSubscriptionReady();
+            subscription.acknowledgeSubscriptionReady(subscriptionId);
         } else {
-            throw new ApiException(
-                "Acknowledgement for unknown subscription: " + subscriptionId,
-                AmplifyException.TODO_RECOVERY_SUGGESTION
-            );
+            LOG.debug("Ignoring acknowledgement for subscription which is no longer pending: " + subscriptionId);
         }
     }
 
     private void notifySubscriptionFailure(final String subscriptionId) {
         Subscription<?> subscription = subscriptions.get(subscriptionId);
         if (subscription != null && pendingSubscriptionIds.remove(subscriptionId)) {
-            subscription.acknowledgeSubscriptionFailure();
+            // The error itself is dispatched as the subscription's data.
+            subscription.cancelAcknowledgementTimeout();
         }
     }
 
-    private void notifyAllSubscriptionsCompleted() {
-        // TODO: if the connection closes, but our subscription didn't ask for that,
-        //  is that a failure, from its standpoint? Or not?
-        for (Subscription<?> dispatcher : new HashSet<>(subscriptions.values())) {
-            dispatcher.dispatchCompleted();
-        }
-    }
-
-    private void notifySubscriptionCompleted(String subscriptionId) throws ApiException {
+    private void notifySubscriptionCompleted(String subscriptionId) {
         final Subscription<?> dispatcher = subscriptions.get(subscriptionId);
         if (dispatcher == null) {
-            throw new ApiException(
-                "Got subscription completion for unknown subscription:" + subscriptionId,
-                AmplifyException.TODO_RECOVERY_SUGGESTION
-            );
+            // It was released, or timed out, before the service completed it.
+            LOG.debug("Ignoring completion of subscription which is no longer active: " + subscriptionId);
+            return;
         }
 
         dispatcher.dispatchCompleted();
@@ -215,21 +443,22 @@ final class SubscriptionEndpoint {
         }
     }
 
-    private void notifySubscriptionData(String subscriptionId, String data) throws ApiException {
+    private void notifySubscriptionData(String subscriptionId, String data) {
         final Subscription<?> dispatcher = subscriptions.get(subscriptionId);
         if (dispatcher == null) {
-            throw new ApiException(
-                "Got subscription data for unknown subscription ID: " + subscriptionId,
-                AmplifyException.TODO_RECOVERY_SUGGESTION
-            );
+            // It was released, or timed out, while the data was on its way.
+            LOG.debug("Ignoring data for subscription which is no longer active: " + subscriptionId);
+            return;
         }
         dispatcher.dispatchNextMessage(data);
     }
 
-    synchronized void releaseSubscription(String subscriptionId) throws ApiException {
+    void releaseSubscription(String subscriptionId) throws ApiException {
         // First thing we should do is remove it from the pending subscription collection so
         // the other methods can't grab a hold of the subscription.
         final Subscription<?> subscription = subscriptions.get(subscriptionId);
+        // Release its connection, so that it isn't started again over a new one, if that one is lost.
+        final AmplifyWebSocketListener connection = subscription != null ? subscription.releaseConnection() : null;
         boolean wasSubscriptionPending = pendingSubscriptionIds.remove(subscriptionId);
         // If the subscription was not in the either of the subscriptions collections.
         if (subscription == null && !wasSubscriptionPending) {
@@ -239,11 +468,19 @@ final class SubscriptionEndpoint {
             );
         }
 
+        // A subscription can only be stopped over the connection it was started over, while it lasts.
+        final WebSocket socket;
+        synchronized (this) {
+            boolean isConnected = connection != null && connection == webSocketListener &&
+                !connection.isDisconnectedState();
+            socket = isConnected ? webSocket : null;
+        }
+
         // Only do this if the subscription was NOT pending.
         // Otherwise it would probably fail since it was never established in the first place.
-        if (!wasSubscriptionPending) {
+        if (!wasSubscriptionPending && socket != null) {
             try {
-                webSocket.send(new JSONObject()
+                socket.send(new JSONObject()
                     .put("type", "stop")
                     .put("id", subscriptionId)
                     .toString());
@@ -254,13 +491,22 @@ final class SubscriptionEndpoint {
                     AmplifyException.TODO_RECOVERY_SUGGESTION
                 );
             }
+            // Other subscriptions may be requested, and released, while this one is completing.
             subscription.awaitSubscriptionCompleted();
+        } else if (subscription != null) {
+            subscription.cancelAcknowledgementTimeout();
         }
+        subscriptions.remove(subscriptionId);
 
         // If we have zero subscriptions, close the WebSocket
-        if (subscriptions.size() == 0) {
-            timeoutWatchdog.stop();
-            webSocket.close(NORMAL_CLOSURE_STATUS, "No active subscriptions");
+        synchronized (this) {
+            if (subscriptions.isEmpty() && pendingSubscriptionIds.isEmpty() && webSocket != null) {
+                timeoutWatchdog.stop();
+                webSocket.close(NORMAL_CLOSURE_STATUS, "No active subscriptions");
+                // The next subscription will open a new connection, rather than use this closing one.
+                webSocket = null;
+                webSocketListener = null;
+            }
         }
     }
 
@@ -302,64 +548,72 @@ final class SubscriptionEndpoint {
     static final class Subscription<T> {
         private static final int ACKNOWLEDGEMENT_TIMEOUT = 10 /* seconds */;
 
+        private final Consumer<String> onSubscriptionStarted;
         private final Consumer<GraphQLResponse<T>> onNextItem;
         private final Consumer<ApiException> onSubscriptionError;
         private final Action onSubscriptionComplete;
         private final GraphQLResponse.Factory responseFactory;
         private final Type responseType;
         private final GraphQLRequest<T> request;
-        private final CountDownLatch subscriptionReadyAcknowledgment;
         private final CountDownLatch subscriptionCompletionAcknowledgement;
-        private boolean failed;
+        private final AtomicReference<AmplifyWebSocketListener> connection;
+        private ScheduledFuture<?> acknowledgementTimeout;
 
+        @SuppressWarnings("ParameterNumber")
         Subscription(
+                Consumer<String> onSubscriptionStarted,
                 Consumer<GraphQLResponse<T>> onNextItem,
                 Consumer<ApiException> onSubscriptionError,
                 Action onSubscriptionComplete,
                 GraphQLResponse.Factory responseFactory,
                 Type responseType,
-                GraphQLRequest<T> request) {
+                GraphQLRequest<T> request,
+                AmplifyWebSocketListener connection) {
+            this.onSubscriptionStarted = onSubscriptionStarted;
             this.onNextItem = onNextItem;
             this.onSubscriptionError = onSubscriptionError;
             this.onSubscriptionComplete = onSubscriptionComplete;
             this.responseFactory = responseFactory;
             this.responseType = responseType;
             this.request = request;
-            this.subscriptionReadyAcknowledgment = new CountDownLatch(1);
             this.subscriptionCompletionAcknowledgement = new CountDownLatch(1);
-            this.failed = false;
+            this.connection = new AtomicReference<>(connection);
+            this.acknowledgementTimeout = null;
         }
 
-        void acknowledgeSubscriptionReady() {
-            subscriptionReadyAcknowledgment.countDown();
+        GraphQLRequest<T> getRequest() {
+            return request;
         }
 
-        void acknowledgeSubscriptionFailure() {
-            failed = true;
-            subscriptionReadyAcknowledgment.countDown();
+        // The connection the subscription was last started over, or null
+        // if it has been released, or could not be kept.
+        AmplifyWebSocketListener getConnection() {
+            return connection.get();
         }
 
-        boolean awaitSubscriptionReady() {
-            try {
-                if (!subscriptionReadyAcknowledgment.await(ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS)) {
-                    dispatchError(new ApiException(
-                        "Timed out waiting for subscription start_ack.",
-                        "Check your Internet connection. Is your device online?"
-                    ));
-                    return false;
-                } else if (failed) {
-                    // An error was already dispatched at the time of failure, so don't dispatch a second one.
-                    return false;
-                }
-            } catch (InterruptedException interruptedException) {
-                // Triggered when the Future created in SubscriptionOperation is cancelled, which happens when the
-                // subscription Observable is disposed, which happens when a SUBSCRIPTION_ERROR occurs.  Don't dispatch
-                // any error because the caller has likely already been disposed.
-                LOG.warn("Thread interrupted awaiting subscription acknowledgement.", interruptedException);
-                return false;
+        boolean moveConnection(AmplifyWebSocketListener lostConnection, AmplifyWebSocketListener newConnection) {
+            return connection.compareAndSet(lostConnection, newConnection);
+        }
+
+        AmplifyWebSocketListener releaseConnection() {
+            return connection.getAndSet(null);
+        }
+
+        synchronized void startAcknowledgementTimeout(
+                ScheduledExecutorService scheduler, long timeoutMs, Runnable onTimeout) {
+            acknowledgementTimeout = scheduler.schedule(onTimeout, timeoutMs, TimeUnit.MILLISECONDS);
+        }
+
+        synchronized void cancelAcknowledgementTimeout() {
+            if (acknowledgementTimeout != null) {
+                acknowledgementTimeout.cancel(false);
+                acknowledgementTimeout = null;
             }
+        }
 
-            return true;
+        void acknowledgeSubscriptionReady(String subscriptionId) {
+            cancelAcknowledgementTimeout();
+            onSubscriptionStarted.accept(subscriptionId);
         }
 
         void acknowledgeSubscriptionCompleted() {
@@ -425,7 +679,7 @@ final class SubscriptionEndpoint {
             if (!ObjectsCompat.equals(responseType, that.responseType)) {
                 return false;
             }
-            if (!ObjectsCompat.equals(subscriptionReadyAcknowledgment, that.subscriptionReadyAcknowledgment)) {
+            if (!ObjectsCompat.equals(onSubscriptionStarted, that.onSubscriptionStarted)) {
                 return false;
             }
             return ObjectsCompat.equals(
@@ -441,7 +695,7 @@ final class SubscriptionEndpoint {
             result = 31 * result + onSubscriptionComplete.hashCode();
             result = 31 * result + responseFactory.hashCode();
             result = 31 * result + responseType.hashCode();
-            result = 31 * result + subscriptionReadyAcknowledgment.hashCode();
+            result = 31 * result + onSubscriptionStarted.hashCode();
             result = 31 * result + subscriptionCompletionAcknowledgement.hashCode();
             return result;
         }
@@ -451,6 +705,8 @@ final class SubscriptionEndpoint {
         private final CountDownLatch connectionResponse;
         private final AtomicReference<EndpointStatus> endpointStatus;
         private OkHttpClient okHttpClient;
+        // Guarded by the endpoint's lock, so that a connection is only handled as lost once.
+        private boolean isLost;
 
         AmplifyWebSocketListener() {
             this(new CountDownLatch(1));
@@ -477,7 +733,10 @@ final class SubscriptionEndpoint {
 
         @Override
         public void onClosing(@NonNull WebSocket webSocket, int code, @NonNull String reason) {
-            notifyAllSubscriptionsCompleted();
+            endpointStatus.set(EndpointStatus.DISCONNECTED);
+            connectionResponse.countDown();
+            // Unless the endpoint closed it, the subscriptions over it are started again over a new one.
+            onConnectionLost(this, null);
         }
 
         @Override
@@ -487,8 +746,9 @@ final class SubscriptionEndpoint {
             webSocket.cancel();
             // This will free up any pending subscriptions that haven't been established yet.
             connectionResponse.countDown();
-            // This will broadcast the error to all subscriptions
-            notifyError(failure);
+            // This will reconnect the subscriptions over a new connection, or, failing that,
+            // broadcast the error to all of them.
+            onConnectionLost(this, failure);
         }
 
         @Override
@@ -501,9 +761,15 @@ final class SubscriptionEndpoint {
             return endpointStatus.get().isDisconnectedState();
         }
 
+        boolean isConnectedState() {
+            return EndpointStatus.CONNECTED.equals(endpointStatus.get());
+        }
+
         public Connection waitForConnectionReady() {
             try {
                 if (!connectionResponse.await(CONNECTION_ACKNOWLEDGEMENT_TIMEOUT, TimeUnit.SECONDS)) {
+                    // So that the next subscription opens a new connection, instead of waiting on this one.
+                    endpointStatus.compareAndSet(EndpointStatus.CONNECTING, EndpointStatus.CONNECTION_FAILED);
                     LOG.warn("Timed out waiting for connection acknowledgement.");
                     return new Connection("Timed out waiting for connection acknowledgement.");
                 }
@@ -512,6 +778,9 @@ final class SubscriptionEndpoint {
                 return new Connection("Thread interrupted waiting for connection acknowledgement");
             }
             LOG.debug("Current endpoint status: " + endpointStatus.get());
+            if (!EndpointStatus.CONNECTED.equals(endpointStatus.get())) {
+                return new Connection("Websocket connection failed before it was acknowledged.");
+            }
             return new Connection();
         }
 
@@ -543,6 +812,8 @@ final class SubscriptionEndpoint {
                         );
                         endpointStatus.set(EndpointStatus.CONNECTED);
                         connectionResponse.countDown();
+                        // Not on the listener's thread, since authorizing each subscription may take a while.
+                        scheduler.execute(() -> resubscribe(this, webSocket));
                         break;
                     case CONNECTION_ERROR:
                         endpointStatus.set(EndpointStatus.CONNECTION_FAILED);
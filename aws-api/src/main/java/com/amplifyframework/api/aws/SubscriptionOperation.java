@@ -80,7 +80,8 @@ final class SubscriptionOperation<T> extends GraphQLOperation<T> {
         }
         subscriptionFuture = executorService.submit(() -> {
             LOG.debug("Requesting subscription: " + getRequest().getContent());
-            subscriptionEndpoint.requestSubscription(
+            // The subscription may still be waiting for its acknowledgement when this returns.
+            String requestedSubscriptionId = subscriptionEndpoint.requestSubscription(
                 getRequest(),
                 subscriptionId -> {
                     SubscriptionOperation.this.subscriptionId = subscriptionId;
@@ -96,9 +97,26 @@ final class SubscriptionOperation<T> extends GraphQLOperation<T> {
                 },
                 onSubscriptionComplete
             );
+            if (requestedSubscriptionId != null) {
+                onSubscriptionRequested(requestedSubscriptionId);
+            }
         });
     }
 
+    // Remembers a requested subscription, so that it can be released by cancel(), even before
+    // it is acknowledged. If the operation was canceled while requesting it, it is released now.
+    private synchronized void onSubscriptionRequested(String requestedSubscriptionId) {
+        if (canceled.get()) {
+            try {
+                subscriptionEndpoint.releaseSubscription(requestedSubscriptionId);
+            } catch (ApiException exception) {
+                LOG.warn("Failed to release subscription requested after cancellation.", exception);
+            }
+        } else if (subscriptionId == null) {
+            subscriptionId = requestedSubscriptionId;
+        }
+    }
+
     @Override
     public synchronized void cancel() {
         if (subscriptionId != null && !canceled.get()) {
@@ -109,6 +127,7 @@ final class SubscriptionOperation<T> extends GraphQLOperation<T> {
                 onSubscriptionError.accept(exception);
             }
         } else if (subscriptionFuture != null && subscriptionFuture.cancel(true)) {
+            canceled.set(true);
             LOG.debug("Subscription attempt was canceled.");
         } else {
             LOG.debug("Nothing to cancel. Subscription not yet created.");
@@ -37,6 +37,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -49,6 +50,7 @@ import java.util.concurrent.TimeUnit;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 /**
  * Unit test for implementation of ResponseFactory.
@@ -227,6 +229,71 @@ public final class GsonGraphQLResponseFactoryTest {
         assertEquals(expectedResponse, response);
     }
 
+    /**
+     * The factory is re-used for many responses. The request for the next page of each
+     * response is built from the request that the response was for.
+     * @throws AmplifyException From API configuration
+     */
+    @Test
+    public void requestForNextPageComesFromRespondedRequest() throws AmplifyException {
+        String nextToken = "eyJ2ZXJzaW9uIjoyLCJ0b2tlbiI6IkFRSUNBSGg5OUIvN3BjWU41eE96NDZJMW5GeGM4";
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        final String responseJson = Resources.readAsString("partial-gql-response.json");
+
+        AppSyncGraphQLRequest<PaginatedResult<Todo>> firstRequest = buildDummyRequest(responseType);
+        firstRequest = firstRequest.newBuilder().variable("limit", "Int", 10).build();
+        AppSyncGraphQLRequest<PaginatedResult<Todo>> secondRequest = buildDummyRequest(responseType);
+        secondRequest = secondRequest.newBuilder().variable("limit", "Int", 20).build();
+
+        GraphQLResponse<PaginatedResult<Todo>> firstResponse =
+            responseFactory.buildResponse(firstRequest, responseJson, responseType);
+        GraphQLResponse<PaginatedResult<Todo>> secondResponse =
+            responseFactory.buildResponse(secondRequest, responseJson, responseType);
+
+        assertEquals(
+            firstRequest.newBuilder().variable("nextToken", "String", nextToken).build(),
+            firstResponse.getData().getRequestForNextResult()
+        );
+        assertEquals(
+            secondRequest.newBuilder().variable("nextToken", "String", nextToken).build(),
+            secondResponse.getData().getRequestForNextResult()
+        );
+    }
+
+    /**
+     * A response can be decoded as it is read from a stream. It is then the same as a
+     * response decoded from a string of the same JSON.
+     * @throws ApiException From API configuration
+     */
+    @Test
+    public void responseCanBeReadFromStream() throws ApiException {
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+        final String responseJson = Resources.readAsString("partial-gql-response.json");
+
+        GraphQLResponse<PaginatedResult<Todo>> streamedResponse =
+            responseFactory.buildResponse(request, new StringReader(responseJson), responseType);
+
+        assertEquals(responseFactory.buildResponse(request, responseJson, responseType), streamedResponse);
+        assertEquals(3, streamedResponse.getErrors().size());
+    }
+
+    /**
+     * An empty response, or one which is just a JSON null, is built into a null response,
+     * whether it is read from a string, or from a stream.
+     * @throws ApiException From API configuration
+     */
+    @Test
+    public void emptyOrNullResponseBuildsNullResponse() throws ApiException {
+        Type responseType = TypeMaker.getParameterizedType(PaginatedResult.class, Todo.class);
+        GraphQLRequest<PaginatedResult<Todo>> request = buildDummyRequest(responseType);
+
+        for (String responseJson : Arrays.asList("", "  ", "null")) {
+            assertNull(responseFactory.buildResponse(request, responseJson, responseType));
+            assertNull(responseFactory.buildResponse(request, new StringReader(responseJson), responseType));
+        }
+    }
+
     /**
      * This tests the GsonErrorDeserializer.  The test JSON response has 4 errors, which are all in
      * different formats, but are expected to be parsed into the same resulting object:
@@ -0,0 +1,570 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.api.aws;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.api.ApiException;
+import com.amplifyframework.api.graphql.SimpleGraphQLRequest;
+import com.amplifyframework.testutils.Sleep;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.QueueDispatcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SubscriptionEndpoint}, against a fake AppSync real-time endpoint
+ * which is served by a {@link MockWebServer}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class SubscriptionEndpointTest {
+    private static final long ACKNOWLEDGEMENT_TIMEOUT_MS = 500;
+    private static final long RECONNECTION_DELAY_MS = 10;
+    // Long enough to request a subscription while a reconnection is scheduled.
+    private static final long SLOW_RECONNECTION_DELAY_MS = 1_000;
+    private static final int NORMAL_CLOSURE_STATUS = 1000;
+    private static final long EVENT_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
+    // How long to wait for something that should not happen.
+    private static final long QUIET_PERIOD_MS = 250;
+    private static final String UNACKNOWLEDGED_FIELD = "onUpdateTodo";
+    private static final String DOCUMENT = "subscription OnCreateTodo { onCreateTodo { id } }";
+    private static final String UNACKNOWLEDGED_DOCUMENT =
+        "subscription OnUpdateTodo { " + UNACKNOWLEDGED_FIELD + " { id } }";
+
+    private MockWebServer webServer;
+    private FakeRealtimeEndpoint realtimeEndpoint;
+    private ApiConfiguration apiConfiguration;
+    private OkHttpClient okHttpClient;
+    private SubscriptionEndpoint subscriptionEndpoint;
+    private ExecutorService executor;
+
+    /**
+     * Starts a web server which serves a fake real-time endpoint, and creates a subscription
+     * endpoint which connects to it.
+     * @throws IOException On failure to start the web server
+     */
+    @Before
+    public void setup() throws IOException {
+        webServer = new MockWebServer();
+        // Connections that a test didn't arrange for are refused, rather than left waiting.
+        QueueDispatcher dispatcher = new QueueDispatcher();
+        dispatcher.setFailFast(true);
+        webServer.setDispatcher(dispatcher);
+        webServer.start();
+        realtimeEndpoint = new FakeRealtimeEndpoint();
+
+        apiConfiguration = ApiConfiguration.builder()
+            .endpointType(EndpointType.GRAPHQL)
+            .endpoint("https://fake.appsync-api.us-east-1.amazonaws.com/graphql")
+            .region("us-east-1")
+            .authorizationType(AuthorizationType.NONE)
+            .build();
+        // The endpoint connects to the real-time host of the API, so send it to the web server instead.
+        okHttpClient = new OkHttpClient.Builder()
+            .addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+                .url(webServer.url("/graphql"))
+                .build()))
+            .build();
+        subscriptionEndpoint = createSubscriptionEndpoint(RECONNECTION_DELAY_MS);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Shuts down the web server, and the threads which requested subscriptions.
+     * @throws IOException On failure to shut down the web server
+     */
+    @After
+    public void cleanup() throws IOException {
+        executor.shutdownNow();
+        webServer.shutdown();
+    }
+
+    /**
+     * Many subscriptions can be requested at once. They share one connection, and each
+     * of them is started when its own start_ack is received.
+     * @throws Exception On failure to request subscriptions
+     */
+    @Test
+    public void concurrentSubscriptionsAreEachStartedByTheirOwnAcknowledgement() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        List<Subscriber> subscribers = new ArrayList<>();
+        List<Future<String>> subscriptionIds = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            Subscriber subscriber = new Subscriber();
+            subscribers.add(subscriber);
+            subscriptionIds.add(executor.submit(() -> subscriber.subscribe(DOCUMENT)));
+        }
+
+        Set<String> startedIds = new HashSet<>();
+        for (int index = 0; index < subscribers.size(); index++) {
+            String subscriptionId = subscriptionIds.get(index).get(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull(subscriptionId);
+            assertEquals(subscriptionId, subscribers.get(index).awaitStart());
+            subscribers.get(index).assertNoError();
+            startedIds.add(subscriptionId);
+        }
+        assertEquals(subscribers.size(), startedIds.size());
+        assertEquals(1, webServer.getRequestCount());
+    }
+
+    /**
+     * Subscriptions which are requested while the connection is still being established all
+     * wait for that connection, rather than each opening a connection of its own.
+     * @throws Exception On failure to request subscriptions
+     */
+    @Test
+    public void subscriptionsRequestedBeforeConnectionAcknowledgementShareConnection() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        realtimeEndpoint.holdConnectionAcknowledgements();
+        int subscriptionCount = 10;
+        CountDownLatch requested = new CountDownLatch(subscriptionCount);
+        List<Subscriber> subscribers = new ArrayList<>();
+        List<Future<String>> subscriptionIds = new ArrayList<>();
+        for (int index = 0; index < subscriptionCount; index++) {
+            Subscriber subscriber = new Subscriber();
+            subscribers.add(subscriber);
+            subscriptionIds.add(executor.submit(() -> {
+                requested.countDown();
+                return subscriber.subscribe(DOCUMENT);
+            }));
+        }
+        assertTrue(requested.await(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        // Give the last of the requests a moment to find the connection that is being established.
+        Sleep.milliseconds(QUIET_PERIOD_MS);
+
+        realtimeEndpoint.releaseConnectionAcknowledgement();
+
+        for (int index = 0; index < subscriptionCount; index++) {
+            String subscriptionId = subscriptionIds.get(index).get(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull(subscriptionId);
+            assertEquals(subscriptionId, subscribers.get(index).awaitStart());
+            subscribers.get(index).assertNoError();
+        }
+        assertEquals(1, webServer.getRequestCount());
+        assertTrue(realtimeEndpoint.heldConnections.isEmpty());
+    }
+
+    /**
+     * When the start_ack of a subscription never arrives, only that subscription times out.
+     * Other subscriptions over the same connection are started, and keep going.
+     * @throws Exception On failure to request subscriptions
+     */
+    @Test
+    public void unacknowledgedSubscriptionTimesOutAlone() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        Subscriber first = new Subscriber();
+        Subscriber unacknowledged = new Subscriber();
+        Subscriber last = new Subscriber();
+        Future<String> firstId = executor.submit(() -> first.subscribe(DOCUMENT));
+        Future<String> unacknowledgedId = executor.submit(() -> unacknowledged.subscribe(UNACKNOWLEDGED_DOCUMENT));
+        Future<String> lastId = executor.submit(() -> last.subscribe(DOCUMENT));
+
+        assertNotNull(unacknowledgedId.get(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertNotNull(unacknowledged.awaitError());
+        assertNull(unacknowledged.starts.poll());
+
+        assertEquals(firstId.get(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS), first.awaitStart());
+        assertEquals(lastId.get(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS), last.awaitStart());
+        first.assertNoError();
+        last.assertNoError();
+    }
+
+    /**
+     * A subscription can be released while it is still waiting for its start_ack. It is then
+     * neither started, nor timed out. Since it was the last subscription, the connection is closed.
+     * @throws Exception On failure to request, or release, the subscription
+     */
+    @Test
+    public void subscriptionReleasedWhilePendingIsNeitherStartedNorTimedOut() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        Subscriber subscriber = new Subscriber();
+        String subscriptionId = subscriber.subscribe(UNACKNOWLEDGED_DOCUMENT);
+        assertNotNull(subscriptionId);
+        assertEquals(subscriptionId, realtimeEndpoint.awaitStartMessage());
+
+        subscriptionEndpoint.releaseSubscription(subscriptionId);
+
+        // It wasn't started, so it isn't stopped, either.
+        assertNull(realtimeEndpoint.stopMessages.poll(ACKNOWLEDGEMENT_TIMEOUT_MS + QUIET_PERIOD_MS,
+            TimeUnit.MILLISECONDS));
+        assertNull(subscriber.starts.poll());
+        assertNull(subscriber.errors.poll());
+        assertEquals(NORMAL_CLOSURE_STATUS, realtimeEndpoint.awaitClose());
+    }
+
+    /**
+     * The connection is only closed when the last subscription over it is released.
+     * Each released subscription is stopped first, and completes.
+     * @throws Exception On failure to request, or release, subscriptions
+     */
+    @Test
+    public void connectionIsClosedWhenLastSubscriptionIsReleased() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        Subscriber first = new Subscriber();
+        Subscriber second = new Subscriber();
+        String firstId = first.subscribe(DOCUMENT);
+        String secondId = second.subscribe(DOCUMENT);
+        assertEquals(firstId, first.awaitStart());
+        assertEquals(secondId, second.awaitStart());
+
+        subscriptionEndpoint.releaseSubscription(firstId);
+        assertEquals(firstId, realtimeEndpoint.stopMessages.poll(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        first.awaitCompletion();
+        assertNull(realtimeEndpoint.closeCodes.poll(QUIET_PERIOD_MS, TimeUnit.MILLISECONDS));
+
+        subscriptionEndpoint.releaseSubscription(secondId);
+        assertEquals(secondId, realtimeEndpoint.stopMessages.poll(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        second.awaitCompletion();
+        assertEquals(NORMAL_CLOSURE_STATUS, realtimeEndpoint.awaitClose());
+        first.assertNoError();
+        second.assertNoError();
+    }
+
+    /**
+     * When the connection is dropped, it is re-established, and the subscriptions that were active
+     * over it are started again, with the same IDs. Each is told that it has started again.
+     * @throws Exception On failure to request subscriptions
+     */
+    @Test
+    public void droppedConnectionIsReestablishedWithSameSubscriptionIds() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        Subscriber first = new Subscriber();
+        Subscriber second = new Subscriber();
+        String firstId = first.subscribe(DOCUMENT);
+        String secondId = second.subscribe(DOCUMENT);
+        assertEquals(firstId, first.awaitStart());
+        assertEquals(secondId, second.awaitStart());
+        realtimeEndpoint.awaitStartMessage();
+        realtimeEndpoint.awaitStartMessage();
+
+        realtimeEndpoint.dropConnection();
+
+        assertEquals(firstId, first.awaitStart());
+        assertEquals(secondId, second.awaitStart());
+        Set<String> restartedIds = new HashSet<>();
+        restartedIds.add(realtimeEndpoint.awaitStartMessage());
+        restartedIds.add(realtimeEndpoint.awaitStartMessage());
+        assertEquals(new HashSet<>(Arrays.asList(firstId, secondId)), restartedIds);
+        assertEquals(2, webServer.getRequestCount());
+        first.assertNoError();
+        second.assertNoError();
+    }
+
+    /**
+     * When the connection can't be re-established, the endpoint gives up after
+     * {@link SubscriptionEndpoint#MAX_RECONNECTION_ATTEMPTS} attempts, and the subscriptions fail.
+     * @throws Exception On failure to request the subscription
+     */
+    @Test
+    public void subscriptionsFailAfterMaxReconnectionAttempts() throws Exception {
+        // Every connection after the first is refused.
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        Subscriber subscriber = new Subscriber();
+        String subscriptionId = subscriber.subscribe(DOCUMENT);
+        assertEquals(subscriptionId, subscriber.awaitStart());
+
+        realtimeEndpoint.dropConnection();
+
+        assertNotNull(subscriber.awaitError());
+        assertEquals(1 + SubscriptionEndpoint.MAX_RECONNECTION_ATTEMPTS, webServer.getRequestCount());
+        assertNull(subscriber.starts.poll());
+    }
+
+    /**
+     * When every new connection is closed by the service, the endpoint gives up after
+     * {@link SubscriptionEndpoint#MAX_RECONNECTION_ATTEMPTS} attempts, and the subscriptions
+     * complete, as they do when the service closes the connection they are active over.
+     * @throws Exception On failure to request the subscription
+     */
+    @Test
+    public void subscriptionsCompleteAfterMaxReconnectionAttemptsAreClosedByService() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        for (int attempt = 0; attempt < SubscriptionEndpoint.MAX_RECONNECTION_ATTEMPTS; attempt++) {
+            webServer.enqueue(realtimeEndpoint.closeConnection());
+        }
+        Subscriber subscriber = new Subscriber();
+        String subscriptionId = subscriber.subscribe(DOCUMENT);
+        assertEquals(subscriptionId, subscriber.awaitStart());
+
+        realtimeEndpoint.dropConnection();
+
+        subscriber.awaitCompletion();
+        assertEquals(1 + SubscriptionEndpoint.MAX_RECONNECTION_ATTEMPTS, webServer.getRequestCount());
+        subscriber.assertNoError();
+        assertNull(subscriber.starts.poll());
+    }
+
+    /**
+     * A subscription which was released before the connection was dropped is not
+     * started again over the new connection, while the others are.
+     * @throws Exception On failure to request, or release, subscriptions
+     */
+    @Test
+    public void releasedSubscriptionIsNotStartedAgain() throws Exception {
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        Subscriber released = new Subscriber();
+        Subscriber kept = new Subscriber();
+        String releasedId = released.subscribe(DOCUMENT);
+        String keptId = kept.subscribe(DOCUMENT);
+        assertEquals(releasedId, released.awaitStart());
+        assertEquals(keptId, kept.awaitStart());
+        realtimeEndpoint.awaitStartMessage();
+        realtimeEndpoint.awaitStartMessage();
+        subscriptionEndpoint.releaseSubscription(releasedId);
+        released.awaitCompletion();
+
+        realtimeEndpoint.dropConnection();
+
+        assertEquals(keptId, kept.awaitStart());
+        assertEquals(keptId, realtimeEndpoint.awaitStartMessage());
+        assertNull(realtimeEndpoint.startMessages.poll(QUIET_PERIOD_MS, TimeUnit.MILLISECONDS));
+        assertNull(released.starts.poll());
+        released.assertNoError();
+        kept.assertNoError();
+    }
+
+    /**
+     * A subscription may be requested after the connection was dropped, but before it is
+     * re-established. It opens the new connection, and the subscriptions that were active over
+     * the dropped one are started again over it. The scheduled reconnection then does nothing.
+     * @throws Exception On failure to request subscriptions
+     */
+    @Test
+    public void subscriptionRequestedWhileReconnectionIsScheduledSharesNewConnection() throws Exception {
+        subscriptionEndpoint = createSubscriptionEndpoint(SLOW_RECONNECTION_DELAY_MS);
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        webServer.enqueue(realtimeEndpoint.acceptConnection());
+        Subscriber existing = new Subscriber();
+        String existingId = existing.subscribe(DOCUMENT);
+        assertEquals(existingId, existing.awaitStart());
+
+        realtimeEndpoint.dropConnection();
+        // Give the endpoint a moment to see that the connection was dropped. It won't reconnect for a while.
+        Sleep.milliseconds(QUIET_PERIOD_MS);
+        Subscriber requested = new Subscriber();
+        String requestedId = requested.subscribe(DOCUMENT);
+
+        assertEquals(requestedId, requested.awaitStart());
+        assertEquals(existingId, existing.awaitStart());
+        // Wait out the reconnection that was scheduled when the connection was dropped.
+        Sleep.milliseconds(SLOW_RECONNECTION_DELAY_MS);
+        assertEquals(2, webServer.getRequestCount());
+        assertNull(existing.starts.poll());
+        existing.assertNoError();
+        requested.assertNoError();
+    }
+
+    private SubscriptionEndpoint createSubscriptionEndpoint(long reconnectionDelayMs) {
+        return new SubscriptionEndpoint(
+            apiConfiguration,
+            new GsonGraphQLResponseFactory(),
+            new SubscriptionAuthorizer(apiConfiguration),
+            okHttpClient,
+            ACKNOWLEDGEMENT_TIMEOUT_MS,
+            reconnectionDelayMs
+        );
+    }
+
+    /**
+     * Records the callbacks of a subscription.
+     */
+    private final class Subscriber {
+        private final BlockingQueue<String> starts = new LinkedBlockingQueue<>();
+        private final BlockingQueue<ApiException> errors = new LinkedBlockingQueue<>();
+        private final CountDownLatch completion = new CountDownLatch(1);
+
+        String subscribe(String document) {
+            return subscriptionEndpoint.requestSubscription(
+                new SimpleGraphQLRequest<String>(document, String.class, new GsonVariablesSerializer()),
+                starts::add,
+                response -> { },
+                errors::add,
+                completion::countDown
+            );
+        }
+
+        String awaitStart() throws InterruptedException {
+            String subscriptionId = starts.poll(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull("Subscription was not started.", subscriptionId);
+            return subscriptionId;
+        }
+
+        ApiException awaitError() throws InterruptedException {
+            ApiException error = errors.poll(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull("Subscription did not fail.", error);
+            return error;
+        }
+
+        void awaitCompletion() throws InterruptedException {
+            assertTrue("Subscription did not complete.", completion.await(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        }
+
+        void assertNoError() {
+            assertNull(errors.peek());
+        }
+    }
+
+    /**
+     * A fake of the AppSync real-time endpoint. It acknowledges every connection it accepts, and
+     * every subscription, except for those which select {@link #UNACKNOWLEDGED_FIELD}. It completes
+     * every subscription that is stopped.
+     */
+    private static final class FakeRealtimeEndpoint extends WebSocketListener {
+        private final BlockingQueue<String> startMessages = new LinkedBlockingQueue<>();
+        private final BlockingQueue<String> stopMessages = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Integer> closeCodes = new LinkedBlockingQueue<>();
+        private final AtomicReference<WebSocket> connection = new AtomicReference<>();
+        private final BlockingQueue<WebSocket> heldConnections = new LinkedBlockingQueue<>();
+        private volatile boolean holdsConnectionAcknowledgements;
+
+        MockResponse acceptConnection() {
+            return new MockResponse().withWebSocketUpgrade(this);
+        }
+
+        // Accepts a connection, but then closes it, as the service does, before acknowledging it.
+        MockResponse closeConnection() {
+            return new MockResponse().withWebSocketUpgrade(new WebSocketListener() {
+                @Override
+                public void onOpen(@NonNull WebSocket webSocket, @NonNull Response response) {
+                    webSocket.close(NORMAL_CLOSURE_STATUS, "Closed by service.");
+                }
+            });
+        }
+
+        // Connections are no longer acknowledged as soon as they are initialized, but only once released.
+        void holdConnectionAcknowledgements() {
+            holdsConnectionAcknowledgements = true;
+        }
+
+        // Acknowledges the next connection that was held, once it has been initialized.
+        void releaseConnectionAcknowledgement() throws InterruptedException {
+            WebSocket webSocket = heldConnections.poll(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull("Connection was not initialized.", webSocket);
+            acknowledgeConnection(webSocket);
+        }
+
+        private void acknowledgeConnection(WebSocket webSocket) {
+            try {
+                webSocket.send(new JSONObject()
+                    .put("type", "connection_ack")
+                    .put("payload", new JSONObject().put("connectionTimeoutMs", "300000"))
+                    .toString());
+            } catch (JSONException exception) {
+                throw new RuntimeException(exception);
+            }
+        }
+
+        // Drops the last connection that was accepted, without closing it.
+        void dropConnection() {
+            connection.get().cancel();
+        }
+
+        String awaitStartMessage() throws InterruptedException {
+            String subscriptionId = startMessages.poll(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull("Subscription was not requested.", subscriptionId);
+            return subscriptionId;
+        }
+
+        int awaitClose() throws InterruptedException {
+            Integer code = closeCodes.poll(EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull("Connection was not closed.", code);
+            return code;
+        }
+
+        @Override
+        public void onOpen(@NonNull WebSocket webSocket, @NonNull Response response) {
+            connection.set(webSocket);
+        }
+
+        @Override
+        public void onMessage(@NonNull WebSocket webSocket, @NonNull String text) {
+            try {
+                JSONObject message = new JSONObject(text);
+                switch (message.getString("type")) {
+                    case "connection_init":
+                        if (holdsConnectionAcknowledgements) {
+                            heldConnections.add(webSocket);
+                        } else {
+                            acknowledgeConnection(webSocket);
+                        }
+                        break;
+                    case "start":
+                        String subscriptionId = message.getString("id");
+                        startMessages.add(subscriptionId);
+                        String data = message.getJSONObject("payload").getString("data");
+                        if (!data.contains(UNACKNOWLEDGED_FIELD)) {
+                            webSocket.send(new JSONObject()
+                                .put("type", "start_ack")
+                                .put("id", subscriptionId)
+                                .toString());
+                        }
+                        break;
+                    case "stop":
+                        stopMessages.add(message.getString("id"));
+                        webSocket.send(new JSONObject()
+                            .put("type", "complete")
+                            .put("id", message.getString("id"))
+                            .toString());
+                        break;
+                    default:
+                        break;
+                }
+            } catch (JSONException exception) {
+                throw new RuntimeException(exception);
+            }
+        }
+
+        @Override
+        public void onClosing(@NonNull WebSocket webSocket, int code, @NonNull String reason) {
+            closeCodes.add(code);
+            webSocket.close(code, null);
+        }
+    }
+}
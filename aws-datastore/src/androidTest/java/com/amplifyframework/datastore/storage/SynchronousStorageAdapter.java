@@ -275,6 +275,34 @@ public final class SynchronousStorageAdapter {
         );
     }
 
+    /**
+     * Apply a batch of operations to the storage adapter, and expect success.
+     * @param operations Saves and deletes to apply, as a single unit of work
+     * @return The changes that resulted from the operations
+     * @throws DataStoreException On any failure to apply the batch
+     */
+    public List<StorageItemChange<? extends Model>> batch(
+            @NonNull List<StorageOperation<? extends Model>> operations) throws DataStoreException {
+        return Await.result(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<? extends Model>>> onResult,
+                Consumer<DataStoreException> onError) -> asyncDelegate.batch(operations, onResult, onError)
+        );
+    }
+
+    /**
+     * Apply a batch of operations to the storage adapter, but /expect/ it to fail.
+     * @param operations Saves and deletes to apply, as a single unit of work
+     * @return The exception that was raised while attempting to apply the batch
+     */
+    public DataStoreException batchExpectingError(@NonNull List<StorageOperation<? extends Model>> operations) {
+        return Await.error(
+            operationTimeoutMs,
+            (Consumer<List<StorageItemChange<? extends Model>>> onResult,
+                Consumer<DataStoreException> onError) -> asyncDelegate.batch(operations, onResult, onError)
+        );
+    }
+
     /**
      * Observe changes to the local storage.
      * @return An observable stream of changes to the local storage.
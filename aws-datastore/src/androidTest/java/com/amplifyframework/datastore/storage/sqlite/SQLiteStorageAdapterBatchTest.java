@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.StrictMode;
+import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.datastore.storage.StorageOperation;
+import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
+import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import io.reactivex.rxjava3.observers.TestObserver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link SQLiteStorageAdapter#batch(List,
+ * com.amplifyframework.core.Consumer, com.amplifyframework.core.Consumer)} operation.
+ */
+public final class SQLiteStorageAdapterBatchTest {
+    private SynchronousStorageAdapter adapter;
+
+    /**
+     * Enable Android Strict Mode, to help catch common errors while using SQLite,
+     * such as forgetting to close a database (from source).
+     */
+    @BeforeClass
+    public static void enableStrictMode() {
+        StrictMode.enable();
+    }
+
+    /**
+     * Remove any old SQLite database files. Setup a new storage adapter, which is able
+     * to warehouse the Comments-Blogs family of models.
+     */
+    @Before
+    public void setup() {
+        TestStorageAdapter.cleanup();
+        this.adapter = TestStorageAdapter.create(AmplifyModelProvider.getInstance());
+    }
+
+    /**
+     * Close the storage adapter and delete any SQLite database files that it may
+     * have left.
+     */
+    @After
+    public void teardown() {
+        TestStorageAdapter.cleanup(adapter);
+    }
+
+    /**
+     * A batch of saves and deletes is applied, in order, and a change is returned
+     * for each operation.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void batchAppliesAllOperations() throws DataStoreException {
+        final BlogOwner jane = BlogOwner.builder().name("Jane").build();
+        final BlogOwner john = BlogOwner.builder().name("John").build();
+        adapter.save(john);
+
+        final BlogOwner janeDoe = jane.copyOfBuilder().name("Jane Doe").build();
+        List<StorageItemChange<? extends Model>> changes = adapter.batch(Arrays.asList(
+            StorageOperation.save(jane, StorageItemChange.Initiator.DATA_STORE_API),
+            StorageOperation.save(janeDoe, StorageItemChange.Initiator.DATA_STORE_API),
+            StorageOperation.delete(john, StorageItemChange.Initiator.DATA_STORE_API)
+        ));
+
+        assertEquals(3, changes.size());
+        assertEquals(StorageItemChange.Type.CREATE, changes.get(0).type());
+        assertEquals(StorageItemChange.Type.UPDATE, changes.get(1).type());
+        assertEquals(StorageItemChange.Type.DELETE, changes.get(2).type());
+        assertEquals(Collections.singletonList(janeDoe), adapter.query(BlogOwner.class));
+    }
+
+    /**
+     * If any one operation in the batch fails, none of the operations are applied.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void batchIsRolledBackOnFailure() throws DataStoreException {
+        final BlogOwner john = BlogOwner.builder().name("John").build();
+        adapter.save(john);
+
+        final List<StorageOperation<? extends Model>> operations = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            BlogOwner owner = BlogOwner.builder().name("Owner " + index).build();
+            operations.add(StorageOperation.save(owner, StorageItemChange.Initiator.DATA_STORE_API));
+        }
+        operations.add(StorageOperation.delete(john, StorageItemChange.Initiator.DATA_STORE_API));
+        // Conditional insert is not permitted, so this fails the whole batch.
+        BlogOwner jane = BlogOwner.builder().name("Jane").build();
+        operations.add(StorageOperation.save(
+            jane, StorageItemChange.Initiator.DATA_STORE_API, BlogOwner.NAME.beginsWith("J")
+        ));
+
+        //noinspection ThrowableNotThrown
+        adapter.batchExpectingError(operations);
+
+        // Nothing was written, and John was not deleted.
+        assertEquals(Collections.singletonList(john), adapter.query(BlogOwner.class));
+    }
+
+    /**
+     * Changes are published to observers of the storage adapter for every
+     * operation in a successful batch.
+     * @throws DataStoreException On unexpected failure manipulating items in/out of DataStore
+     */
+    @Test
+    public void batchPublishesChanges() throws DataStoreException {
+        final BlogOwner jane = BlogOwner.builder().name("Jane").build();
+        final BlogOwner john = BlogOwner.builder().name("John").build();
+        TestObserver<Model> observer = adapter.observe()
+            .<Model>map(StorageItemChange::item)
+            .test();
+
+        adapter.batch(Arrays.asList(
+            StorageOperation.save(jane, StorageItemChange.Initiator.DATA_STORE_API),
+            StorageOperation.save(john, StorageItemChange.Initiator.DATA_STORE_API)
+        ));
+
+        observer.awaitCount(2);
+        assertEquals(new HashSet<>(Arrays.asList(jane, john)), new HashSet<>(observer.values()));
+        assertTrue(adapter.query(BlogOwner.class).containsAll(Arrays.asList(jane, john)));
+    }
+}
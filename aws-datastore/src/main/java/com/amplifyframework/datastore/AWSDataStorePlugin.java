@@ -34,14 +34,16 @@ import com.amplifyframework.core.model.ModelProvider;
 import com.amplifyframework.core.model.ModelSchemaRegistry;
 import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.query.predicate.CompiledQueryPredicate;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.appsync.AppSyncClient;
-import com.amplifyframework.datastore.appsync.SerializedModel;
 import com.amplifyframework.datastore.model.ModelProviderLocator;
+import com.amplifyframework.datastore.storage.ItemChangeDispatcher;
 import com.amplifyframework.datastore.storage.ItemChangeMapper;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.datastore.storage.StorageOperation;
 import com.amplifyframework.datastore.storage.sqlite.SQLiteStorageAdapter;
 import com.amplifyframework.datastore.syncengine.NetworkStatusMonitor;
 import com.amplifyframework.datastore.syncengine.Orchestrator;
@@ -50,7 +52,9 @@ import com.amplifyframework.logging.Logger;
 
 import org.json.JSONObject;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -69,6 +73,9 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
     // manages the persistence of data on-device.
     private final LocalStorageAdapter sqliteStorageAdapter;
 
+    // Passes the changes in local storage on to the observers that are interested in them
+    private final ItemChangeDispatcher itemChangeDispatcher;
+
     // A component which synchronizes data state between the
     // local storage adapter, and a remote API
     private final Orchestrator orchestrator;
@@ -89,6 +96,7 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull ApiCategory api,
             @Nullable DataStoreConfiguration userProvidedConfiguration) {
         this.sqliteStorageAdapter = SQLiteStorageAdapter.forModels(modelSchemaRegistry, modelProvider);
+        this.itemChangeDispatcher = new ItemChangeDispatcher(sqliteStorageAdapter);
         this.categoryInitializationsPending = new CountDownLatch(1);
         // Used to interrogate plugins, to understand if sync should be automatically turned on
         this.orchestrator = new Orchestrator(
@@ -373,6 +381,40 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
         ), onFailureToDelete);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void batch(
+            @NonNull List<? extends Model> itemsToSave,
+            @NonNull List<? extends Model> itemsToDelete,
+            @NonNull Consumer<List<DataStoreItemChange<? extends Model>>> onBatchApplied,
+            @NonNull Consumer<DataStoreException> onBatchFailure) {
+        final List<StorageOperation<? extends Model>> operations = new ArrayList<>();
+        for (Model item : itemsToSave) {
+            operations.add(StorageOperation.save(item, StorageItemChange.Initiator.DATA_STORE_API));
+        }
+        for (Model item : itemsToDelete) {
+            operations.add(StorageOperation.delete(item, StorageItemChange.Initiator.DATA_STORE_API));
+        }
+        start(() -> sqliteStorageAdapter.batch(
+            operations,
+            storageItemChanges -> {
+                final List<DataStoreItemChange<? extends Model>> itemChanges = new ArrayList<>();
+                try {
+                    for (StorageItemChange<? extends Model> storageItemChange : storageItemChanges) {
+                        itemChanges.add(ItemChangeMapper.map(storageItemChange));
+                    }
+                } catch (DataStoreException dataStoreException) {
+                    onBatchFailure.accept(dataStoreException);
+                    return;
+                }
+                onBatchApplied.accept(itemChanges);
+            },
+            onBatchFailure
+        ), onBatchFailure);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -422,13 +464,23 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
         start(() -> sqliteStorageAdapter.query(itemClass, options, onQueryResults, onQueryFailure), onQueryFailure);
     }
 
+    @Override
+    public <T extends Model> void queryLazily(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<DataStoreQueryIterator<T>> onQueryResults,
+            @NonNull Consumer<DataStoreException> onQueryFailure) {
+        start(() -> sqliteStorageAdapter.queryLazily(itemClass, options, onQueryResults, onQueryFailure),
+            onQueryFailure);
+    }
+
     @Override
     public void observe(
             @NonNull Consumer<Cancelable> onObservationStarted,
             @NonNull Consumer<DataStoreItemChange<? extends Model>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeDispatcher.observe(
             itemChange -> {
                 try {
                     onDataStoreItemChange.accept(ItemChangeMapper.map(itemChange));
@@ -448,14 +500,13 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<T>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeDispatcher.observe(
+            itemClass.getSimpleName(),
             itemChange -> {
                 try {
-                    if (itemChange.modelSchema().getName().equals(itemClass.getSimpleName())) {
-                        @SuppressWarnings("unchecked") // This was just checked, right above.
-                        StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
-                        onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
-                    }
+                    @SuppressWarnings("unchecked") // The dispatcher only passes on changes to this model.
+                    StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
+                    onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
                 } catch (DataStoreException dataStoreException) {
                     onObservationFailure.accept(dataStoreException);
                 }
@@ -481,17 +532,11 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<? extends Model>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeDispatcher.observeSerializedModels(
+            modelName,
             itemChange -> {
                 try {
-                    if (itemChange.modelSchema().getModelClass().equals(SerializedModel.class)) {
-                        if (((SerializedModel) itemChange.item()).getModelName().equals(modelName)) {
-                            @SuppressWarnings("unchecked") // This was just checked, right above.
-                            StorageItemChange<SerializedModel> typedChange =
-                                    (StorageItemChange<SerializedModel>) itemChange;
-                            onDataStoreItemChange.accept(ItemChangeMapper.map(itemChange));
-                        }
-                    }
+                    onDataStoreItemChange.accept(ItemChangeMapper.map(itemChange));
                 } catch (DataStoreException dataStoreException) {
                     onObservationFailure.accept(dataStoreException);
                 }
@@ -509,15 +554,14 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<T>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        start(() -> onObservationStarted.accept(sqliteStorageAdapter.observe(
+        start(() -> onObservationStarted.accept(itemChangeDispatcher.observe(
+            itemClass.getSimpleName(),
+            uniqueId,
             itemChange -> {
                 try {
-                    if (itemChange.modelSchema().getName().equals(itemClass.getSimpleName()) &&
-                            itemChange.item().getId().equals(uniqueId)) {
-                        @SuppressWarnings("unchecked") // itemClass() was just inspected above. This is safe.
-                        StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
-                        onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
-                    }
+                    @SuppressWarnings("unchecked") // The dispatcher only passes on changes to this item.
+                    StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
+                    onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
                 } catch (DataStoreException dataStoreException) {
                     onObservationFailure.accept(dataStoreException);
                 }
@@ -535,6 +579,23 @@ public final class AWSDataStorePlugin extends DataStorePlugin<Void> {
             @NonNull Consumer<DataStoreItemChange<T>> onDataStoreItemChange,
             @NonNull Consumer<DataStoreException> onObservationFailure,
             @NonNull Action onObservationCompleted) {
-        onObservationFailure.accept(new DataStoreException("Not implemented yet, buster!", "Check back later!"));
+        CompiledQueryPredicate compiledCriteria =
+            CompiledQueryPredicate.compile(Objects.requireNonNull(selectionCriteria), itemClass);
+        start(() -> onObservationStarted.accept(itemChangeDispatcher.observe(
+            itemClass.getSimpleName(),
+            itemChange -> {
+                try {
+                    if (compiledCriteria.evaluate(itemChange.item())) {
+                        @SuppressWarnings("unchecked") // The dispatcher only passes on changes to this model.
+                        StorageItemChange<T> typedChange = (StorageItemChange<T>) itemChange;
+                        onDataStoreItemChange.accept(ItemChangeMapper.map(typedChange));
+                    }
+                } catch (DataStoreException dataStoreException) {
+                    onObservationFailure.accept(dataStoreException);
+                }
+            },
+            onObservationFailure,
+            onObservationCompleted
+        )), onObservationFailure);
     }
 }
@@ -43,11 +43,20 @@ public final class DataStoreConfiguration {
     static final int DEFAULT_SYNC_MAX_RECORDS = 10_000;
     @VisibleForTesting 
     static final int DEFAULT_SYNC_PAGE_SIZE = 1_000;
+    @VisibleForTesting
+    static final int DEFAULT_SYNC_PAGE_PREFETCH_COUNT = 2;
+    @VisibleForTesting
+    static final int DEFAULT_SYNC_MAX_CONCURRENT_MODELS = 4;
+    @VisibleForTesting
+    static final int DEFAULT_OUTBOX_MAX_CONCURRENT_MUTATIONS = 1;
 
     private final DataStoreErrorHandler errorHandler;
     private final DataStoreConflictHandler conflictHandler;
     private final Integer syncMaxRecords;
     private final Integer syncPageSize;
+    private final Integer syncPagePrefetchCount;
+    private final Integer syncMaxConcurrentModels;
+    private final Integer outboxMaxConcurrentMutations;
     private final Map<String, DataStoreSyncExpression> syncExpressions;
     private final Long syncIntervalInMinutes;
 
@@ -56,6 +65,9 @@ public final class DataStoreConfiguration {
         this.conflictHandler = builder.conflictHandler;
         this.syncMaxRecords = builder.syncMaxRecords;
         this.syncPageSize = builder.syncPageSize;
+        this.syncPagePrefetchCount = builder.syncPagePrefetchCount;
+        this.syncMaxConcurrentModels = builder.syncMaxConcurrentModels;
+        this.outboxMaxConcurrentMutations = builder.outboxMaxConcurrentMutations;
         this.syncIntervalInMinutes = builder.syncIntervalInMinutes;
         this.syncExpressions = builder.syncExpressions;
     }
@@ -110,6 +122,9 @@ public final class DataStoreConfiguration {
             .conflictHandler(DataStoreConflictHandler.alwaysApplyRemote())
             .syncInterval(DEFAULT_SYNC_INTERVAL_MINUTES, TimeUnit.MINUTES)
             .syncPageSize(DEFAULT_SYNC_PAGE_SIZE)
+            .syncPagePrefetchCount(DEFAULT_SYNC_PAGE_PREFETCH_COUNT)
+            .syncMaxConcurrentModels(DEFAULT_SYNC_MAX_CONCURRENT_MODELS)
+            .outboxMaxConcurrentMutations(DEFAULT_OUTBOX_MAX_CONCURRENT_MUTATIONS)
             .syncMaxRecords(DEFAULT_SYNC_MAX_RECORDS)
             .build();
     }
@@ -174,6 +189,40 @@ public final class DataStoreConfiguration {
         return this.syncPageSize;
     }
 
+    /**
+     * Gets the number of pages of sync results that may be fetched from AppSync ahead of
+     * the page that is currently being written to the local store. While those pages are
+     * being written, the next ones are already being fetched, so that network and storage
+     * time overlap, instead of adding up.
+     * @return Maximum number of pages of sync results that are buffered, awaiting a write
+     */
+    @IntRange(from = 1)
+    public Integer getSyncPagePrefetchCount() {
+        return this.syncPagePrefetchCount;
+    }
+
+    /**
+     * Gets the maximum number of models that may be synced from AppSync at the same time.
+     * Models are still synced only after the models that they belong to, so that
+     * associated models are always in the local store before the models that refer to them.
+     * @return Maximum number of models synced concurrently
+     */
+    @IntRange(from = 1)
+    public Integer getSyncMaxConcurrentModels() {
+        return this.syncMaxConcurrentModels;
+    }
+
+    /**
+     * Gets the maximum number of local changes that may be published to AppSync at the same time,
+     * from the mutation outbox. Only changes to different models are published concurrently;
+     * the changes to any single model are always published one after another, in order.
+     * @return Maximum number of mutations published concurrently
+     */
+    @IntRange(from = 1)
+    public Integer getOutboxMaxConcurrentMutations() {
+        return this.outboxMaxConcurrentMutations;
+    }
+
     /**
      * Returns the Map of all {@link DataStoreSyncExpression}s used to filter data received from AppSync, either during
      * a sync or over the real-time subscription.
@@ -205,6 +254,15 @@ public final class DataStoreConfiguration {
         if (!ObjectsCompat.equals(getSyncPageSize(), that.getSyncPageSize())) {
             return false;
         }
+        if (!ObjectsCompat.equals(getSyncPagePrefetchCount(), that.getSyncPagePrefetchCount())) {
+            return false;
+        }
+        if (!ObjectsCompat.equals(getSyncMaxConcurrentModels(), that.getSyncMaxConcurrentModels())) {
+            return false;
+        }
+        if (!ObjectsCompat.equals(getOutboxMaxConcurrentMutations(), that.getOutboxMaxConcurrentMutations())) {
+            return false;
+        }
         if (!ObjectsCompat.equals(getSyncIntervalInMinutes(), that.getSyncIntervalInMinutes())) {
             return false;
         }
@@ -220,6 +278,10 @@ public final class DataStoreConfiguration {
         result = 31 * result + (getConflictHandler() != null ? getConflictHandler().hashCode() : 0);
         result = 31 * result + (getSyncMaxRecords() != null ? getSyncMaxRecords().hashCode() : 0);
         result = 31 * result + (getSyncPageSize() != null ? getSyncPageSize().hashCode() : 0);
+        result = 31 * result + (getSyncPagePrefetchCount() != null ? getSyncPagePrefetchCount().hashCode() : 0);
+        result = 31 * result + (getSyncMaxConcurrentModels() != null ? getSyncMaxConcurrentModels().hashCode() : 0);
+        result = 31 * result +
+            (getOutboxMaxConcurrentMutations() != null ? getOutboxMaxConcurrentMutations().hashCode() : 0);
         result = 31 * result + (getSyncIntervalInMinutes() != null ? getSyncIntervalInMinutes().hashCode() : 0);
         result = 31 * result + (getSyncExpressions() != null ? getSyncExpressions().hashCode() : 0);
         return result;
@@ -232,6 +294,9 @@ public final class DataStoreConfiguration {
             ", conflictHandler=" + conflictHandler +
             ", syncMaxRecords=" + syncMaxRecords +
             ", syncPageSize=" + syncPageSize +
+            ", syncPagePrefetchCount=" + syncPagePrefetchCount +
+            ", syncMaxConcurrentModels=" + syncMaxConcurrentModels +
+            ", outboxMaxConcurrentMutations=" + outboxMaxConcurrentMutations +
             ", syncIntervalInMinutes=" + syncIntervalInMinutes +
             ", syncExpressions=" + syncExpressions +
             '}';
@@ -247,6 +312,9 @@ public final class DataStoreConfiguration {
         private Long syncIntervalInMinutes;
         private Integer syncMaxRecords;
         private Integer syncPageSize;
+        private Integer syncPagePrefetchCount;
+        private Integer syncMaxConcurrentModels;
+        private Integer outboxMaxConcurrentMutations;
         private Map<String, DataStoreSyncExpression> syncExpressions;
         private boolean ensureDefaults;
         private JSONObject pluginJson;
@@ -324,6 +392,42 @@ public final class DataStoreConfiguration {
             return Builder.this;
         }
 
+        /**
+         * Sets the number of pages of sync results that may be fetched from AppSync, while
+         * an earlier page is still being written to the local store.
+         * @param syncPagePrefetchCount Max number of fetched pages that may await a write; at least 1
+         * @return Current builder
+         */
+        @NonNull
+        public Builder syncPagePrefetchCount(@NonNull @IntRange(from = 1) Integer syncPagePrefetchCount) {
+            this.syncPagePrefetchCount = Objects.requireNonNull(syncPagePrefetchCount);
+            return Builder.this;
+        }
+
+        /**
+         * Sets the maximum number of models that may be synced at the same time. Models which
+         * belong to other models are only synced after those other models have been synced.
+         * @param syncMaxConcurrentModels Max number of models synced concurrently; at least 1
+         * @return Current builder
+         */
+        @NonNull
+        public Builder syncMaxConcurrentModels(@NonNull @IntRange(from = 1) Integer syncMaxConcurrentModels) {
+            this.syncMaxConcurrentModels = Objects.requireNonNull(syncMaxConcurrentModels);
+            return Builder.this;
+        }
+
+        /**
+         * Sets the maximum number of local changes that may be published to AppSync at the same time.
+         * Changes to the same model are still published one at a time, in the order they were made.
+         * @param outboxMaxConcurrentMutations Max number of mutations published concurrently; at least 1
+         * @return Current builder
+         */
+        @NonNull
+        public Builder outboxMaxConcurrentMutations(@NonNull @IntRange(from = 1) Integer outboxMaxConcurrentMutations) {
+            this.outboxMaxConcurrentMutations = Objects.requireNonNull(outboxMaxConcurrentMutations);
+            return Builder.this;
+        }
+
         /**
          * Sets a sync expression for a particular model to filter which data is synced locally.  The expression
          * is evaluated each time DataStore is started.  The QueryPredicate is applied on both sync and subscriptions.
@@ -392,6 +496,15 @@ public final class DataStoreConfiguration {
                 syncIntervalInMinutes);
             syncMaxRecords = getValueOrDefault(userProvidedConfiguration.getSyncMaxRecords(), syncMaxRecords);
             syncPageSize = getValueOrDefault(userProvidedConfiguration.getSyncPageSize(), syncPageSize);
+            syncPagePrefetchCount = getValueOrDefault(
+                userProvidedConfiguration.getSyncPagePrefetchCount(),
+                syncPagePrefetchCount);
+            syncMaxConcurrentModels = getValueOrDefault(
+                userProvidedConfiguration.getSyncMaxConcurrentModels(),
+                syncMaxConcurrentModels);
+            outboxMaxConcurrentMutations = getValueOrDefault(
+                userProvidedConfiguration.getOutboxMaxConcurrentMutations(),
+                outboxMaxConcurrentMutations);
             syncExpressions = userProvidedConfiguration.getSyncExpressions();
         }
 
@@ -419,6 +532,29 @@ public final class DataStoreConfiguration {
                 syncIntervalInMinutes = getValueOrDefault(syncIntervalInMinutes, DEFAULT_SYNC_INTERVAL_MINUTES);
                 syncMaxRecords = getValueOrDefault(syncMaxRecords, DEFAULT_SYNC_MAX_RECORDS);
                 syncPageSize = getValueOrDefault(syncPageSize, DEFAULT_SYNC_PAGE_SIZE);
+                syncPagePrefetchCount = getValueOrDefault(syncPagePrefetchCount, DEFAULT_SYNC_PAGE_PREFETCH_COUNT);
+                syncMaxConcurrentModels =
+                    getValueOrDefault(syncMaxConcurrentModels, DEFAULT_SYNC_MAX_CONCURRENT_MODELS);
+                outboxMaxConcurrentMutations =
+                    getValueOrDefault(outboxMaxConcurrentMutations, DEFAULT_OUTBOX_MAX_CONCURRENT_MUTATIONS);
+            }
+            if (syncPagePrefetchCount != null && syncPagePrefetchCount < 1) {
+                throw new DataStoreException(
+                    "Sync page prefetch count must be at least 1, but was " + syncPagePrefetchCount + ".",
+                    "Provide a positive value to syncPagePrefetchCount(...)."
+                );
+            }
+            if (syncMaxConcurrentModels != null && syncMaxConcurrentModels < 1) {
+                throw new DataStoreException(
+                    "Max concurrent models must be at least 1, but was " + syncMaxConcurrentModels + ".",
+                    "Provide a positive value to syncMaxConcurrentModels(...)."
+                );
+            }
+            if (outboxMaxConcurrentMutations != null && outboxMaxConcurrentMutations < 1) {
+                throw new DataStoreException(
+                    "Max concurrent mutations must be at least 1, but was " + outboxMaxConcurrentMutations + ".",
+                    "Provide a positive value to outboxMaxConcurrentMutations(...)."
+                );
             }
             return new DataStoreConfiguration(this);
         }
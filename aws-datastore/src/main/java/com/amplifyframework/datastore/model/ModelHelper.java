@@ -15,6 +15,8 @@
 
 package com.amplifyframework.datastore.model;
 
+import androidx.annotation.NonNull;
+
 import com.amplifyframework.AmplifyException;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.model.Model;
@@ -24,6 +26,9 @@ import com.amplifyframework.logging.Logger;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helpers class that contains {@link Model} related utilities.
@@ -31,6 +36,10 @@ import java.lang.reflect.Method;
 public final class ModelHelper {
     private static final Logger LOGGER = Amplify.Logging.forNamespace("amplify:aws-datastore");
 
+    // Accessors for the fields of each model class, by field name. They are resolved once, on first use.
+    private static final Map<Class<? extends Model>, Map<String, FieldAccessor>> ACCESSORS =
+        new ConcurrentHashMap<>();
+
     private ModelHelper() {
         // contains only static helper methods and should not be instantiated
     }
@@ -47,13 +56,42 @@ public final class ModelHelper {
      * @throws DataStoreException in case of a error happens during the dynamic reflection calls
      */
     public static <M extends Model> Object getValue(M model, ModelField field) throws DataStoreException {
-        final Class<? extends Model> modelClass = model.getClass();
-        final String fieldName = field.getName();
+        return getAccessor(model.getClass(), field.getName()).get(model);
+    }
+
+    /**
+     * Gets an accessor which reads a property of a class of <code>Model</code>. The property getter is
+     * preferred, and the field itself is used if a getter doesn't exist. Accessors are looked up once
+     * per class and property, and are then re-used, so that reading a property doesn't require any
+     * further reflective lookups.
+     *
+     * @param modelClass the model class
+     * @param fieldName the name of the model field
+     * @return an accessor for the property
+     * @throws DataStoreException if the class has neither a getter nor a field for the property
+     */
+    @NonNull
+    public static FieldAccessor getAccessor(@NonNull Class<? extends Model> modelClass, @NonNull String fieldName)
+            throws DataStoreException {
+        Map<String, FieldAccessor> accessors = ACCESSORS.get(modelClass);
+        if (accessors == null) {
+            accessors = new ConcurrentHashMap<>();
+            ACCESSORS.put(modelClass, accessors);
+        }
+        FieldAccessor accessor = accessors.get(fieldName);
+        if (accessor == null) {
+            accessor = resolveAccessor(modelClass, fieldName);
+            accessors.put(fieldName, accessor);
+        }
+        return accessor;
+    }
+
+    private static FieldAccessor resolveAccessor(Class<? extends Model> modelClass, String fieldName)
+            throws DataStoreException {
         final String getterName = "get" + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
 
         try {
-            final Method fieldGetter = modelClass.getMethod(getterName);
-            return fieldGetter.invoke(model);
+            return new FieldAccessor(fieldName, modelClass.getMethod(getterName), null);
         } catch (Exception exception) {
             LOGGER.verbose(String.format(
                     "Could not find %s() on %s. Fallback to direct field access.",
@@ -65,7 +103,7 @@ public final class ModelHelper {
         try {
             final Field fieldReference = modelClass.getDeclaredField(fieldName);
             fieldReference.setAccessible(true);
-            return fieldReference.get(model);
+            return new FieldAccessor(fieldName, null, fieldReference);
         } catch (Exception fallbackException) {
             throw new DataStoreException(
                     "Error when reading the property " + fieldName + " from class " + modelClass.getName(),
@@ -74,4 +112,38 @@ public final class ModelHelper {
             );
         }
     }
+
+    /**
+     * Reads a single property of instances of a class of <code>Model</code>, through
+     * a getter or a field which has already been looked up.
+     */
+    public static final class FieldAccessor {
+        private final String fieldName;
+        private final Method getter;
+        private final Field field;
+
+        FieldAccessor(String fieldName, Method getter, Field field) {
+            this.fieldName = Objects.requireNonNull(fieldName);
+            this.getter = getter;
+            this.field = field;
+        }
+
+        /**
+         * Reads the property from a model.
+         * @param model An instance of the class that this accessor was looked up on
+         * @return the property value or <code>null</code>
+         * @throws DataStoreException if the property can't be read from the model
+         */
+        public Object get(@NonNull Model model) throws DataStoreException {
+            try {
+                return getter != null ? getter.invoke(model) : field.get(model);
+            } catch (Exception exception) {
+                throw new DataStoreException(
+                        "Error when reading the property " + fieldName + " from class " + model.getClass().getName(),
+                        exception,
+                        AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+            }
+        }
+    }
 }
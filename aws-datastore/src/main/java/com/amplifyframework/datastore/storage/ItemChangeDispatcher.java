@@ -0,0 +1,317 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.core.Action;
+import com.amplifyframework.core.Consumer;
+import com.amplifyframework.core.async.Cancelable;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.appsync.SerializedModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Dispatches the changes made in a {@link LocalStorageAdapter} to many observers, through
+ * a single observation of the storage adapter.
+ *
+ * Observers may be interested in all changes, in changes to a certain model, or in changes
+ * to a single item of a model. Observers are indexed by model name, and then by item ID,
+ * so that a change is only passed to the observers that are interested in it. The cost
+ * of a change doesn't grow with the number of observers of other models, or of other items.
+ *
+ * The storage adapter is observed while there is at least one observer. When the storage
+ * adapter's observation ends, with an error or by completing, every observer is told so,
+ * and is removed.
+ */
+public final class ItemChangeDispatcher {
+    private final LocalStorageAdapter localStorageAdapter;
+    private final Set<Registration> allChangesObservers;
+    private final Map<String, Set<Registration>> modelObservers;
+    private final Map<String, Map<String, Set<Registration>>> itemObservers;
+    private final Map<String, Set<Registration>> serializedModelObservers;
+    private int observerCount;
+    private Cancelable storageObservation;
+
+    /**
+     * Constructs a new ItemChangeDispatcher.
+     * @param localStorageAdapter A storage adapter whose changes are dispatched
+     */
+    public ItemChangeDispatcher(@NonNull LocalStorageAdapter localStorageAdapter) {
+        this.localStorageAdapter = Objects.requireNonNull(localStorageAdapter);
+        this.allChangesObservers = new LinkedHashSet<>();
+        this.modelObservers = new HashMap<>();
+        this.itemObservers = new HashMap<>();
+        this.serializedModelObservers = new HashMap<>();
+        this.observerCount = 0;
+        this.storageObservation = null;
+    }
+
+    /**
+     * Observe all changes to the storage.
+     * @param onItemChanged Called with each change
+     * @param onObservationError Called if the observation of the storage fails
+     * @param onObservationComplete Called when the observation of the storage completes
+     * @return A Cancelable, which ends this observation
+     */
+    @NonNull
+    public Cancelable observe(
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChanged,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        Registration registration = new Registration(onItemChanged, onObservationError, onObservationComplete);
+        return register(registration, () -> allChangesObservers.add(registration),
+            () -> allChangesObservers.remove(registration));
+    }
+
+    /**
+     * Observe changes to items of a certain model.
+     * @param modelName The name of a model, as found in its schema
+     * @param onItemChanged Called with each change to an item of the model
+     * @param onObservationError Called if the observation of the storage fails
+     * @param onObservationComplete Called when the observation of the storage completes
+     * @return A Cancelable, which ends this observation
+     */
+    @NonNull
+    public Cancelable observe(
+            @NonNull String modelName,
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChanged,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        Objects.requireNonNull(modelName);
+        Registration registration = new Registration(onItemChanged, onObservationError, onObservationComplete);
+        return register(registration, () -> addTo(modelObservers, modelName, registration),
+            () -> removeFrom(modelObservers, modelName, registration));
+    }
+
+    /**
+     * Observe changes to a single item of a certain model.
+     * @param modelName The name of a model, as found in its schema
+     * @param modelId The ID of an item of that model
+     * @param onItemChanged Called with each change to the item
+     * @param onObservationError Called if the observation of the storage fails
+     * @param onObservationComplete Called when the observation of the storage completes
+     * @return A Cancelable, which ends this observation
+     */
+    @NonNull
+    public Cancelable observe(
+            @NonNull String modelName,
+            @NonNull String modelId,
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChanged,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        Objects.requireNonNull(modelName);
+        Objects.requireNonNull(modelId);
+        Registration registration = new Registration(onItemChanged, onObservationError, onObservationComplete);
+        return register(registration,
+            () -> {
+                Map<String, Set<Registration>> observersById = itemObservers.get(modelName);
+                if (observersById == null) {
+                    observersById = new HashMap<>();
+                    itemObservers.put(modelName, observersById);
+                }
+                addTo(observersById, modelId, registration);
+            },
+            () -> {
+                Map<String, Set<Registration>> observersById = itemObservers.get(modelName);
+                removeFrom(observersById, modelId, registration);
+                if (observersById.isEmpty()) {
+                    itemObservers.remove(modelName);
+                }
+            }
+        );
+    }
+
+    /**
+     * Observe changes to {@link SerializedModel}s of a certain model.
+     * @param modelName The name of the model, as found in each {@link SerializedModel}
+     * @param onItemChanged Called with each change to a serialized item of the model
+     * @param onObservationError Called if the observation of the storage fails
+     * @param onObservationComplete Called when the observation of the storage completes
+     * @return A Cancelable, which ends this observation
+     */
+    @NonNull
+    public Cancelable observeSerializedModels(
+            @NonNull String modelName,
+            @NonNull Consumer<StorageItemChange<? extends Model>> onItemChanged,
+            @NonNull Consumer<DataStoreException> onObservationError,
+            @NonNull Action onObservationComplete) {
+        Objects.requireNonNull(modelName);
+        Registration registration = new Registration(onItemChanged, onObservationError, onObservationComplete);
+        return register(registration, () -> addTo(serializedModelObservers, modelName, registration),
+            () -> removeFrom(serializedModelObservers, modelName, registration));
+    }
+
+    private Cancelable register(Registration registration, Action addition, Action removal) {
+        synchronized (this) {
+            addition.call();
+            registration.removal = removal;
+            registration.isRegistered = true;
+            observerCount++;
+            if (storageObservation == null) {
+                Cancelable observation = localStorageAdapter.observe(this::dispatch, this::fail, this::complete);
+                if (observerCount > 0) {
+                    storageObservation = observation;
+                } else {
+                    // The observation already ended, and every observer was told so.
+                    observation.cancel();
+                }
+            }
+        }
+        return () -> unregister(registration);
+    }
+
+    private void unregister(Registration registration) {
+        Cancelable observationToCancel = null;
+        synchronized (this) {
+            if (!registration.isRegistered) {
+                return;
+            }
+            registration.isRegistered = false;
+            registration.removal.call();
+            observerCount--;
+            if (observerCount == 0 && storageObservation != null) {
+                observationToCancel = storageObservation;
+                storageObservation = null;
+            }
+        }
+        if (observationToCancel != null) {
+            observationToCancel.cancel();
+        }
+    }
+
+    private void dispatch(StorageItemChange<? extends Model> change) {
+        final List<Registration> registrations = new ArrayList<>();
+        final String modelName = change.modelSchema().getName();
+        synchronized (this) {
+            registrations.addAll(allChangesObservers);
+            addAll(registrations, modelObservers.get(modelName));
+            Map<String, Set<Registration>> observersById = itemObservers.get(modelName);
+            if (observersById != null) {
+                addAll(registrations, observersById.get(change.item().getId()));
+            }
+            if (SerializedModel.class.equals(change.modelSchema().getModelClass())) {
+                addAll(registrations, serializedModelObservers.get(((SerializedModel) change.item()).getModelName()));
+            }
+        }
+        for (Registration registration : registrations) {
+            if (!registration.isRegistered) {
+                // It was canceled while this change was being dispatched.
+                continue;
+            }
+            try {
+                registration.onItemChanged.accept(change);
+            } catch (RuntimeException observerFailure) {
+                // Don't let one failing observer end the observation for everyone else.
+                unregister(registration);
+                registration.onObservationError.accept(new DataStoreException(
+                    "Failed to handle a change to an item in storage.",
+                    observerFailure,
+                    "Inspect the failure details."
+                ));
+            }
+        }
+    }
+
+    private void fail(DataStoreException failure) {
+        for (Registration registration : unregisterAll()) {
+            registration.onObservationError.accept(failure);
+        }
+    }
+
+    private void complete() {
+        for (Registration registration : unregisterAll()) {
+            registration.onObservationComplete.call();
+        }
+    }
+
+    // Called when the observation of the storage has ended, and can't be canceled anymore.
+    private synchronized List<Registration> unregisterAll() {
+        final List<Registration> registrations = new ArrayList<>(allChangesObservers);
+        for (Set<Registration> observers : modelObservers.values()) {
+            registrations.addAll(observers);
+        }
+        for (Map<String, Set<Registration>> observersById : itemObservers.values()) {
+            for (Set<Registration> observers : observersById.values()) {
+                registrations.addAll(observers);
+            }
+        }
+        for (Set<Registration> observers : serializedModelObservers.values()) {
+            registrations.addAll(observers);
+        }
+        for (Registration registration : registrations) {
+            registration.isRegistered = false;
+        }
+        allChangesObservers.clear();
+        modelObservers.clear();
+        itemObservers.clear();
+        serializedModelObservers.clear();
+        observerCount = 0;
+        storageObservation = null;
+        return registrations;
+    }
+
+    private static void addTo(Map<String, Set<Registration>> index, String key, Registration registration) {
+        Set<Registration> observers = index.get(key);
+        if (observers == null) {
+            observers = new LinkedHashSet<>();
+            index.put(key, observers);
+        }
+        observers.add(registration);
+    }
+
+    private static void removeFrom(Map<String, Set<Registration>> index, String key, Registration registration) {
+        Set<Registration> observers = index.get(key);
+        observers.remove(registration);
+        if (observers.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static void addAll(List<Registration> registrations, @Nullable Set<Registration> observers) {
+        if (observers != null) {
+            registrations.addAll(observers);
+        }
+    }
+
+    /**
+     * The callbacks of a single observer, and how to remove it from the index.
+     */
+    private static final class Registration {
+        private final Consumer<StorageItemChange<? extends Model>> onItemChanged;
+        private final Consumer<DataStoreException> onObservationError;
+        private final Action onObservationComplete;
+        private Action removal;
+        private volatile boolean isRegistered;
+
+        Registration(Consumer<StorageItemChange<? extends Model>> onItemChanged,
+                     Consumer<DataStoreException> onObservationError,
+                     Action onObservationComplete) {
+            this.onItemChanged = Objects.requireNonNull(onItemChanged);
+            this.onObservationError = Objects.requireNonNull(onObservationError);
+            this.onObservationComplete = Objects.requireNonNull(onObservationComplete);
+        }
+    }
+}
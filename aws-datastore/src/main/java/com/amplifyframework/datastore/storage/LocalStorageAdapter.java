@@ -27,6 +27,7 @@ import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.DataStoreQueryIterator;
 
 import java.util.Iterator;
 import java.util.List;
@@ -112,6 +113,23 @@ public interface LocalStorageAdapter {
             @NonNull Consumer<DataStoreException> onError
     );
 
+    /**
+     * Query the storage for items of a given type with specific conditions, reading
+     * each result out of storage only as the iterator provided to onSuccess advances.
+     * The iterator holds storage resources open until it is exhausted or canceled.
+     * @param itemClass Items that have this class will be solicited
+     * @param options options, such as predicates, pagination to apply to query
+     * @param onSuccess A callback that will be notified with an iterator over the results
+     * @param onError A callback that will be notified if the query fails with an error
+     * @param <T> Type type of the items that are being queried
+     */
+    <T extends Model> void queryLazily(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<DataStoreQueryIterator<T>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
     /**
      * Query the storage for items of a given type with specific conditions.
      * @param modelName name of the Model to query
@@ -145,6 +163,24 @@ public interface LocalStorageAdapter {
             @NonNull Consumer<DataStoreException> onError
     );
 
+    /**
+     * Applies a list of saves and deletes to the storage as a single unit of work.
+     * The operations are applied in the order they are provided. Either all of the
+     * operations are applied, or none are: if any one of them fails, the storage is
+     * left as it was before the batch began, and the error callback is invoked.
+     * Changes are only published to observers of the storage (see
+     * {@link #observe(Consumer, Consumer, Action)}) after the entire batch has been applied.
+     * @param operations Saves and deletes to apply, in order
+     * @param onSuccess A callback that will be invoked with the change that resulted from
+     *                  each operation, in the order that the operations were provided
+     * @param onError A callback that will be invoked if the batch could not be applied
+     */
+    void batch(
+            @NonNull List<StorageOperation<? extends Model>> operations,
+            @NonNull Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError
+    );
+
     /**
      * Observe all changes to that occur to any/all objects in the storage.
      * @param onItemChange
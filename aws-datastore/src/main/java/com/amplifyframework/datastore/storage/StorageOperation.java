@@ -0,0 +1,206 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.core.util.ObjectsCompat;
+
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
+
+import java.util.Objects;
+
+/**
+ * A single save or delete that has been requested of a {@link LocalStorageAdapter},
+ * but not yet applied. A list of these operations may be handed to
+ * {@link LocalStorageAdapter#batch(java.util.List, com.amplifyframework.core.Consumer,
+ * com.amplifyframework.core.Consumer)}, so that they are all applied as a single unit of work.
+ * @param <T> Type of model being saved or deleted
+ */
+public final class StorageOperation<T extends Model> {
+    private final Type type;
+    private final T item;
+    private final StorageItemChange.Initiator initiator;
+    private final QueryPredicate predicate;
+
+    private StorageOperation(
+            Type type, T item, StorageItemChange.Initiator initiator, QueryPredicate predicate) {
+        this.type = type;
+        this.item = item;
+        this.initiator = initiator;
+        this.predicate = predicate;
+    }
+
+    /**
+     * Creates an operation that will save an item, unconditionally.
+     * @param item Item to save
+     * @param initiator The actor who initiated the save
+     * @param <T> Type of item being saved
+     * @return An operation that will save the item
+     */
+    @NonNull
+    public static <T extends Model> StorageOperation<T> save(
+            @NonNull T item, @NonNull StorageItemChange.Initiator initiator) {
+        return save(item, initiator, QueryPredicates.all());
+    }
+
+    /**
+     * Creates an operation that will save an item, if an existing copy of it
+     * meets a condition.
+     * @param item Item to save
+     * @param initiator The actor who initiated the save
+     * @param predicate Condition for a conditional write
+     * @param <T> Type of item being saved
+     * @return An operation that will save the item
+     */
+    @NonNull
+    public static <T extends Model> StorageOperation<T> save(
+            @NonNull T item,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull QueryPredicate predicate) {
+        return new StorageOperation<>(
+            Type.SAVE,
+            Objects.requireNonNull(item),
+            Objects.requireNonNull(initiator),
+            Objects.requireNonNull(predicate)
+        );
+    }
+
+    /**
+     * Creates an operation that will delete an item, unconditionally.
+     * @param item Item to delete
+     * @param initiator The actor who initiated the deletion
+     * @param <T> Type of item being deleted
+     * @return An operation that will delete the item
+     */
+    @NonNull
+    public static <T extends Model> StorageOperation<T> delete(
+            @NonNull T item, @NonNull StorageItemChange.Initiator initiator) {
+        return delete(item, initiator, QueryPredicates.all());
+    }
+
+    /**
+     * Creates an operation that will delete an item, if the existing copy of it
+     * meets a condition.
+     * @param item Item to delete
+     * @param initiator The actor who initiated the deletion
+     * @param predicate Condition for a conditional delete
+     * @param <T> Type of item being deleted
+     * @return An operation that will delete the item
+     */
+    @NonNull
+    public static <T extends Model> StorageOperation<T> delete(
+            @NonNull T item,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull QueryPredicate predicate) {
+        return new StorageOperation<>(
+            Type.DELETE,
+            Objects.requireNonNull(item),
+            Objects.requireNonNull(initiator),
+            Objects.requireNonNull(predicate)
+        );
+    }
+
+    /**
+     * Gets the type of the operation.
+     * @return Type of operation
+     */
+    @NonNull
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Gets the item being saved or deleted.
+     * @return Item being saved or deleted
+     */
+    @NonNull
+    public T item() {
+        return item;
+    }
+
+    /**
+     * Gets the actor who initiated the operation.
+     * @return Initiator of the operation
+     */
+    @NonNull
+    public StorageItemChange.Initiator initiator() {
+        return initiator;
+    }
+
+    /**
+     * Gets the condition that an existing copy of the item must meet,
+     * in order for the operation to be applied.
+     * @return Condition for the operation
+     */
+    @NonNull
+    public QueryPredicate predicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object thatObject) {
+        if (this == thatObject) {
+            return true;
+        }
+        if (thatObject == null || getClass() != thatObject.getClass()) {
+            return false;
+        }
+
+        StorageOperation<?> that = (StorageOperation<?>) thatObject;
+        return ObjectsCompat.equals(type, that.type) &&
+            ObjectsCompat.equals(item, that.item) &&
+            ObjectsCompat.equals(initiator, that.initiator) &&
+            ObjectsCompat.equals(predicate, that.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.hashCode();
+        result = 31 * result + item.hashCode();
+        result = 31 * result + initiator.hashCode();
+        result = 31 * result + predicate.hashCode();
+        return result;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "StorageOperation{" +
+            "type=" + type +
+            ", item=" + item +
+            ", initiator=" + initiator +
+            ", predicate=" + predicate +
+            '}';
+    }
+
+    /**
+     * The type of operation to apply to an item.
+     */
+    public enum Type {
+        /**
+         * Create the item, or update it if it already exists.
+         */
+        SAVE,
+
+        /**
+         * Delete the item.
+         */
+        DELETE
+    }
+}
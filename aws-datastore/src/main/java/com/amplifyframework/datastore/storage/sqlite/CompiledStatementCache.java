@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A cache of {@link SQLiteStatement}s, keyed by the SQL text from which they were compiled.
+ *
+ * Compiling a statement requires SQLite to parse and plan it, which is a significant
+ * part of the cost of a single-row write. Only statements of which there are a small, fixed
+ * number per table should be cached, such as those which insert a model, or find a row by its ID.
+ * Each of them only needs to be compiled once. Statements whose text varies with the shape of
+ * a predicate may be compiled for a single use, with {@link #compileOnce(String)}, instead, so
+ * that the number of open statements doesn't grow with the number of distinct predicates.
+ *
+ * The cached statements remain open until {@link #clear()} is called. This must happen
+ * before the underlying database connection is closed.
+ */
+final class CompiledStatementCache {
+    private final SQLiteDatabase databaseConnectionHandle;
+    private final Map<String, SQLiteStatement> compiledStatements;
+    private final Set<SQLiteStatement> singleUseStatements;
+
+    /**
+     * Constructs a new CompiledStatementCache.
+     * @param databaseConnectionHandle Connection against which statements will be compiled
+     */
+    CompiledStatementCache(@NonNull SQLiteDatabase databaseConnectionHandle) {
+        this.databaseConnectionHandle = Objects.requireNonNull(databaseConnectionHandle);
+        this.compiledStatements = new HashMap<>();
+        this.singleUseStatements = new HashSet<>();
+    }
+
+    /**
+     * Gets a compiled statement for some SQL text. If the statement has not been
+     * compiled before, it will be compiled and retained for subsequent calls.
+     * @param sqlStatement SQL text of a statement
+     * @return A compiled statement for the provided SQL text
+     */
+    @NonNull
+    @WorkerThread
+    synchronized SQLiteStatement get(@NonNull String sqlStatement) {
+        Objects.requireNonNull(sqlStatement);
+        SQLiteStatement compiledSqlStatement = compiledStatements.get(sqlStatement);
+        if (compiledSqlStatement == null) {
+            compiledSqlStatement = databaseConnectionHandle.compileStatement(sqlStatement);
+            compiledStatements.put(sqlStatement, compiledSqlStatement);
+        }
+        return compiledSqlStatement;
+    }
+
+    /**
+     * Compiles a statement for a single use, without retaining it for subsequent calls.
+     * The statement must be handed to {@link #release(SQLiteStatement)} once it has been executed.
+     * @param sqlStatement SQL text of a statement
+     * @return A newly compiled statement for the provided SQL text
+     */
+    @NonNull
+    @WorkerThread
+    synchronized SQLiteStatement compileOnce(@NonNull String sqlStatement) {
+        Objects.requireNonNull(sqlStatement);
+        SQLiteStatement compiledSqlStatement = databaseConnectionHandle.compileStatement(sqlStatement);
+        singleUseStatements.add(compiledSqlStatement);
+        return compiledSqlStatement;
+    }
+
+    /**
+     * Releases a statement once it has been executed. A statement that was compiled for
+     * a single use is closed; a cached statement is left open, to be used again.
+     * @param compiledSqlStatement A statement from {@link #get(String)} or {@link #compileOnce(String)}
+     */
+    synchronized void release(@NonNull SQLiteStatement compiledSqlStatement) {
+        Objects.requireNonNull(compiledSqlStatement);
+        if (singleUseStatements.remove(compiledSqlStatement)) {
+            compiledSqlStatement.close();
+        }
+    }
+
+    /**
+     * Gets the number of compiled statements currently held by the cache.
+     * @return Number of cached statements
+     */
+    synchronized int size() {
+        return compiledStatements.size();
+    }
+
+    /**
+     * Closes and forgets all compiled statements, including any single-use statements
+     * which haven't been released yet.
+     */
+    synchronized void clear() {
+        for (SQLiteStatement compiledSqlStatement : compiledStatements.values()) {
+            compiledSqlStatement.close();
+        }
+        compiledStatements.clear();
+        for (SQLiteStatement compiledSqlStatement : singleUseStatements) {
+            compiledSqlStatement.close();
+        }
+        singleUseStatements.clear();
+    }
+}
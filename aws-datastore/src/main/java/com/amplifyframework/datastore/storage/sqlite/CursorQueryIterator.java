@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.Cursor;
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.DataStoreQueryIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@link DataStoreQueryIterator} which is backed by an open SQLite {@link Cursor}.
+ * A model is only read out of the cursor when {@link #next()} is called, so at most one
+ * window of rows is held in memory at a time, no matter how many rows the query matches.
+ * The cursor is closed as soon as it is exhausted, fails, or the iterator is canceled.
+ * @param <T> Type of model being iterated
+ */
+final class CursorQueryIterator<T extends Model> implements DataStoreQueryIterator<T> {
+    private final Cursor cursor;
+    private final SQLiteModelFieldTypeConverter converter;
+    private final ModelMaterializer<T> materializer;
+    private boolean isPositioned;
+    private boolean hasRow;
+    private boolean isClosed;
+
+    /**
+     * Constructs a new CursorQueryIterator.
+     * @param cursor An open cursor over the results of a query, positioned before the first row
+     * @param converter Reads field values out of the cursor
+     * @param materializer Constructs models from the field values
+     */
+    CursorQueryIterator(
+            @NonNull Cursor cursor,
+            @NonNull SQLiteModelFieldTypeConverter converter,
+            @NonNull ModelMaterializer<T> materializer) {
+        this.cursor = Objects.requireNonNull(cursor);
+        this.converter = Objects.requireNonNull(converter);
+        this.materializer = Objects.requireNonNull(materializer);
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (isClosed) {
+            return false;
+        }
+        if (!isPositioned) {
+            hasRow = cursor.moveToNext();
+            isPositioned = true;
+            if (!hasRow) {
+                cancel();
+            }
+        }
+        return hasRow;
+    }
+
+    @NonNull
+    @Override
+    public synchronized T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more results.");
+        }
+        isPositioned = false;
+        try {
+            return materializer.fromMap(converter.buildMapForModel(cursor));
+        } catch (DataStoreException exception) {
+            cancel();
+            throw new IllegalStateException("Error reading a query result out of storage.", exception);
+        }
+    }
+
+    @Override
+    public synchronized void cancel() {
+        if (!isClosed) {
+            isClosed = true;
+            cursor.close();
+        }
+    }
+}
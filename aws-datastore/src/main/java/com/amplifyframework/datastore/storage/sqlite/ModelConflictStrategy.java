@@ -1,33 +0,0 @@
-/*
- * Copyright 2019 Amazon.com, Inc. or its affiliates. All Rights Reserved.
- *
- * Licensed under the Apache License, Version 2.0 (the "License").
- * You may not use this file except in compliance with the License.
- * A copy of the License is located at
- *
- *  http://aws.amazon.com/apache2.0
- *
- * or in the "license" file accompanying this file. This file is distributed
- * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
- * express or implied. See the License for the specific language governing
- * permissions and limitations under the License.
- */
-
-package com.amplifyframework.datastore.storage.sqlite;
-
-/**
- * The strategy to be used when there is an existing model with the same ID.
- */
-enum ModelConflictStrategy {
-    /**
-     * Ignore the existing model. Just overwrite (update) it.
-     * This may be the appropriate strategy for an update to an existing item.
-     */
-    OVERWRITE_EXISTING,
-
-    /**
-     * This situation constitutes an error, so we should throw an exception.
-     * This may be the appropriate strategy when inserting a newly created model instance.
-     */
-    THROW_EXCEPTION
-}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.Amplify;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.logging.Logger;
+
+import com.google.gson.Gson;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Constructs instances of a {@link Model} class directly from the map of field values
+ * that is read out of a row of its SQLite table (see
+ * {@link SQLiteModelFieldTypeConverter#buildMapForModel(android.database.Cursor)}).
+ *
+ * Previously, that map was serialized to a JSON string, and then parsed back into the
+ * model with Gson. Instead, the fields of the model class are looked up once, when the
+ * materializer is created, and each row's values are then assigned to a new instance
+ * directly. Gson is only used for the few values that can't be assigned as-is, such as
+ * a list of custom types, which is read out of the table without its element type.
+ *
+ * Instances are created the same way that Gson creates them: through a no-arg constructor
+ * if the class has one, or otherwise without running any constructor at all. If neither
+ * is possible on the current runtime, the materializer falls back to Gson entirely.
+ * @param <T> Type of model being materialized
+ */
+final class ModelMaterializer<T extends Model> {
+    private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
+
+    private final Class<T> modelClass;
+    private final Gson gson;
+    private final Map<String, FieldWriter> fieldWriters;
+    private final Instantiator<T> instantiator;
+
+    /**
+     * Constructs a new ModelMaterializer.
+     * @param modelClass Class of model to materialize
+     * @param gson Gson used for values that cannot be assigned to the model's fields directly
+     */
+    ModelMaterializer(@NonNull Class<T> modelClass, @NonNull Gson gson) {
+        this.modelClass = Objects.requireNonNull(modelClass);
+        this.gson = Objects.requireNonNull(gson);
+        this.fieldWriters = new HashMap<>();
+        for (Class<?> type = modelClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || fieldWriters.containsKey(field.getName())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fieldWriters.put(field.getName(), new FieldWriter(field, gson));
+            }
+        }
+        this.instantiator = instantiatorFor(modelClass);
+    }
+
+    /**
+     * Constructs a model from a map of field names to field values.
+     * Fields that are missing from the map, or that have null values, are left unset.
+     * @param mapForModel Map of field names to field values
+     * @return A model instance
+     * @throws DataStoreException If the model can't be constructed from the values
+     */
+    @NonNull
+    T fromMap(@NonNull Map<String, Object> mapForModel) throws DataStoreException {
+        if (instantiator == null) {
+            return gson.fromJson(gson.toJsonTree(mapForModel), modelClass);
+        }
+        try {
+            final T model = instantiator.newInstance();
+            for (Map.Entry<String, Object> entry : mapForModel.entrySet()) {
+                final FieldWriter fieldWriter = fieldWriters.get(entry.getKey());
+                if (fieldWriter != null && entry.getValue() != null) {
+                    fieldWriter.write(model, entry.getValue());
+                }
+            }
+            return model;
+        } catch (DataStoreException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new DataStoreException(
+                "Error constructing an instance of " + modelClass.getName() + " from a row of its table.",
+                exception, AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+            );
+        }
+    }
+
+    // Finds a way to create instances of the class, or returns null if there is none.
+    @Nullable
+    private static <T> Instantiator<T> instantiatorFor(@NonNull Class<T> clazz) {
+        try {
+            final Constructor<T> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor::newInstance;
+        } catch (NoSuchMethodException noConstructor) {
+            // Generated models only have an all-args constructor. Allocate without one.
+        }
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            final Method allocateInstance = unsafeClass.getMethod("allocateInstance", Class.class);
+            return () -> clazz.cast(allocateInstance.invoke(unsafe, clazz));
+        } catch (Exception unavailable) {
+            LOG.warn("Unable to allocate instances of " + clazz.getName() + " directly. Falling back to Gson.");
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new, empty instance of a class.
+     * @param <T> Type of instance
+     */
+    private interface Instantiator<T> {
+        T newInstance() throws Exception;
+    }
+
+    /**
+     * Assigns values to one field of a model.
+     */
+    private static final class FieldWriter {
+        private final Field field;
+        private final Class<?> boxedType;
+        private final boolean isGeneric;
+        private final Gson gson;
+        private ModelMaterializer<? extends Model> nestedMaterializer;
+
+        FieldWriter(Field field, Gson gson) {
+            this.field = field;
+            this.boxedType = box(field.getType());
+            this.isGeneric = field.getGenericType() instanceof ParameterizedType;
+            this.gson = gson;
+        }
+
+        @SuppressWarnings("unchecked")
+        void write(Object instance, Object value) throws Exception {
+            final Object fieldValue;
+            if (value instanceof Map && Model.class.isAssignableFrom(boxedType)) {
+                // An associated model, which was joined into the same row.
+                fieldValue = nestedMaterializer().fromMap((Map<String, Object>) value);
+            } else if (!isGeneric && boxedType.isInstance(value)) {
+                fieldValue = value;
+            } else if (value instanceof Number && Number.class.isAssignableFrom(boxedType)) {
+                fieldValue = convertNumber((Number) value, boxedType);
+            } else {
+                fieldValue = gson.fromJson(gson.toJsonTree(value), field.getGenericType());
+            }
+            field.set(instance, fieldValue);
+        }
+
+        // Nested materializers are created lazily, since associations may be cyclic.
+        @SuppressWarnings("unchecked")
+        private synchronized ModelMaterializer<? extends Model> nestedMaterializer() {
+            if (nestedMaterializer == null) {
+                nestedMaterializer = new ModelMaterializer<>((Class<? extends Model>) boxedType, gson);
+            }
+            return nestedMaterializer;
+        }
+
+        private static Object convertNumber(Number value, Class<?> numberType) {
+            if (Integer.class.equals(numberType)) {
+                return value.intValue();
+            } else if (Long.class.equals(numberType)) {
+                return value.longValue();
+            } else if (Float.class.equals(numberType)) {
+                return value.floatValue();
+            } else if (Double.class.equals(numberType)) {
+                return value.doubleValue();
+            } else if (Short.class.equals(numberType)) {
+                return value.shortValue();
+            } else if (Byte.class.equals(numberType)) {
+                return value.byteValue();
+            }
+            return value;
+        }
+
+        private static Class<?> box(Class<?> type) {
+            if (!type.isPrimitive()) {
+                return type;
+            } else if (int.class.equals(type)) {
+                return Integer.class;
+            } else if (long.class.equals(type)) {
+                return Long.class;
+            } else if (boolean.class.equals(type)) {
+                return Boolean.class;
+            } else if (float.class.equals(type)) {
+                return Float.class;
+            } else if (double.class.equals(type)) {
+                return Double.class;
+            } else if (short.class.equals(type)) {
+                return Short.class;
+            } else if (byte.class.equals(type)) {
+                return Byte.class;
+            }
+            return Character.class;
+        }
+    }
+}
@@ -68,6 +68,30 @@ interface SQLCommandFactory {
     @NonNull
     SqlCommand insertFor(@NonNull ModelSchema modelSchema);
 
+    /**
+     * Generates the INSERT OR IGNORE INTO command in a raw string representation and a
+     * compiled prepared statement that can be bound later with inputs. Unlike the command
+     * from {@link #insertFor(ModelSchema)}, this command does not fail when there is
+     * already a row with the same primary key; it simply inserts nothing.
+     *
+     * @param modelSchema schema of the model
+     * @return the SQL command that encapsulates the INSERT OR IGNORE INTO command
+     */
+    @NonNull
+    SqlCommand insertOrIgnoreFor(@NonNull ModelSchema modelSchema);
+
+    /**
+     * Generates a SELECT COUNT(*) command in a raw string representation and a compiled
+     * prepared statement, which counts the rows of a model's table that match a predicate.
+     *
+     * @param modelSchema schema of the model
+     * @param predicate condition that counted rows must match
+     * @return the SQL command that encapsulates the SELECT COUNT(*) command
+     */
+    @NonNull
+    SqlCommand existsFor(@NonNull ModelSchema modelSchema,
+                         @NonNull QueryPredicate predicate) throws DataStoreException;
+
     /**
      * Generates the UPDATE command in a raw string representation and a compiled
      * prepared statement that can be bound later with inputs.
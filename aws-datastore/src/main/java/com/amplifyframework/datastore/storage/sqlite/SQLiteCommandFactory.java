@@ -29,7 +29,9 @@ import com.amplifyframework.core.model.PrimaryKey;
 import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.QueryPaginationInput;
 import com.amplifyframework.core.model.query.QuerySortBy;
+import com.amplifyframework.core.model.query.predicate.QueryOperator;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicateOperation;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLPredicate;
@@ -43,37 +45,45 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A factory that produces the SQLite commands for a given
  * {@link Model} and {@link ModelSchema}.
  */
 final class SQLiteCommandFactory implements SQLCommandFactory {
-    private final ModelSchemaRegistry modelSchemaRegistry;
+    // Table metadata and SELECT text derived from each model schema.
+    private final SchemaMetadataCache schemaMetadataCache;
 
-    // Connection handle to a SQLiteDatabase.
-    private final SQLiteDatabase databaseConnectionHandle;
+    // Cache of statements compiled against a SQLiteDatabase.
+    private final CompiledStatementCache compiledStatementCache;
+
+    // INSERT statements only vary by model, so their SQL text is built once per model name
+    // (and per insert clause).
+    private final Map<String, String> insertStatements;
 
     /**
      * Default constructor.
      */
     SQLiteCommandFactory(ModelSchemaRegistry modelSchemaRegistry) {
-        this(modelSchemaRegistry, null);
+        this(new SchemaMetadataCache(modelSchemaRegistry), null);
     }
 
     /**
-     * Constructor with databaseConnectionHandle.
-     * @param databaseConnectionHandle connection to a SQLiteDatabase.
+     * Constructor with schemaMetadataCache and compiledStatementCache.
+     * @param schemaMetadataCache cache of table metadata derived from model schema.
+     * @param compiledStatementCache cache of statements compiled against a SQLiteDatabase.
      */
     SQLiteCommandFactory(
-            @NonNull ModelSchemaRegistry modelSchemaRegistry,
-            @Nullable SQLiteDatabase databaseConnectionHandle) {
-        this.modelSchemaRegistry = Objects.requireNonNull(modelSchemaRegistry);
-        this.databaseConnectionHandle = databaseConnectionHandle;
+            @NonNull SchemaMetadataCache schemaMetadataCache,
+            @Nullable CompiledStatementCache compiledStatementCache) {
+        this.schemaMetadataCache = Objects.requireNonNull(schemaMetadataCache);
+        this.compiledStatementCache = compiledStatementCache;
+        this.insertStatements = new ConcurrentHashMap<>();
     }
 
     /**
@@ -82,7 +92,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @NonNull
     @Override
     public SqlCommand createTableFor(@NonNull ModelSchema modelSchema) {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaMetadataCache.tableFor(modelSchema);
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("CREATE TABLE IF NOT EXISTS")
                 .append(SqlKeyword.DELIMITER)
@@ -110,7 +120,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @NonNull
     @Override
     public Set<SqlCommand> createIndexesFor(@NonNull ModelSchema modelSchema) {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaMetadataCache.tableFor(modelSchema);
         Set<SqlCommand> indexCommands = new HashSet<>();
 
         for (ModelIndex modelIndex : modelSchema.getIndexes().values()) {
@@ -151,54 +161,13 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @Override
     public SqlCommand queryFor(@NonNull ModelSchema modelSchema,
                                @NonNull QueryOptions options) throws DataStoreException {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
-        final String tableName = table.getName();
-        StringBuilder rawQuery = new StringBuilder();
-        StringBuilder selectColumns = new StringBuilder();
-        StringBuilder joinStatement = new StringBuilder();
+        final SQLiteTable table = schemaMetadataCache.tableFor(modelSchema);
+        // SELECT columns FROM tableName, followed by any JOINs, is the same for every query
+        // of the model; only the clauses that follow it vary.
+        final SqlCommand selectCommand = schemaMetadataCache.selectFor(modelSchema);
+        final StringBuilder rawQuery = new StringBuilder(selectCommand.sqlStatement());
         final List<Object> bindings = new ArrayList<>();
 
-        // Track the list of columns to return
-        List<SQLiteColumn> columns = new LinkedList<>(table.getSortedColumns());
-
-        // Joins the foreign keys
-        recursivelyBuildJoins(table, columns, joinStatement);
-
-        // Convert columns to comma-separated column names
-        Iterator<SQLiteColumn> columnsIterator = columns.iterator();
-        while (columnsIterator.hasNext()) {
-            final SQLiteColumn column = columnsIterator.next();
-            selectColumns.append(column.getQuotedColumnName());
-
-            // Alias primary keys to avoid duplicate column names
-            selectColumns.append(SqlKeyword.DELIMITER)
-                    .append(SqlKeyword.AS)
-                    .append(SqlKeyword.DELIMITER)
-                    .append(Wrap.inBackticks(column.getAliasedName()));
-
-            if (columnsIterator.hasNext()) {
-                selectColumns.append(",").append(SqlKeyword.DELIMITER);
-            }
-        }
-
-        // Start SELECT statement.
-        // SELECT columns FROM tableName
-        rawQuery.append(SqlKeyword.SELECT)
-                .append(SqlKeyword.DELIMITER)
-                .append(selectColumns.toString())
-                .append(SqlKeyword.DELIMITER)
-                .append(SqlKeyword.FROM)
-                .append(SqlKeyword.DELIMITER)
-                .append(Wrap.inBackticks(tableName));
-
-        // Append join statements.
-        // INNER JOIN tableOne ON tableName.id=tableOne.foreignKey
-        // LEFT JOIN tableTwo ON tableName.id=tableTwo.foreignKey
-        if (!joinStatement.toString().isEmpty()) {
-            rawQuery.append(SqlKeyword.DELIMITER)
-                    .append(joinStatement.toString());
-        }
-
         // Append predicates.
         // WHERE condition
         final QueryPredicate predicate = options.getQueryPredicate();
@@ -249,7 +218,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
 
         rawQuery.append(";");
         final String queryString = rawQuery.toString();
-        return new SqlCommand(table.getName(), queryString, columns, bindings);
+        return new SqlCommand(table.getName(), queryString, selectCommand.getColumns(), bindings);
     }
 
     /**
@@ -262,41 +231,55 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @WorkerThread
     @Override
     public SqlCommand insertFor(@NonNull ModelSchema modelSchema) {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
-        final StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("INSERT INTO")
-                .append(SqlKeyword.DELIMITER)
-                .append(Wrap.inBackticks(table.getName()))
-                .append(SqlKeyword.DELIMITER)
-                .append("(");
-        final List<SQLiteColumn> columns = table.getSortedColumns();
-        final Iterator<SQLiteColumn> columnsIterator = columns.iterator();
-        while (columnsIterator.hasNext()) {
-            final String columnName = columnsIterator.next().getName();
-            stringBuilder.append(Wrap.inBackticks(columnName));
-            if (columnsIterator.hasNext()) {
-                stringBuilder.append(",").append(SqlKeyword.DELIMITER);
-            }
-        }
-        stringBuilder.append(")")
-                .append(SqlKeyword.DELIMITER)
-                .append("VALUES")
-                .append(SqlKeyword.DELIMITER)
-                .append("(");
-        for (int i = 0; i < columns.size(); i++) {
-            if (i == columns.size() - 1) {
-                stringBuilder.append("?");
-            } else {
-                stringBuilder.append("?, ");
-            }
-        }
-        stringBuilder.append(")");
-        final String preparedInsertStatement = stringBuilder.toString();
-        final SQLiteStatement compiledInsertStatement =
-                databaseConnectionHandle == null ?
-                null : databaseConnectionHandle.compileStatement(preparedInsertStatement);
-        return new SqlCommand(table.getName(), preparedInsertStatement, columns,
-                Collections.emptyList(), compiledInsertStatement);
+        return insertFor(modelSchema, "INSERT INTO");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method should be invoked from a worker thread and not from the main thread
+     * as this method calls {@link SQLiteDatabase#compileStatement(String)}.
+     */
+    @NonNull
+    @WorkerThread
+    @Override
+    public SqlCommand insertOrIgnoreFor(@NonNull ModelSchema modelSchema) {
+        return insertFor(modelSchema, "INSERT OR IGNORE INTO");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This method should be invoked from a worker thread and not from the main thread
+     * as this method calls {@link SQLiteDatabase#compileStatement(String)}.
+     */
+    @NonNull
+    @WorkerThread
+    @Override
+    public SqlCommand existsFor(@NonNull ModelSchema modelSchema,
+                                @NonNull QueryPredicate predicate) throws DataStoreException {
+        final SQLiteTable table = schemaMetadataCache.tableFor(modelSchema);
+        final SQLPredicate sqlPredicate = new SQLPredicate(predicate);
+
+        final String preparedExistsStatement = "" +
+                SqlKeyword.SELECT +
+                SqlKeyword.DELIMITER +
+                "COUNT(*)" +
+                SqlKeyword.DELIMITER +
+                SqlKeyword.FROM +
+                SqlKeyword.DELIMITER +
+                Wrap.inBackticks(table.getName()) +
+                SqlKeyword.DELIMITER +
+                SqlKeyword.WHERE +
+                SqlKeyword.DELIMITER +
+                sqlPredicate +
+                ";";
+        return new SqlCommand(table.getName(),
+                preparedExistsStatement,
+                Collections.emptyList(),
+                sqlPredicate.getBindings(),
+                compile(preparedExistsStatement, isIdCheck(table, predicate))
+        );
     }
 
     /**
@@ -310,7 +293,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @Override
     public SqlCommand updateFor(@NonNull ModelSchema modelSchema,
                                 @NonNull QueryPredicate predicate) throws DataStoreException {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaMetadataCache.tableFor(modelSchema);
         final StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("UPDATE")
                 .append(SqlKeyword.DELIMITER)
@@ -345,14 +328,11 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
                 .append(";");
 
         final String preparedUpdateStatement = stringBuilder.toString();
-        final SQLiteStatement compiledUpdateStatement =
-                databaseConnectionHandle == null ?
-                null : databaseConnectionHandle.compileStatement(preparedUpdateStatement);
         return new SqlCommand(table.getName(),
                 preparedUpdateStatement,
                 columns,
                 sqlPredicate.getBindings(),
-                compiledUpdateStatement
+                compile(preparedUpdateStatement, isIdCheck(table, predicate))
         );
     }
 
@@ -363,7 +343,7 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
     @Override
     public SqlCommand deleteFor(@NonNull ModelSchema modelSchema,
                                 @NonNull QueryPredicate predicate) throws DataStoreException {
-        final SQLiteTable table = SQLiteTable.fromSchema(modelSchema);
+        final SQLiteTable table = schemaMetadataCache.tableFor(modelSchema);
         final SQLPredicate sqlPredicate = new SQLPredicate(predicate);
 
         final String preparedDeleteStatement =
@@ -375,55 +355,82 @@ final class SQLiteCommandFactory implements SQLCommandFactory {
                 SqlKeyword.DELIMITER +
                 sqlPredicate +
                 ";";
-        final SQLiteStatement compiledDeleteStatement =
-                databaseConnectionHandle == null ?
-                null : databaseConnectionHandle.compileStatement(preparedDeleteStatement);
         return new SqlCommand(table.getName(),
                 preparedDeleteStatement,
                 Collections.emptyList(),
                 sqlPredicate.getBindings(),
-                compiledDeleteStatement
+                compile(preparedDeleteStatement, isIdCheck(table, predicate))
         );
     }
 
-    /**
-     * Recursively build joins for multilevel nested joins.
-     *
-     */
-    private void recursivelyBuildJoins(SQLiteTable table, List<SQLiteColumn> columns,
-                                       StringBuilder joinStatement) {
-        // Joins the foreign keys
-        // LEFT JOIN if foreign key is optional, INNER JOIN otherwise.
-        final Iterator<SQLiteColumn> foreignKeyIterator = table.getForeignKeys().iterator();
-        while (foreignKeyIterator.hasNext()) {
-            final SQLiteColumn foreignKey = foreignKeyIterator.next();
-            final String ownedTableName = foreignKey.getOwnedType();
-            final ModelSchema ownedSchema = modelSchemaRegistry.getModelSchemaForModelClass(ownedTableName);
-            final SQLiteTable ownedTable = SQLiteTable.fromSchema(ownedSchema);
+    // Gets a compiled statement for the SQL text, or null if there is no database against which
+    // statements can be compiled. Only statements of which there are a fixed few per table are
+    // cached. The others are compiled for a single use, and closed when the cache releases them.
+    @Nullable
+    private SQLiteStatement compile(@NonNull String preparedStatement, boolean isCacheable) {
+        if (compiledStatementCache == null) {
+            return null;
+        }
+        return isCacheable ?
+            compiledStatementCache.get(preparedStatement) : compiledStatementCache.compileOnce(preparedStatement);
+    }
 
-            columns.addAll(ownedTable.getSortedColumns());
+    // Whether a predicate only finds a row of the table by its ID. Statements built for such a
+    // predicate have the same text for every row, unlike those built for arbitrary conditions.
+    private static boolean isIdCheck(@NonNull SQLiteTable table, @NonNull QueryPredicate predicate) {
+        if (!(predicate instanceof QueryPredicateOperation)) {
+            return false;
+        }
+        QueryPredicateOperation<?> operation = (QueryPredicateOperation<?>) predicate;
+        return table.getPrimaryKeyColumnName().equals(operation.field()) &&
+            QueryOperator.Type.EQUAL.equals(operation.operator().type());
+    }
 
-            SqlKeyword joinType = foreignKey.isNonNull()
-                ? SqlKeyword.INNER_JOIN
-                : SqlKeyword.LEFT_JOIN;
+    // Builds an INSERT command for a model, which begins with the provided insert clause.
+    private SqlCommand insertFor(ModelSchema modelSchema, String insertClause) {
+        final SQLiteTable table = schemaMetadataCache.tableFor(modelSchema);
+        final List<SQLiteColumn> columns = table.getSortedColumns();
+        final String cacheKey = insertClause + SqlKeyword.DELIMITER + table.getName();
+        String preparedInsertStatement = insertStatements.get(cacheKey);
+        if (preparedInsertStatement == null) {
+            preparedInsertStatement = buildInsertStatement(table, insertClause);
+            insertStatements.put(cacheKey, preparedInsertStatement);
+        }
+        return new SqlCommand(table.getName(), preparedInsertStatement, columns,
+                Collections.emptyList(), compile(preparedInsertStatement, true));
+    }
 
-            joinStatement.append(joinType)
+    // Utility method to build the text of an INSERT statement for a table
+    private String buildInsertStatement(SQLiteTable table, String insertClause) {
+        final StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(insertClause)
                 .append(SqlKeyword.DELIMITER)
-                .append(Wrap.inBackticks(ownedTableName))
+                .append(Wrap.inBackticks(table.getName()))
                 .append(SqlKeyword.DELIMITER)
-                .append(SqlKeyword.ON)
+                .append("(");
+        final List<SQLiteColumn> columns = table.getSortedColumns();
+        final Iterator<SQLiteColumn> columnsIterator = columns.iterator();
+        while (columnsIterator.hasNext()) {
+            final String columnName = columnsIterator.next().getName();
+            stringBuilder.append(Wrap.inBackticks(columnName));
+            if (columnsIterator.hasNext()) {
+                stringBuilder.append(",").append(SqlKeyword.DELIMITER);
+            }
+        }
+        stringBuilder.append(")")
                 .append(SqlKeyword.DELIMITER)
-                .append(foreignKey.getQuotedColumnName())
-                .append(SqlKeyword.EQUAL)
-                .append(ownedTable.getPrimaryKeyColumnName());
-
-            if (foreignKeyIterator.hasNext()) {
-                joinStatement.append(SqlKeyword.DELIMITER);
+                .append("VALUES")
+                .append(SqlKeyword.DELIMITER)
+                .append("(");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i == columns.size() - 1) {
+                stringBuilder.append("?");
+            } else {
+                stringBuilder.append("?, ");
             }
-
-            // important that this comes last to maintain the order of the joins
-            recursivelyBuildJoins(ownedTable, columns, joinStatement);
         }
+        stringBuilder.append(")");
+        return stringBuilder.toString();
     }
 
     // Utility method to parse columns in CREATE TABLE
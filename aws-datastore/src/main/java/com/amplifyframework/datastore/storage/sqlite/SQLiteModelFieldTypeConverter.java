@@ -38,9 +38,14 @@ import com.amplifyframework.logging.Logger;
 import com.google.gson.Gson;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,6 +60,9 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
     private final ModelSchemaRegistry modelSchemaRegistry;
     private final Gson gson;
     private final Map<String, SQLiteColumn> columns;
+    private final Map<String, SQLiteModelFieldTypeConverter> nestedConverters;
+    private final Map<String, FieldWriter> fieldWriters;
+    private volatile ReadPlan readPlan;
 
     SQLiteModelFieldTypeConverter(
             @NonNull ModelSchema parentSchema,
@@ -65,6 +73,8 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
         this.modelSchemaRegistry = Objects.requireNonNull(modelSchemaRegistry);
         this.gson = Objects.requireNonNull(gson);
         this.columns = SQLiteTable.fromSchema(parentSchema).getColumns();
+        this.nestedConverters = new ConcurrentHashMap<>();
+        this.fieldWriters = new ConcurrentHashMap<>();
     }
 
     /**
@@ -124,9 +134,10 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
     }
 
     Map<String, Object> buildMapForModel(@NonNull Cursor cursor) throws DataStoreException {
-        final Map<String, Object> mapForModel = new HashMap<>();
-        for (Map.Entry<String, ModelField> entry : parentSchema.getFields().entrySet()) {
-            mapForModel.put(entry.getKey(), convertValueFromSource(cursor, entry.getValue()));
+        final ReadPlan plan = readPlanFor(cursor);
+        final Map<String, Object> mapForModel = new HashMap<>(plan.fieldReaders.size());
+        for (FieldReader fieldReader : plan.fieldReaders) {
+            mapForModel.put(fieldReader.field.getName(), read(cursor, fieldReader));
         }
         return mapForModel;
     }
@@ -136,35 +147,40 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
             @NonNull Cursor cursor,
             @NonNull ModelField field
     ) throws DataStoreException {
-        final JavaFieldType javaFieldType = TypeConverter.getJavaFieldType(field);
+        final FieldReader fieldReader = readPlanFor(cursor).fieldReadersByName.get(field.getName());
+        if (fieldReader == null) {
+            LOGGER.warn(String.format("Column with name %s does not exist", field.getName()));
+            return null;
+        }
+        return read(cursor, fieldReader);
+    }
+
+    // Reads the value of one field out of the current row of the cursor.
+    private Object read(@NonNull Cursor cursor, @NonNull FieldReader fieldReader) throws DataStoreException {
+        final ModelField field = fieldReader.field;
+        final int columnIndex = fieldReader.columnIndex;
+        // Skip if there is no equivalent column for field in object
+        if (columnIndex == FieldReader.NO_COLUMN) {
+            return null;
+        }
         try {
-            // Skip if there is no equivalent column for field in object
-            final SQLiteColumn column = columns.get(field.getName());
-            if (column == null) {
-                LOGGER.warn(String.format("Column with name %s does not exist", field.getName()));
-                return null;
+            if (columnIndex == FieldReader.COLUMN_NOT_IN_CURSOR) {
+                throw new IllegalArgumentException(
+                    "Column " + fieldReader.aliasedColumnName + " is not present in the query results."
+                );
             }
-
-            final String columnName = column.getAliasedName();
-            final int columnIndex = cursor.getColumnIndexOrThrow(columnName);
             // This check is necessary, because primitive values will return 0 even when null
             if (cursor.isNull(columnIndex)) {
                 return null;
             }
 
-            final String valueAsString = cursor.getString(columnIndex);
-            LOGGER.verbose(String.format(
-                    "Attempt to convert value \"%s\" from field %s of type %s in model %s",
-                    valueAsString, field.getName(), field.getTargetType(), parentSchema.getName()
-            ));
-
-            switch (javaFieldType) {
+            switch (fieldReader.javaFieldType) {
                 case STRING:
                     return cursor.getString(columnIndex);
                 case MODEL:
                     return convertModelAssociationToTarget(cursor, field);
                 case ENUM:
-                    return convertEnumValueToTarget(valueAsString, field);
+                    return convertEnumValueToTarget(cursor.getString(columnIndex), field);
                 case CUSTOM_TYPE:
                     return convertCustomTypeToTarget(cursor, field, columnIndex);
                 case INTEGER:
@@ -178,15 +194,16 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
                 case LONG:
                     return cursor.getLong(columnIndex);
                 case DATE:
-                    return new Temporal.Date(valueAsString);
+                    return new Temporal.Date(cursor.getString(columnIndex));
                 case DATE_TIME:
-                    return new Temporal.DateTime(valueAsString);
+                    return new Temporal.DateTime(cursor.getString(columnIndex));
                 case TIME:
-                    return new Temporal.Time(valueAsString);
+                    return new Temporal.Time(cursor.getString(columnIndex));
                 case TIMESTAMP:
                     return new Temporal.Timestamp(cursor.getLong(columnIndex), TimeUnit.SECONDS);
                 default:
-                    LOGGER.warn(String.format("Field of type %s is not supported. Fallback to null.", javaFieldType));
+                    LOGGER.warn(String.format("Field of type %s is not supported. Fallback to null.",
+                        fieldReader.javaFieldType));
                     return null;
             }
         } catch (Exception exception) {
@@ -199,15 +216,31 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
         }
     }
 
+    // Gets a plan for reading rows out of the cursor. All queries for a given model
+    // select the same columns, so the plan from a previous cursor is usually re-used.
+    private ReadPlan readPlanFor(@NonNull Cursor cursor) {
+        final String[] columnNames = cursor.getColumnNames();
+        ReadPlan plan = readPlan;
+        if (plan == null || !Arrays.equals(plan.columnNames, columnNames)) {
+            plan = new ReadPlan(columnNames, cursor);
+            readPlan = plan;
+        }
+        return plan;
+    }
+
     private Object convertModelAssociationToTarget(
             @NonNull Cursor cursor, @NonNull ModelField field) throws DataStoreException {
         // Eager load model if the necessary columns are present inside the cursor.
         // At the time of implementation, cursor should have been joined with these
         // columns IF AND ONLY IF the model is a foreign key to the inner model.
-        ModelSchema innerModelSchema =
-            modelSchemaRegistry.getModelSchemaForModelClass(field.getTargetType());
-        SQLiteModelFieldTypeConverter nestedModelConverter =
-            new SQLiteModelFieldTypeConverter(innerModelSchema, modelSchemaRegistry, gson);
+        SQLiteModelFieldTypeConverter nestedModelConverter = nestedConverters.get(field.getTargetType());
+        if (nestedModelConverter == null) {
+            ModelSchema innerModelSchema =
+                modelSchemaRegistry.getModelSchemaForModelClass(field.getTargetType());
+            nestedModelConverter =
+                new SQLiteModelFieldTypeConverter(innerModelSchema, modelSchemaRegistry, gson);
+            nestedConverters.put(field.getTargetType(), nestedModelConverter);
+        }
         return nestedModelConverter.buildMapForModel(cursor);
     }
 
@@ -228,16 +261,99 @@ public final class SQLiteModelFieldTypeConverter implements ModelFieldTypeConver
 
     @Override
     public Object convertValueFromTarget(Model model, ModelField field) throws DataStoreException {
-        Object fieldValue;
-        if (model.getClass() == SerializedModel.class) {
+        final FieldWriter fieldWriter = fieldWriterFor(model.getClass(), field);
+        final Object fieldValue;
+        if (fieldWriter.accessor == null) {
             fieldValue = ((SerializedModel) model).getValue(field);
         } else {
-            fieldValue = ModelHelper.getValue(model, field);
+            fieldValue = fieldWriter.accessor.get(model);
         }
         if (fieldValue == null) {
             return null;
         }
-        final JavaFieldType javaFieldType = TypeConverter.getJavaFieldType(field);
-        return convertRawValueToTarget(fieldValue, javaFieldType, gson);
+        return convertRawValueToTarget(fieldValue, fieldWriter.javaFieldType, gson);
+    }
+
+    // Gets the writer of a field, for models of a given class. Every model bound by this
+    // converter is usually of the same class, so the writer is looked up once per field.
+    private FieldWriter fieldWriterFor(@NonNull Class<? extends Model> modelClass, @NonNull ModelField field)
+            throws DataStoreException {
+        FieldWriter fieldWriter = fieldWriters.get(field.getName());
+        if (fieldWriter == null || fieldWriter.modelClass != modelClass || fieldWriter.field != field) {
+            final ModelHelper.FieldAccessor accessor = modelClass == SerializedModel.class
+                ? null
+                : ModelHelper.getAccessor(modelClass, field.getName());
+            fieldWriter = new FieldWriter(modelClass, field, accessor);
+            fieldWriters.put(field.getName(), fieldWriter);
+        }
+        return fieldWriter;
+    }
+
+    /**
+     * An immutable plan for reading the fields of the parent model out of rows of a cursor.
+     * It holds the cursor column index and Java type of every field, so that they only
+     * need to be looked up once per query shape, instead of once per cell.
+     */
+    private final class ReadPlan {
+        private final String[] columnNames;
+        private final List<FieldReader> fieldReaders;
+        private final Map<String, FieldReader> fieldReadersByName;
+
+        ReadPlan(String[] columnNames, Cursor cursor) {
+            this.columnNames = columnNames;
+            final List<FieldReader> readers = new ArrayList<>();
+            final Map<String, FieldReader> readersByName = new HashMap<>();
+            for (ModelField field : parentSchema.getFields().values()) {
+                final SQLiteColumn column = columns.get(field.getName());
+                final FieldReader reader = column == null
+                    ? new FieldReader(field, null, FieldReader.NO_COLUMN)
+                    : new FieldReader(field, column.getAliasedName(), cursor.getColumnIndex(column.getAliasedName()));
+                readers.add(reader);
+                readersByName.put(field.getName(), reader);
+            }
+            this.fieldReaders = Collections.unmodifiableList(readers);
+            this.fieldReadersByName = Collections.unmodifiableMap(readersByName);
+        }
+    }
+
+    /**
+     * Reads one field out of a cursor.
+     */
+    private static final class FieldReader {
+        // The field has no column in the model's table, e.g. a has-many association.
+        private static final int NO_COLUMN = -2;
+        // The field has a column in the model's table, but it was not selected by the query.
+        private static final int COLUMN_NOT_IN_CURSOR = -1;
+
+        private final ModelField field;
+        private final JavaFieldType javaFieldType;
+        private final String aliasedColumnName;
+        private final int columnIndex;
+
+        FieldReader(ModelField field, @Nullable String aliasedColumnName, int columnIndex) {
+            this.field = field;
+            this.javaFieldType = TypeConverter.getJavaFieldType(field);
+            this.aliasedColumnName = aliasedColumnName;
+            this.columnIndex = columnIndex;
+        }
+    }
+
+    /**
+     * Reads one field out of a model, and knows how to convert its value for a statement.
+     */
+    private static final class FieldWriter {
+        private final Class<? extends Model> modelClass;
+        private final ModelField field;
+        private final JavaFieldType javaFieldType;
+        // Null for a SerializedModel, whose values are read from its map of serialized data.
+        private final ModelHelper.FieldAccessor accessor;
+
+        FieldWriter(Class<? extends Model> modelClass, ModelField field,
+                    @Nullable ModelHelper.FieldAccessor accessor) {
+            this.modelClass = modelClass;
+            this.field = field;
+            this.javaFieldType = TypeConverter.getJavaFieldType(field);
+            this.accessor = accessor;
+        }
     }
 }
@@ -41,21 +41,21 @@ import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.core.model.query.predicate.QueryPredicateOperation;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.DataStoreQueryIterator;
 import com.amplifyframework.datastore.appsync.SerializedModel;
 import com.amplifyframework.datastore.model.CompoundModelProvider;
 import com.amplifyframework.datastore.model.SystemModelsProviderFactory;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.datastore.storage.StorageOperation;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteColumn;
 import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteTable;
 import com.amplifyframework.logging.Logger;
 import com.amplifyframework.util.GsonFactory;
 import com.amplifyframework.util.Immutable;
-import com.amplifyframework.util.Wrap;
 
 import com.google.gson.Gson;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -65,6 +65,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -99,10 +100,19 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
     // ThreadPool for SQLite operations.
     private ExecutorService threadPool;
 
-    // Data is read from SQLite and de-serialized using GSON
-    // into a strongly typed Java object.
+    // Used to convert custom-typed field values to and from the JSON strings
+    // in which they are stored.
     private final Gson gson;
 
+    // Converts field values to and from SQLite, keyed by the name of the model they convert.
+    // Each one holds a plan for reading its model's fields out of query results,
+    // which is re-used across queries.
+    private final Map<String, SQLiteModelFieldTypeConverter> fieldTypeConverters;
+
+    // Constructs strongly typed Java objects from the values read out of SQLite,
+    // keyed by the class of model they construct.
+    private final Map<Class<? extends Model>, ModelMaterializer<? extends Model>> modelMaterializers;
+
     // Used to publish events to the observables subscribed.
     private final Subject<StorageItemChange<? extends Model>> itemChangeSubject;
 
@@ -118,6 +128,13 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
     // Factory that produces SQL commands.
     private SQLCommandFactory sqlCommandFactory;
 
+    // SQLite table metadata and SELECT text, derived once from each model schema.
+    private final SchemaMetadataCache schemaMetadataCache;
+
+    // Statements which have been compiled against the databaseConnectionHandle.
+    // These are re-used across saves and deletes, and closed when the connection is.
+    private CompiledStatementCache compiledStatementCache;
+
     // Stores the reference to disposable objects for cleanup
     private final CompositeDisposable toBeDisposed;
 
@@ -138,6 +155,9 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         this.modelSchemaRegistry = modelSchemaRegistry;
         this.modelsProvider = CompoundModelProvider.of(systemModelsProvider, userModelsProvider);
         this.gson = GsonFactory.instance();
+        this.schemaMetadataCache = new SchemaMetadataCache(modelSchemaRegistry);
+        this.fieldTypeConverters = new ConcurrentHashMap<>();
+        this.modelMaterializers = new ConcurrentHashMap<>();
         this.itemChangeSubject = PublishSubject.<StorageItemChange<? extends Model>>create().toSerialized();
         this.toBeDisposed = new CompositeDisposable();
     }
@@ -185,12 +205,22 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                  */
                 modelSchemaRegistry.register(modelsProvider.modelSchemas());
 
+                /*
+                 * Derive the SQLite metadata of each model up-front, rather than on first use.
+                 * Anything derived from a previous set of schema is discarded.
+                 */
+                schemaMetadataCache.clear();
+                fieldTypeConverters.clear();
+                for (ModelSchema modelSchema : modelSchemaRegistry.getModelSchemaMap().values()) {
+                    schemaMetadataCache.selectFor(modelSchema);
+                }
+
                 /*
                  * Create the CREATE TABLE and CREATE INDEX commands for each of the
                  * Models. Instantiate {@link SQLiteStorageHelper} to execute those
                  * create commands.
                  */
-                this.sqlCommandFactory = new SQLiteCommandFactory(modelSchemaRegistry);
+                this.sqlCommandFactory = new SQLiteCommandFactory(schemaMetadataCache, null);
                 CreateSqlCommands createSqlCommands = getCreateCommands(modelsProvider.modelNames());
                 sqliteStorageHelper = SQLiteStorageHelper.getInstance(
                         context,
@@ -213,7 +243,8 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                  * All database operations will happen through this handle.
                  */
                 databaseConnectionHandle = sqliteStorageHelper.getWritableDatabase();
-                this.sqlCommandFactory = new SQLiteCommandFactory(modelSchemaRegistry, databaseConnectionHandle);
+                this.compiledStatementCache = new CompiledStatementCache(databaseConnectionHandle);
+                this.sqlCommandFactory = new SQLiteCommandFactory(schemaMetadataCache, compiledStatementCache);
 
                 /*
                  * Detect if the version of the models stored in SQLite is different
@@ -256,67 +287,18 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
 
         threadPool.submit(() -> {
             try {
-                final String modelName = getModelName(item);
-                final ModelSchema modelSchema =
-                    modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-                final SQLiteTable sqliteTable = SQLiteTable.fromSchema(modelSchema);
-                final String primaryKeyName = sqliteTable.getPrimaryKeyColumnName();
-                final SqlCommand sqlCommand;
-                final ModelConflictStrategy modelConflictStrategy;
-                final StorageItemChange.Type type;
-
-                if (dataExistsInSQLiteTable(sqliteTable.getName(), primaryKeyName, item.getId())) {
-                    type = StorageItemChange.Type.UPDATE;
-
-                    // update model stored in SQLite
-                    // update always checks for ID first
-                    final QueryPredicateOperation<?> idCheck =
-                        QueryField.field(primaryKeyName).eq(item.getId());
-                    final QueryPredicate condition = !QueryPredicates.all().equals(predicate)
-                        ? idCheck.and(predicate)
-                        : idCheck;
-                    sqlCommand = sqlCommandFactory.updateFor(modelSchema, condition);
-                    if (!sqlCommand.hasCompiledSqlStatement()) {
-                        onError.accept(new DataStoreException(
-                            "Error in saving the model. No update statement " +
-                                "found for the Model: " + modelSchema.getName(),
-                            AmplifyException.TODO_RECOVERY_SUGGESTION
-                        ));
-                        return;
-                    }
-                    modelConflictStrategy = ModelConflictStrategy.OVERWRITE_EXISTING;
-                } else if (!QueryPredicates.all().equals(predicate)) {
-                    // insert not permitted with a condition
-                    onError.accept(new DataStoreException(
-                        "Conditional update must be performed against an already existing data. " +
-                            "Insertion is not permitted while using a predicate.",
-                        "Please save without specifying a predicate."
-                    ));
-                    return;
-                } else {
-                    // insert model in SQLite
-                    type = StorageItemChange.Type.CREATE;
-
-                    sqlCommand = sqlCommandFactory.insertFor(modelSchema);
-                    if (!sqlCommand.hasCompiledSqlStatement()) {
-                        onError.accept(new DataStoreException(
-                            "No insert statement found for the Model: " + modelSchema.getName(),
-                            AmplifyException.TODO_RECOVERY_SUGGESTION
-                        ));
-                        return;
-                    }
-                    modelConflictStrategy = ModelConflictStrategy.THROW_EXCEPTION;
+                final StorageItemChange<T> change;
+                // Compiled statements are shared between threads. Always take hold of the
+                // database connection (by beginning a transaction) before locking any of them,
+                // so that a thread waiting on the connection never holds a statement that
+                // the current owner of the connection needs.
+                databaseConnectionHandle.beginTransactionNonExclusive();
+                try {
+                    change = writeSave(item, initiator, predicate);
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
                 }
-
-                saveModel(item, modelSchema, sqlCommand, modelConflictStrategy);
-                final StorageItemChange<T> change = StorageItemChange.<T>builder()
-                    .changeId(item.getId())
-                    .item(item)
-                    .modelSchema(modelSchema)
-                    .type(type)
-                    .predicate(predicate)
-                    .initiator(initiator)
-                    .build();
                 itemChangeSubject.onNext(change);
                 onSuccess.accept(change);
             } catch (DataStoreException dataStoreException) {
@@ -367,8 +349,8 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 final List<T> models = new ArrayList<>();
                 final ModelSchema modelSchema =
                     modelSchemaRegistry.getModelSchemaForModelClass(itemClass.getSimpleName());
-                final SQLiteModelFieldTypeConverter converter =
-                    new SQLiteModelFieldTypeConverter(modelSchema, modelSchemaRegistry, gson);
+                final SQLiteModelFieldTypeConverter converter = converterFor(modelSchema);
+                final ModelMaterializer<T> materializer = materializerFor(itemClass);
 
                 if (cursor == null) {
                     onError.accept(new DataStoreException(
@@ -381,7 +363,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 if (cursor.moveToFirst()) {
                     do {
                         Map<String, Object> mapForModel = converter.buildMapForModel(cursor);
-                        models.add(deserializeModelFromRawMap(mapForModel, itemClass));
+                        models.add(materializer.fromMap(mapForModel));
                     } while (cursor.moveToNext());
                 }
 
@@ -395,6 +377,47 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void queryLazily(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<DataStoreQueryIterator<T>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(itemClass);
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+
+        threadPool.submit(() -> {
+            final DataStoreQueryIterator<T> iterator;
+            try {
+                LOG.debug("Lazily querying item for: " + itemClass.getSimpleName());
+                final ModelSchema modelSchema =
+                    modelSchemaRegistry.getModelSchemaForModelClass(itemClass.getSimpleName());
+                final Cursor cursor = getQueryAllCursor(itemClass.getSimpleName(), options);
+                if (cursor == null) {
+                    onError.accept(new DataStoreException(
+                        "Error in getting a cursor to the table for class: " + itemClass.getSimpleName(),
+                        AmplifyException.TODO_RECOVERY_SUGGESTION
+                    ));
+                    return;
+                }
+                // The cursor is now owned by the iterator, which closes it.
+                iterator = new CursorQueryIterator<>(cursor, converterFor(modelSchema), materializerFor(itemClass));
+            } catch (Exception exception) {
+                onError.accept(new DataStoreException(
+                    "Error in querying the model.", exception,
+                    "See attached exception for details."
+                ));
+                return;
+            }
+            onSuccess.accept(iterator);
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -417,8 +440,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
                 final Set<Model> models = new HashSet<>();
                 final ModelSchema modelSchema =
                         modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-                final SQLiteModelFieldTypeConverter converter =
-                    new SQLiteModelFieldTypeConverter(modelSchema, modelSchemaRegistry, gson);
+                final SQLiteModelFieldTypeConverter converter = converterFor(modelSchema);
 
                 if (cursor == null) {
                     onError.accept(new DataStoreException(
@@ -483,67 +505,20 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
 
         threadPool.submit(() -> {
             try {
-                final String modelName = getModelName(item);
-                final ModelSchema modelSchema =
-                        modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-                final SQLiteTable sqliteTable = SQLiteTable.fromSchema(modelSchema);
-                final String primaryKeyName = sqliteTable.getPrimaryKeyColumnName();
-
-                if (!dataExistsInSQLiteTable(sqliteTable.getName(), primaryKeyName, item.getId())) {
-                    LOG.warn(modelName + " model with id = " + item.getId() + " does not exist.");
-                    // Pass back item change instance without publishing it.
-                    onSuccess.accept(StorageItemChange.<T>builder()
-                        .changeId(item.getId())
-                        .item(item)
-                        .modelSchema(modelSchema)
-                        .type(StorageItemChange.Type.DELETE)
-                        .predicate(predicate)
-                        .initiator(initiator)
-                        .build());
-                    return;
+                final StorageItemChange<T> change = deletionOf(item, initiator, predicate);
+                final boolean wasDeleted;
+                // See save(...) for why a transaction is used around a single write.
+                databaseConnectionHandle.beginTransactionNonExclusive();
+                try {
+                    wasDeleted = writeDelete(change);
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
                 }
-
-                LOG.debug("Deleting item in table: " + sqliteTable.getName() +
-                    " identified by ID: " + item.getId());
-
-                // delete always checks for ID first
-                final QueryPredicateOperation<?> idCheck =
-                    QueryField.field(primaryKeyName).eq(item.getId());
-                final QueryPredicate condition = !QueryPredicates.all().equals(predicate)
-                    ? idCheck.and(predicate)
-                    : idCheck;
-                final SqlCommand sqlCommand = sqlCommandFactory.deleteFor(modelSchema, condition);
-                if (sqlCommand.sqlStatement() == null || !sqlCommand.hasCompiledSqlStatement()) {
-                    onError.accept(new DataStoreException(
-                        "No delete statement found for the Model: " + modelSchema.getName(),
-                        AmplifyException.TODO_RECOVERY_SUGGESTION
-                    ));
-                    return;
-                }
-
-                synchronized (sqlCommand.getCompiledSqlStatement()) {
-                    final SQLiteStatement compiledSqlStatement = sqlCommand.getCompiledSqlStatement();
-                    compiledSqlStatement.clearBindings();
-                    bindStatementToValues(sqlCommand, null);
-                    // executeUpdateDelete returns the number of rows affected.
-                    final int rowsDeleted = compiledSqlStatement.executeUpdateDelete();
-                    compiledSqlStatement.clearBindings();
-                    if (rowsDeleted == 0) {
-                        throw new DataStoreException(
-                            "Failed to meet condition. Model was not deleted.",
-                            "Please verify the current state of saved item."
-                        );
-                    }
+                // Pass back item change instance without publishing it, if nothing was deleted.
+                if (wasDeleted) {
+                    itemChangeSubject.onNext(change);
                 }
-                final StorageItemChange<T> change = StorageItemChange.<T>builder()
-                    .changeId(item.getId())
-                    .item(item)
-                    .modelSchema(modelSchema)
-                    .type(StorageItemChange.Type.DELETE)
-                    .predicate(predicate)
-                    .initiator(initiator)
-                    .build();
-                itemChangeSubject.onNext(change);
                 onSuccess.accept(change);
             } catch (DataStoreException dataStoreException) {
                 onError.accept(dataStoreException);
@@ -557,6 +532,52 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void batch(
+            @NonNull List<StorageOperation<? extends Model>> operations,
+            @NonNull Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        Objects.requireNonNull(operations);
+        Objects.requireNonNull(onSuccess);
+        Objects.requireNonNull(onError);
+
+        threadPool.submit(() -> {
+            try {
+                final List<StorageItemChange<? extends Model>> changes = new ArrayList<>();
+                final List<StorageItemChange<? extends Model>> changesToPublish = new ArrayList<>();
+
+                // All of the writes share a single transaction, and thus a single journal commit.
+                // If any one of them fails, the transaction is ended without being marked successful,
+                // which rolls back every write that was made before it.
+                databaseConnectionHandle.beginTransactionNonExclusive();
+                try {
+                    for (StorageOperation<? extends Model> operation : operations) {
+                        changes.add(write(operation, changesToPublish));
+                    }
+                    databaseConnectionHandle.setTransactionSuccessful();
+                } finally {
+                    databaseConnectionHandle.endTransaction();
+                }
+
+                // Only tell observers about the changes once they have actually been committed.
+                for (StorageItemChange<? extends Model> change : changesToPublish) {
+                    itemChangeSubject.onNext(change);
+                }
+                onSuccess.accept(Immutable.of(changes));
+            } catch (DataStoreException dataStoreException) {
+                onError.accept(dataStoreException);
+            } catch (Exception someOtherTypeOfException) {
+                onError.accept(new DataStoreException(
+                    "Error in applying a batch of " + operations.size() + " operations.",
+                    someOtherTypeOfException, "See attached exception for details."
+                ));
+            }
+        });
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -602,6 +623,9 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
             if (threadPool != null) {
                 threadPool.shutdown();
             }
+            if (compiledStatementCache != null) {
+                compiledStatementCache.clear();
+            }
             if (databaseConnectionHandle != null) {
                 databaseConnectionHandle.close();
             }
@@ -630,6 +654,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         } catch (InterruptedException exception) {
             LOG.warn("Storage adapter thread pool was interrupted during shutdown.", exception);
         }
+        compiledStatementCache.clear();
         sqliteStorageHelper.close();
         databaseConnectionHandle.close();
         LOG.debug("Clearing DataStore.");
@@ -663,6 +688,153 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         return new CreateSqlCommands(createTableCommands, createIndexCommands);
     }
 
+    // Applies a single operation from a batch. The resulting change is returned, and is
+    // also added to changesToPublish, if it represents an actual change to the storage.
+    private <T extends Model> StorageItemChange<T> write(
+            @NonNull StorageOperation<T> operation,
+            @NonNull List<StorageItemChange<? extends Model>> changesToPublish) throws DataStoreException {
+        final StorageItemChange<T> change;
+        switch (operation.type()) {
+            case SAVE:
+                change = writeSave(operation.item(), operation.initiator(), operation.predicate());
+                changesToPublish.add(change);
+                return change;
+            case DELETE:
+                change = deletionOf(operation.item(), operation.initiator(), operation.predicate());
+                if (writeDelete(change)) {
+                    changesToPublish.add(change);
+                }
+                return change;
+            default:
+                throw new DataStoreException(
+                    "Storage operation of type " + operation.type() + " is not supported.",
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                );
+        }
+    }
+
+    // Inserts or updates a model in its table, and returns a description of the change.
+    // The change is NOT published to the itemChangeSubject; that is left to the caller.
+    private <T extends Model> StorageItemChange<T> writeSave(
+            @NonNull T item,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull QueryPredicate predicate) throws DataStoreException {
+        final String modelName = getModelName(item);
+        final ModelSchema modelSchema =
+            modelSchemaRegistry.getModelSchemaForModelClass(modelName);
+        final SQLiteTable sqliteTable = schemaMetadataCache.tableFor(modelSchema);
+        final String primaryKeyName = sqliteTable.getPrimaryKeyColumnName();
+        // update always checks for ID first
+        final QueryPredicateOperation<?> idCheck =
+            QueryField.field(primaryKeyName).eq(item.getId());
+        final StorageItemChange.Type type;
+
+        LOG.debug("Writing data to table for: " + item.toString());
+
+        if (QueryPredicates.all().equals(predicate)) {
+            // Upsert. Try to insert the model first; the insert does nothing if there is
+            // already a row with the same ID, in which case that row is updated instead.
+            // Whether the model was created or updated is known from the statement results,
+            // so it never needs to be looked up separately.
+            final SqlCommand insertCommand = sqlCommandFactory.insertOrIgnoreFor(modelSchema);
+            if (executeInsert(insertCommand, item)) {
+                type = StorageItemChange.Type.CREATE;
+            } else {
+                final SqlCommand updateCommand = sqlCommandFactory.updateFor(modelSchema, idCheck);
+                final int rowsUpdated = executeUpdateDelete(updateCommand, item);
+                if (rowsUpdated != 1) {
+                    // The insert was ignored for some reason other than an existing row,
+                    // e.g., a NOT NULL constraint was violated.
+                    throw new DataStoreException(
+                        "Failed to insert any item in to database.",
+                        "Verify that all required fields of the model have values."
+                    );
+                }
+                type = StorageItemChange.Type.UPDATE;
+            }
+        } else {
+            // Conditional write. Insertion is not permitted; only update a row that
+            // has the same ID, and which meets the condition.
+            final SqlCommand updateCommand = sqlCommandFactory.updateFor(modelSchema, idCheck.and(predicate));
+            final int rowsUpdated = executeUpdateDelete(updateCommand, item);
+            if (rowsUpdated == 0 && !dataExists(modelSchema, idCheck)) {
+                throw new DataStoreException(
+                    "Conditional update must be performed against an already existing data. " +
+                        "Insertion is not permitted while using a predicate.",
+                    "Please save without specifying a predicate."
+                );
+            } else if (rowsUpdated != 1) {
+                throw new DataStoreException(
+                    "Wanted to update 1 row, but updated " + rowsUpdated + " rows!",
+                    "This is likely a bug; please report to AWS."
+                );
+            }
+            type = StorageItemChange.Type.UPDATE;
+        }
+
+        return StorageItemChange.<T>builder()
+            .changeId(item.getId())
+            .item(item)
+            .modelSchema(modelSchema)
+            .type(type)
+            .predicate(predicate)
+            .initiator(initiator)
+            .build();
+    }
+
+    // Builds a description of the deletion of a model, which can be passed to writeDelete(...).
+    private <T extends Model> StorageItemChange<T> deletionOf(
+            @NonNull T item,
+            @NonNull StorageItemChange.Initiator initiator,
+            @NonNull QueryPredicate predicate) {
+        final ModelSchema modelSchema =
+            modelSchemaRegistry.getModelSchemaForModelClass(getModelName(item));
+        return StorageItemChange.<T>builder()
+            .changeId(item.getId())
+            .item(item)
+            .modelSchema(modelSchema)
+            .type(StorageItemChange.Type.DELETE)
+            .predicate(predicate)
+            .initiator(initiator)
+            .build();
+    }
+
+    // Deletes a model from its table. Returns true if the model was deleted,
+    // or false if there was no such model to delete in the first place.
+    // The change is NOT published to the itemChangeSubject; that is left to the caller.
+    private <T extends Model> boolean writeDelete(@NonNull StorageItemChange<T> deletion)
+            throws DataStoreException {
+        final T item = deletion.item();
+        final ModelSchema modelSchema = deletion.modelSchema();
+        final SQLiteTable sqliteTable = schemaMetadataCache.tableFor(modelSchema);
+        final String primaryKeyName = sqliteTable.getPrimaryKeyColumnName();
+
+        LOG.debug("Deleting item in table: " + sqliteTable.getName() +
+            " identified by ID: " + item.getId());
+
+        // delete always checks for ID first
+        final QueryPredicate predicate = deletion.predicate();
+        final QueryPredicateOperation<?> idCheck =
+            QueryField.field(primaryKeyName).eq(item.getId());
+        final QueryPredicate condition = !QueryPredicates.all().equals(predicate)
+            ? idCheck.and(predicate)
+            : idCheck;
+        final SqlCommand sqlCommand = sqlCommandFactory.deleteFor(modelSchema, condition);
+        if (executeUpdateDelete(sqlCommand, null) > 0) {
+            return true;
+        }
+
+        // Nothing was deleted. That's only an error if the model exists, but didn't meet the condition.
+        if (!QueryPredicates.all().equals(predicate) && dataExists(modelSchema, idCheck)) {
+            throw new DataStoreException(
+                "Failed to meet condition. Model was not deleted.",
+                "Please verify the current state of saved item."
+            );
+        }
+        LOG.warn(modelSchema.getName() + " model with id = " + item.getId() + " does not exist.");
+        return false;
+    }
+
     // Binds each value inside list onto compiled statement in order
     private void bindStatementToValues(
             @NonNull SqlCommand sqlCommand,
@@ -676,8 +848,7 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         if (model != null) {
             final String modelName = getModelName(model);
             final ModelSchema schema = modelSchemaRegistry.getModelSchemaForModelClass(modelName);
-            final SQLiteModelFieldTypeConverter converter =
-                    new SQLiteModelFieldTypeConverter(schema, modelSchemaRegistry, gson);
+            final SQLiteModelFieldTypeConverter converter = converterFor(schema);
             final Map<String, ModelField> modelFields = schema.getFields();
 
             final List<SQLiteColumn> columns = sqlCommand.getColumns();
@@ -720,78 +891,75 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         }
     }
 
-    // Extract the values of the fields of a model and bind the values to the SQLiteStatement
-    // and execute the statement.
-    // throws DataStoreException on failure to save
-    private <T extends Model> void saveModel(
-            @NonNull T model,
-            @NonNull ModelSchema modelSchema,
-            @NonNull SqlCommand sqlCommand,
-            @NonNull ModelConflictStrategy modelConflictStrategy)
+    // Binds the values of a model's fields (if any), and then the command's own bindings,
+    // to the command's compiled statement, and executes it as an INSERT.
+    // Returns true if a row was inserted.
+    private boolean executeInsert(@NonNull SqlCommand sqlCommand, @NonNull Model model)
             throws DataStoreException {
-        Objects.requireNonNull(model);
-        Objects.requireNonNull(modelSchema);
-        Objects.requireNonNull(sqlCommand);
-
-        LOG.debug("Writing data to table for: " + model.toString());
-
+        final SQLiteStatement compiledSqlStatement = requireCompiledStatement(sqlCommand);
         // SQLiteStatement object that represents the pre-compiled/prepared SQLite statements
         // are not thread-safe. Adding a synchronization barrier to access it.
-        synchronized (sqlCommand.getCompiledSqlStatement()) {
-            final SQLiteStatement compiledSqlStatement = sqlCommand.getCompiledSqlStatement();
-            compiledSqlStatement.clearBindings();
-
-            bindStatementToValues(sqlCommand, model);
-
-            DataStoreException problem = null;
-            switch (modelConflictStrategy) {
-                case OVERWRITE_EXISTING:
-                    // executeUpdateDelete returns the number of rows affected.
-                    final int rowsUpdated = compiledSqlStatement.executeUpdateDelete();
-                    if (rowsUpdated != 1) {
-                        problem = new DataStoreException(
-                            "Wanted to update 1 row, but updated " + rowsUpdated + " rows!",
-                            "This is likely a bug; please report to AWS."
-                        );
-                    }
-                    break;
-                case THROW_EXCEPTION:
-                    // executeInsert returns id if successful, -1 otherwise.
-                    if (compiledSqlStatement.executeInsert() == -1) {
-                        problem = new DataStoreException(
-                            "Failed to insert any item in to database.",
-                            "This is likely a bug; please report to AWS."
-                        );
-                    }
-                    break;
-                default:
-                    problem = new DataStoreException(
-                        "ModelConflictStrategy " + modelConflictStrategy + " is not supported.",
-                        "This is likely a bug; please report to AWS."
-                    );
+        try {
+            synchronized (compiledSqlStatement) {
+                compiledSqlStatement.clearBindings();
+                bindStatementToValues(sqlCommand, model);
+                // executeInsert returns id if successful, -1 otherwise.
+                final long rowId = compiledSqlStatement.executeInsert();
+                compiledSqlStatement.clearBindings();
+                return rowId != -1;
             }
+        } finally {
+            compiledStatementCache.release(compiledSqlStatement);
+        }
+    }
 
-            compiledSqlStatement.clearBindings();
+    // Binds the values of a model's fields (if any), and then the command's own bindings,
+    // to the command's compiled statement, and executes it as an UPDATE or DELETE.
+    // Returns the number of rows affected.
+    private int executeUpdateDelete(@NonNull SqlCommand sqlCommand, @Nullable Model model)
+            throws DataStoreException {
+        final SQLiteStatement compiledSqlStatement = requireCompiledStatement(sqlCommand);
+        try {
+            synchronized (compiledSqlStatement) {
+                compiledSqlStatement.clearBindings();
+                bindStatementToValues(sqlCommand, model);
+                // executeUpdateDelete returns the number of rows affected.
+                final int rowsAffected = compiledSqlStatement.executeUpdateDelete();
+                compiledSqlStatement.clearBindings();
+                return rowsAffected;
+            }
+        } finally {
+            compiledStatementCache.release(compiledSqlStatement);
+        }
+    }
 
-            if (problem != null) {
-                throw problem;
+    // Checks whether there is at least one row of a model's table that matches a predicate.
+    private boolean dataExists(@NonNull ModelSchema modelSchema, @NonNull QueryPredicate predicate)
+            throws DataStoreException {
+        final SqlCommand sqlCommand = sqlCommandFactory.existsFor(modelSchema, predicate);
+        final SQLiteStatement compiledSqlStatement = requireCompiledStatement(sqlCommand);
+        try {
+            synchronized (compiledSqlStatement) {
+                compiledSqlStatement.clearBindings();
+                bindStatementToValues(sqlCommand, null);
+                final long count = compiledSqlStatement.simpleQueryForLong();
+                compiledSqlStatement.clearBindings();
+                return count > 0;
             }
+        } finally {
+            compiledStatementCache.release(compiledSqlStatement);
         }
     }
 
-    private boolean dataExistsInSQLiteTable(
-            @NonNull String tableName,
-            @NonNull String columnName,
-            @NonNull String columnValue) {
-        // SELECT 1 FROM '{tableName}' WHERE {columnName} = '{columnValue}'
-        final String queryString = "" +
-            SqlKeyword.SELECT + SqlKeyword.DELIMITER + "1" + SqlKeyword.DELIMITER +
-            SqlKeyword.FROM + SqlKeyword.DELIMITER + Wrap.inBackticks(tableName) + SqlKeyword.DELIMITER +
-            SqlKeyword.WHERE + SqlKeyword.DELIMITER + columnName + SqlKeyword.DELIMITER +
-            SqlKeyword.EQUAL + SqlKeyword.DELIMITER + Wrap.inSingleQuotes(columnValue);
-        try (Cursor cursor = databaseConnectionHandle.rawQuery(queryString, null)) {
-            return cursor.getCount() > 0;
+    private static SQLiteStatement requireCompiledStatement(@NonNull SqlCommand sqlCommand)
+            throws DataStoreException {
+        if (!sqlCommand.hasCompiledSqlStatement()) {
+            throw new DataStoreException(
+                "No compiled statement found for the SQL command: " + sqlCommand.sqlStatement(),
+                AmplifyException.TODO_RECOVERY_SUGGESTION
+            );
         }
+        return sqlCommand.getCompiledSqlStatement();
     }
 
     /*
@@ -819,11 +987,25 @@ public final class SQLiteStorageAdapter implements LocalStorageAdapter {
         }).ignoreElement();
     }
 
-    private <T extends Model> T deserializeModelFromRawMap(
-            @NonNull Map<String, Object> mapForModel,
-            @NonNull Class<T> itemClass) throws IOException {
-        final String modelInJsonFormat = gson.toJson(mapForModel);
-        return gson.getAdapter(itemClass).fromJson(modelInJsonFormat);
+    // Gets the field type converter for a model, creating it on first use.
+    private SQLiteModelFieldTypeConverter converterFor(@NonNull ModelSchema modelSchema) {
+        SQLiteModelFieldTypeConverter converter = fieldTypeConverters.get(modelSchema.getName());
+        if (converter == null) {
+            converter = new SQLiteModelFieldTypeConverter(modelSchema, modelSchemaRegistry, gson);
+            fieldTypeConverters.put(modelSchema.getName(), converter);
+        }
+        return converter;
+    }
+
+    // Gets the materializer for a class of model, creating it on first use.
+    @SuppressWarnings("unchecked")
+    private <T extends Model> ModelMaterializer<T> materializerFor(@NonNull Class<T> itemClass) {
+        ModelMaterializer<? extends Model> materializer = modelMaterializers.get(itemClass);
+        if (materializer == null) {
+            materializer = new ModelMaterializer<>(itemClass, gson);
+            modelMaterializers.put(itemClass, materializer);
+        }
+        return (ModelMaterializer<T>) materializer;
     }
 
     private String getModelName(@NonNull Model model) {
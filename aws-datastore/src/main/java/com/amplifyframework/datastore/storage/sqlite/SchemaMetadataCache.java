@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.ModelSchemaRegistry;
+import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteColumn;
+import com.amplifyframework.datastore.storage.sqlite.adapter.SQLiteTable;
+import com.amplifyframework.util.Wrap;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the SQLite metadata which is derived from each {@link ModelSchema}:
+ * its {@link SQLiteTable} (and so, its sorted columns, foreign keys and primary key),
+ * and the SELECT ... FROM ... JOIN ... text with which its rows are queried.
+ *
+ * None of this changes unless the schema does, but it was previously recomputed for
+ * every save, delete and query. Entries are keyed by model name, and are remembered
+ * along with the schema instance they were derived from; if a different schema instance
+ * is presented for the same model (for example, after the {@link ModelSchemaRegistry}
+ * has been re-populated), the entry is rebuilt.
+ */
+final class SchemaMetadataCache {
+    private final ModelSchemaRegistry modelSchemaRegistry;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Constructs a new SchemaMetadataCache.
+     * @param modelSchemaRegistry Registry used to find the schema of associated models, for joins
+     */
+    SchemaMetadataCache(@NonNull ModelSchemaRegistry modelSchemaRegistry) {
+        this.modelSchemaRegistry = Objects.requireNonNull(modelSchemaRegistry);
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the SQLite table for a model schema.
+     * @param modelSchema Schema of a model
+     * @return SQLite table representation of the model
+     */
+    @NonNull
+    SQLiteTable tableFor(@NonNull ModelSchema modelSchema) {
+        return entryFor(modelSchema).table;
+    }
+
+    /**
+     * Gets the SELECT command that selects every column of a model's table, as well as the
+     * columns of any models that it belongs to, which are joined in. The command has no
+     * WHERE, ORDER BY or LIMIT clause, nor a terminating semicolon; those are left to the caller.
+     * @param modelSchema Schema of a model
+     * @return A command containing the SELECT text, and the columns that it selects
+     */
+    @NonNull
+    SqlCommand selectFor(@NonNull ModelSchema modelSchema) {
+        final Entry entry = entryFor(modelSchema);
+        SqlCommand selectCommand = entry.selectCommand;
+        if (selectCommand == null) {
+            selectCommand = buildSelect(entry.table);
+            entry.selectCommand = selectCommand;
+        }
+        return selectCommand;
+    }
+
+    /**
+     * Forgets all cached metadata.
+     */
+    void clear() {
+        entries.clear();
+    }
+
+    private Entry entryFor(@NonNull ModelSchema modelSchema) {
+        Objects.requireNonNull(modelSchema);
+        Entry entry = entries.get(modelSchema.getName());
+        if (entry == null || entry.modelSchema != modelSchema) {
+            entry = new Entry(modelSchema);
+            entries.put(modelSchema.getName(), entry);
+        }
+        return entry;
+    }
+
+    private SqlCommand buildSelect(SQLiteTable table) {
+        final StringBuilder selectStatement = new StringBuilder();
+        final StringBuilder selectColumns = new StringBuilder();
+        final StringBuilder joinStatement = new StringBuilder();
+
+        // Track the list of columns to return
+        final List<SQLiteColumn> columns = new LinkedList<>(table.getSortedColumns());
+
+        // Joins the foreign keys
+        recursivelyBuildJoins(table, columns, joinStatement);
+
+        // Convert columns to comma-separated column names
+        final Iterator<SQLiteColumn> columnsIterator = columns.iterator();
+        while (columnsIterator.hasNext()) {
+            final SQLiteColumn column = columnsIterator.next();
+            selectColumns.append(column.getQuotedColumnName());
+
+            // Alias primary keys to avoid duplicate column names
+            selectColumns.append(SqlKeyword.DELIMITER)
+                    .append(SqlKeyword.AS)
+                    .append(SqlKeyword.DELIMITER)
+                    .append(Wrap.inBackticks(column.getAliasedName()));
+
+            if (columnsIterator.hasNext()) {
+                selectColumns.append(",").append(SqlKeyword.DELIMITER);
+            }
+        }
+
+        // Start SELECT statement.
+        // SELECT columns FROM tableName
+        selectStatement.append(SqlKeyword.SELECT)
+                .append(SqlKeyword.DELIMITER)
+                .append(selectColumns.toString())
+                .append(SqlKeyword.DELIMITER)
+                .append(SqlKeyword.FROM)
+                .append(SqlKeyword.DELIMITER)
+                .append(Wrap.inBackticks(table.getName()));
+
+        // Append join statements.
+        // INNER JOIN tableOne ON tableName.id=tableOne.foreignKey
+        // LEFT JOIN tableTwo ON tableName.id=tableTwo.foreignKey
+        if (joinStatement.length() > 0) {
+            selectStatement.append(SqlKeyword.DELIMITER)
+                    .append(joinStatement.toString());
+        }
+
+        return new SqlCommand(table.getName(), selectStatement.toString(), columns, Collections.emptyList());
+    }
+
+    /**
+     * Recursively build joins for multilevel nested joins.
+     */
+    private void recursivelyBuildJoins(SQLiteTable table, List<SQLiteColumn> columns,
+                                       StringBuilder joinStatement) {
+        // Joins the foreign keys
+        // LEFT JOIN if foreign key is optional, INNER JOIN otherwise.
+        final Iterator<SQLiteColumn> foreignKeyIterator = table.getForeignKeys().iterator();
+        while (foreignKeyIterator.hasNext()) {
+            final SQLiteColumn foreignKey = foreignKeyIterator.next();
+            final String ownedTableName = foreignKey.getOwnedType();
+            final ModelSchema ownedSchema = modelSchemaRegistry.getModelSchemaForModelClass(ownedTableName);
+            final SQLiteTable ownedTable = tableFor(ownedSchema);
+
+            columns.addAll(ownedTable.getSortedColumns());
+
+            SqlKeyword joinType = foreignKey.isNonNull()
+                ? SqlKeyword.INNER_JOIN
+                : SqlKeyword.LEFT_JOIN;
+
+            joinStatement.append(joinType)
+                .append(SqlKeyword.DELIMITER)
+                .append(Wrap.inBackticks(ownedTableName))
+                .append(SqlKeyword.DELIMITER)
+                .append(SqlKeyword.ON)
+                .append(SqlKeyword.DELIMITER)
+                .append(foreignKey.getQuotedColumnName())
+                .append(SqlKeyword.EQUAL)
+                .append(ownedTable.getPrimaryKeyColumnName());
+
+            if (foreignKeyIterator.hasNext()) {
+                joinStatement.append(SqlKeyword.DELIMITER);
+            }
+
+            // important that this comes last to maintain the order of the joins
+            recursivelyBuildJoins(ownedTable, columns, joinStatement);
+        }
+    }
+
+    /**
+     * Metadata derived from one instance of a model schema.
+     */
+    private static final class Entry {
+        private final ModelSchema modelSchema;
+        private final SQLiteTable table;
+        private volatile SqlCommand selectCommand;
+
+        Entry(ModelSchema modelSchema) {
+            this.modelSchema = modelSchema;
+            this.table = SQLiteTable.fromSchema(modelSchema);
+        }
+    }
+}
@@ -46,11 +46,16 @@ public final class SQLiteTable {
     private final String name;
     private final Map<String, SQLiteColumn> columns;
     private final List<SQLiteColumn> sortedColumns;
+    private final SQLiteColumn primaryKey;
+    private final List<SQLiteColumn> foreignKeys;
 
     private SQLiteTable(String name, Map<String, SQLiteColumn> columns) {
         this.name = name;
         this.columns = columns;
-        this.sortedColumns = sortedColumns();
+        // These are all immutable, so they are computed once and shared with callers.
+        this.sortedColumns = Immutable.of(sortedColumns());
+        this.primaryKey = primaryKey();
+        this.foreignKeys = foreignKeys();
     }
 
     /**
@@ -139,12 +144,7 @@ public final class SQLiteTable {
      */
     @Nullable
     public SQLiteColumn getPrimaryKey() {
-        for (SQLiteColumn column : sortedColumns) {
-            if (column.isPrimaryKey()) {
-                return column;
-            }
-        }
-        return null;
+        return primaryKey;
     }
 
     /**
@@ -154,10 +154,10 @@ public final class SQLiteTable {
      */
     @Nullable
     public String getPrimaryKeyColumnName() {
-        if (getPrimaryKey() == null) {
+        if (primaryKey == null) {
             return PrimaryKey.fieldName();
         }
-        return getPrimaryKey().getQuotedColumnName();
+        return primaryKey.getQuotedColumnName();
     }
 
     /**
@@ -166,13 +166,7 @@ public final class SQLiteTable {
      */
     @NonNull
     public List<SQLiteColumn> getForeignKeys() {
-        List<SQLiteColumn> foreignKeys = new LinkedList<>();
-        for (SQLiteColumn column : sortedColumns) {
-            if (column.isForeignKey()) {
-                foreignKeys.add(column);
-            }
-        }
-        return Immutable.of(foreignKeys);
+        return foreignKeys;
     }
 
     /**
@@ -197,7 +191,7 @@ public final class SQLiteTable {
      */
     @NonNull
     public Map<String, SQLiteColumn> getColumns() {
-        return Immutable.of(columns);
+        return columns;
     }
 
     /**
@@ -206,7 +200,7 @@ public final class SQLiteTable {
      */
     @NonNull
     public List<SQLiteColumn> getSortedColumns() {
-        return Immutable.of(sortedColumns);
+        return sortedColumns;
     }
 
     private List<SQLiteColumn> sortedColumns() {
@@ -244,6 +238,30 @@ public final class SQLiteTable {
         return columnEntries;
     }
 
+    private SQLiteColumn primaryKey() {
+        if (sortedColumns == null) {
+            return null;
+        }
+        for (SQLiteColumn column : sortedColumns) {
+            if (column.isPrimaryKey()) {
+                return column;
+            }
+        }
+        return null;
+    }
+
+    private List<SQLiteColumn> foreignKeys() {
+        List<SQLiteColumn> foreignKeyColumns = new LinkedList<>();
+        if (sortedColumns != null) {
+            for (SQLiteColumn column : sortedColumns) {
+                if (column.isForeignKey()) {
+                    foreignKeyColumns.add(column);
+                }
+            }
+        }
+        return Immutable.of(foreignKeyColumns);
+    }
+
     /**
      * A builder to construct immutable SQLite table.
      */
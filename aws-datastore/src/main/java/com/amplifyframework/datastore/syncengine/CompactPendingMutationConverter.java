@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicates;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.appsync.SerializedModel;
+import com.amplifyframework.util.GsonFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A utility to convert between {@link PendingMutation} and {@link PendingMutation.PersistentRecord},
+ * using a compact encoding of the mutation data.
+ *
+ * The {@link GsonPendingMutationConverter} writes out the entire mutation as JSON, including
+ * the full {@link ModelSchema} of the mutated model, and the mutation ID. None of that is needed:
+ * the mutation ID is already the ID of the record, and the schema can be derived from the model
+ * class, which is also in the record. So this converter stores only what can't be derived, as
+ * three lines of text: a header, made of the format version and the name of the mutation type;
+ * the condition as JSON, or nothing if there is none; and the model as JSON.
+ *
+ * Records written by the {@link GsonPendingMutationConverter} are still read, so that an outbox
+ * that was persisted before this converter was in use can still be loaded. Mutations of a
+ * {@link SerializedModel}, whose schema can't be derived from its class, are still written as JSON.
+ *
+ * Model classes, their schema, and the Gson adapters that read them are only looked up once per class.
+ */
+final class CompactPendingMutationConverter implements PendingMutation.Converter {
+    private static final String FORMAT_VERSION = "v2";
+    private static final char HEADER_SEPARATOR = ' ';
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final Gson gson;
+    private final TypeAdapter<QueryPredicate> predicateAdapter;
+    private final GsonPendingMutationConverter jsonConverter;
+    private final Map<String, Class<? extends Model>> modelClasses;
+    private final Map<Class<? extends Model>, ModelSchema> modelSchemas;
+    private final Map<Class<? extends Model>, TypeAdapter<? extends Model>> modelAdapters;
+
+    /**
+     * Constructs a new instance of the {@link CompactPendingMutationConverter}.
+     */
+    CompactPendingMutationConverter() {
+        this.gson = GsonFactory.instance();
+        this.predicateAdapter = gson.getAdapter(QueryPredicate.class);
+        this.jsonConverter = new GsonPendingMutationConverter();
+        this.modelClasses = new ConcurrentHashMap<>();
+        this.modelSchemas = new ConcurrentHashMap<>();
+        this.modelAdapters = new ConcurrentHashMap<>();
+    }
+
+    @NonNull
+    @Override
+    public <T extends Model> PendingMutation.PersistentRecord toRecord(@NonNull PendingMutation<T> mutation) {
+        Class<? extends Model> modelClass = mutation.getModelSchema().getModelClass();
+        if (SerializedModel.class.equals(modelClass)) {
+            return jsonConverter.toRecord(mutation);
+        }
+        return PendingMutation.PersistentRecord.builder()
+            .containedModelId(mutation.getMutatedItem().getId())
+            .containedModelClassName(modelClass.getName())
+            .serializedMutationData(encode(mutation))
+            .mutationId(mutation.getMutationId())
+            .build();
+    }
+
+    @NonNull
+    @Override
+    public <T extends Model> PendingMutation<T> fromRecord(
+            @NonNull PendingMutation.PersistentRecord record) throws DataStoreException {
+        String data = record.getSerializedMutationData();
+        // JSON always begins with '{', which no header does.
+        if (data.startsWith("{")) {
+            return jsonConverter.fromRecord(record);
+        }
+        Class<T> modelClass = modelClassFor(record.getContainedModelClassName());
+        try {
+            return decode(record, modelClass, data);
+        } catch (IOException | IllegalArgumentException | JsonParseException decodingFailure) {
+            throw new DataStoreException(
+                "Could not decode the pending mutation in record " + record.getId(),
+                decodingFailure,
+                "This record may have been corrupted, or written by an incompatible version of Amplify."
+            );
+        }
+    }
+
+    private <T extends Model> String encode(PendingMutation<T> mutation) {
+        // Neither of the JSON documents contains a line break, since Gson escapes those within strings.
+        StringBuilder data = new StringBuilder()
+            .append(FORMAT_VERSION)
+            .append(HEADER_SEPARATOR)
+            .append(mutation.getMutationType().name())
+            .append(LINE_SEPARATOR);
+        if (!QueryPredicates.all().equals(mutation.getPredicate())) {
+            data.append(predicateAdapter.toJson(mutation.getPredicate()));
+        }
+        return data.append(LINE_SEPARATOR)
+            .append(gson.toJson(mutation.getMutatedItem()))
+            .toString();
+    }
+
+    private <T extends Model> PendingMutation<T> decode(
+            PendingMutation.PersistentRecord record, Class<T> modelClass, String data)
+            throws IOException, DataStoreException {
+        int headerEnd = data.indexOf(LINE_SEPARATOR);
+        int predicateEnd = headerEnd < 0 ? -1 : data.indexOf(LINE_SEPARATOR, headerEnd + 1);
+        int versionEnd = data.indexOf(HEADER_SEPARATOR);
+        if (predicateEnd < 0 || versionEnd < 0 || versionEnd > headerEnd ||
+                !FORMAT_VERSION.equals(data.substring(0, versionEnd))) {
+            throw new DataStoreException(
+                "Pending mutation in record " + record.getId() + " has an unknown format.",
+                "This record may have been written by a newer version of Amplify."
+            );
+        }
+        // The type is stored by name, so that it doesn't depend on the order of the enum's constants.
+        PendingMutation.Type type = PendingMutation.Type.valueOf(data.substring(versionEnd + 1, headerEnd));
+        QueryPredicate predicate = QueryPredicates.all();
+        if (predicateEnd > headerEnd + 1) {
+            predicate = predicateAdapter.fromJson(data.substring(headerEnd + 1, predicateEnd));
+        }
+        T item = modelAdapterFor(modelClass).fromJson(data.substring(predicateEnd + 1));
+        return PendingMutation.instance(
+            TimeBasedUuid.fromString(record.getId()), item, modelSchemaFor(modelClass), type, predicate
+        );
+    }
+
+    @SuppressWarnings("unchecked") // The adapter was created for the class it is stored under
+    private <T extends Model> TypeAdapter<T> modelAdapterFor(Class<T> modelClass) {
+        TypeAdapter<? extends Model> adapter = modelAdapters.get(modelClass);
+        if (adapter == null) {
+            adapter = gson.getAdapter(modelClass);
+            modelAdapters.put(modelClass, adapter);
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    @SuppressWarnings("unchecked") // The class was written from the schema of a PendingMutation<T>
+    private <T extends Model> Class<T> modelClassFor(String className) throws DataStoreException {
+        Class<? extends Model> modelClass = modelClasses.get(className);
+        if (modelClass == null) {
+            try {
+                modelClass = Class.forName(className).asSubclass(Model.class);
+            } catch (ClassNotFoundException | ClassCastException lookupFailure) {
+                throw new DataStoreException(
+                    "Could not find a model class with the name " + className,
+                    lookupFailure,
+                    "Verify that you have built this model into your project."
+                );
+            }
+            modelClasses.put(className, modelClass);
+        }
+        return (Class<T>) modelClass;
+    }
+
+    private ModelSchema modelSchemaFor(Class<? extends Model> modelClass) throws DataStoreException {
+        ModelSchema modelSchema = modelSchemas.get(modelClass);
+        if (modelSchema == null) {
+            try {
+                modelSchema = ModelSchema.fromModelClass(modelClass);
+            } catch (AmplifyException schemaFailure) {
+                throw new DataStoreException(
+                    "Could not derive a schema for model class " + modelClass.getName(),
+                    schemaFailure,
+                    "Verify that the model class was generated by the Amplify CLI."
+                );
+            }
+            modelSchemas.put(modelClass, modelSchema);
+        }
+        return modelSchema;
+    }
+}
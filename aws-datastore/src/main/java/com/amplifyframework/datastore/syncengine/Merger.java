@@ -27,10 +27,16 @@ import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.datastore.storage.StorageOperation;
 import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import io.reactivex.rxjava3.core.Completable;
@@ -103,6 +109,7 @@ final class Merger {
             .flatMapCompletable(shouldMerge ->
                 (isDelete ? delete(model, changeTypeConsumer) : save(model, changeTypeConsumer))
                     .andThen(save(metadata, NoOpConsumer.create()))
+                    .doOnComplete(() -> versionRepository.updateCachedVersion(metadata))
             )
             // Let the world know that we've done a good thing.
             .doOnComplete(() -> {
@@ -114,6 +121,77 @@ final class Merger {
             );
     }
 
+    /**
+     * Merge a page of items back into the local store, using the same default strategy as
+     * {@link #merge(ModelWithMetadata, Consumer)}. Rather than looking up the version of each item,
+     * and saving each model and its metadata, one at a time, the local versions of all items in
+     * the page are looked up together, stale items are filtered out in memory, and the remaining
+     * models and metadata are written to the local store in a single batch.
+     * @param page A page of models, each combined with metadata about it
+     * @param changeTypeConsumer A callback invoked with the type of change made to each model that is merged
+     * @return A completable operation to merge the page
+     */
+    Completable merge(
+            List<? extends ModelWithMetadata<? extends Model>> page,
+            Consumer<StorageItemChange.Type> changeTypeConsumer) {
+        // Check if there are pending mutations for any of the models, in the outbox.
+        final List<ModelWithMetadata<? extends Model>> candidates = new ArrayList<>();
+        final List<Model> candidateModels = new ArrayList<>();
+        for (ModelWithMetadata<? extends Model> modelWithMetadata : page) {
+            Model model = modelWithMetadata.getModel();
+            if (mutationOutbox.hasPendingMutation(model.getId())) {
+                LOG.info("Mutation outbox has pending mutation for " + model.getId() + ", refusing to merge.");
+                continue;
+            }
+            candidates.add(modelWithMetadata);
+            candidateModels.add(model);
+        }
+        if (candidates.isEmpty()) {
+            return Completable.complete();
+        }
+
+        return versionRepository.findModelVersions(candidateModels)
+            .onErrorReturnItem(Collections.emptyMap())
+            .flatMapCompletable(currentVersions -> {
+                final Map<String, Integer> knownVersions = new HashMap<>(currentVersions);
+                final List<StorageOperation<? extends Model>> operations = new ArrayList<>();
+                final List<ModelWithMetadata<? extends Model>> merged = new ArrayList<>();
+                for (ModelWithMetadata<? extends Model> modelWithMetadata : candidates) {
+                    ModelMetadata metadata = modelWithMetadata.getSyncMetadata();
+                    int incomingVersion = metadata.getVersion() == null ? -1 : metadata.getVersion();
+                    Model model = modelWithMetadata.getModel();
+                    // As for a single item, only merge if the incoming version is strictly greater.
+                    // The known versions are updated as the page is processed, in case the page
+                    // contains more than one version of the same model.
+                    Integer currentVersion = knownVersions.get(model.getId());
+                    if (currentVersion != null && incomingVersion <= currentVersion) {
+                        continue;
+                    }
+                    knownVersions.put(model.getId(), incomingVersion);
+                    operations.add(Boolean.TRUE.equals(metadata.isDeleted())
+                        ? StorageOperation.delete(model, StorageItemChange.Initiator.SYNC_ENGINE)
+                        : StorageOperation.save(model, StorageItemChange.Initiator.SYNC_ENGINE));
+                    operations.add(StorageOperation.save(metadata, StorageItemChange.Initiator.SYNC_ENGINE));
+                    merged.add(modelWithMetadata);
+                }
+                if (operations.isEmpty()) {
+                    return Completable.complete();
+                }
+                return batch(operations, changeTypeConsumer)
+                    // Let the world know that we've done a good thing.
+                    .doOnComplete(() -> {
+                        for (ModelWithMetadata<? extends Model> modelWithMetadata : merged) {
+                            versionRepository.updateCachedVersion(modelWithMetadata.getSyncMetadata());
+                            announceSuccessfulMerge(modelWithMetadata);
+                        }
+                        LOG.debug("Remote model updates were sync'd down into local storage: " + merged.size());
+                    });
+            })
+            .doOnError(failure ->
+                LOG.warn("Failed to sync a page of " + page.size() + " remote models into local storage.", failure)
+            );
+    }
+
     /**
      * Announce a successful merge over Hub.
      * @param modelWithMetadata Model with metadata that was successfully merged
@@ -145,6 +223,26 @@ final class Merger {
         );
     }
 
+    // Apply a batch of saves and deletes, reporting the type of change made to each model
+    // (but not to its metadata).
+    private Completable batch(
+            List<StorageOperation<? extends Model>> operations,
+            Consumer<StorageItemChange.Type> changeTypeConsumer) {
+        return Completable.create(emitter ->
+            localStorageAdapter.batch(operations,
+                storageItemChanges -> {
+                    for (StorageItemChange<? extends Model> storageItemChange : storageItemChanges) {
+                        if (!(storageItemChange.item() instanceof ModelMetadata)) {
+                            changeTypeConsumer.accept(storageItemChange.type());
+                        }
+                    }
+                    emitter.onComplete();
+                },
+                emitter::onError
+            )
+        );
+    }
+
     // Create or update a model.
     private <T extends Model> Completable save(T model, Consumer<StorageItemChange.Type> changeTypeConsumer) {
         return Completable.create(emitter ->
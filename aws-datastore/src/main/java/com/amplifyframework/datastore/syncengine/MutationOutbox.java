@@ -21,7 +21,10 @@ import androidx.annotation.Nullable;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.datastore.DataStoreException;
 
+import java.util.List;
+
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Observable;
 
 /*
@@ -89,6 +92,35 @@ interface MutationOutbox {
     @Nullable
     PendingMutation<? extends Model> peek();
 
+    /**
+     * Take a peek at the mutations which may be published right now. That is, in outbox order,
+     * the oldest pending mutation of each model, as long as it is not already in-flight.
+     * A later mutation for a model is never returned while an earlier one for the same model
+     * is still in the outbox, so mutations to any single model are published in order.
+     * @param maxCount Maximum number of mutations to return
+     * @return Up to maxCount pending mutations, each for a different model; empty if none are ready
+     */
+    @NonNull
+    List<PendingMutation<? extends Model>> peekReady(int maxCount);
+
+    /**
+     * Folds the pending mutations which directly follow a given mutation, for the same model,
+     * into that mutation, so that they can all be published with a single network call.
+     * A creation or update absorbs the unconditional updates that follow it, and an update
+     * is replaced by a deletion that follows it. A creation which is followed by a deletion
+     * never needs to be published at all. Folding stops at the first mutation which can't be
+     * folded, such as a conditional update. The outbox is rewritten in a single transaction.
+     * The mutation to publish is marked as in-flight along with that rewrite, so that any mutation
+     * enqueued afterwards is kept apart from it. A creation which was loaded from storage may have
+     * been published before a restart, so nothing is folded into it, nor is it cancelled out.
+     * @param pendingMutationId The ID of the oldest pending mutation of a model, which is not in-flight
+     * @return A Maybe which emits the mutation to publish in place of the original one, or completes
+     *         without a value if nothing needs to be published. Emits a {@link DataStoreException}
+     *         if there is no such mutation in the outbox, or if the outbox could not be rewritten.
+     */
+    @NonNull
+    Maybe<PendingMutation<? extends Model>> coalesce(@NonNull TimeBasedUuid pendingMutationId);
+
     /**
      * Marks a pending mutation as "in-flight." An in-flight mutation becomes
      * frozen to any further modifications, until it can be removed from the outbox, entirely.
@@ -23,6 +23,7 @@ import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.ModelSchemaRegistry;
+import com.amplifyframework.datastore.DataStoreConfigurationProvider;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.appsync.AppSync;
 import com.amplifyframework.datastore.appsync.AppSyncConflictUnhandledError;
@@ -33,6 +34,7 @@ import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.logging.Logger;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -57,6 +59,7 @@ final class MutationProcessor {
     private final MutationOutbox mutationOutbox;
     private final AppSync appSync;
     private final ConflictResolver conflictResolver;
+    private final DataStoreConfigurationProvider dataStoreConfigurationProvider;
     private final CompositeDisposable ongoingOperationsDisposable;
 
     private MutationProcessor(Builder builder) {
@@ -66,6 +69,7 @@ final class MutationProcessor {
         this.mutationOutbox = Objects.requireNonNull(builder.mutationOutbox);
         this.appSync = Objects.requireNonNull(builder.appSync);
         this.conflictResolver = Objects.requireNonNull(builder.conflictResolver);
+        this.dataStoreConfigurationProvider = Objects.requireNonNull(builder.dataStoreConfigurationProvider);
         this.ongoingOperationsDisposable = new CompositeDisposable();
     }
 
@@ -86,6 +90,12 @@ final class MutationProcessor {
      * API. If that succeeds, then we can remove it from the outbox. Otherwise,
      * we have to keep the mutation in the outbox, so that we can try to publish
      * it again later, when network conditions become favorable again.
+     *
+     * Mutations to different models are published concurrently, up to
+     * {@link com.amplifyframework.datastore.DataStoreConfiguration#getOutboxMaxConcurrentMutations()}
+     * at a time. Mutations to the same model are published one after another, in outbox order;
+     * but first, the outbox folds together any of them which can be published as one
+     * (see {@link MutationOutbox#coalesce(TimeBasedUuid)}).
      */
     void startDrainingMutationOutbox() {
         ongoingOperationsDisposable.add(mutationOutbox.events()
@@ -106,18 +116,28 @@ final class MutationProcessor {
         );
     }
 
-    private Completable drainMutationOutbox() {
-        PendingMutation<? extends Model> next;
+    private Completable drainMutationOutbox() throws DataStoreException {
+        int maxConcurrentMutations =
+            dataStoreConfigurationProvider.getConfiguration().getOutboxMaxConcurrentMutations();
+        List<PendingMutation<? extends Model>> batch;
         do {
-            next = mutationOutbox.peek();
-            if (next == null) {
+            // Each mutation in the batch is for a different model, so they may be published together.
+            batch = mutationOutbox.peekReady(maxConcurrentMutations);
+            if (batch.isEmpty()) {
                 return Completable.complete();
             }
-            boolean itemFailedToProcess = !processOutboxItem(next)
+            List<Completable> batchItems = new ArrayList<>(batch.size());
+            for (PendingMutation<? extends Model> next : batch) {
+                // Fold any later mutations of the same model into this one, so they're all published together.
+                // The outbox marks the result in-flight, so an enqueue can't change it while it's being published.
+                batchItems.add(mutationOutbox.coalesce(next.getMutationId())
+                    .flatMapCompletable(coalesced -> processOutboxItem(coalesced)));
+            }
+            boolean batchFailedToProcess = !Completable.mergeDelayError(batchItems)
                 .blockingAwait(ITEM_PROCESSING_TIMEOUT_MS, TimeUnit.MILLISECONDS);
-            if (itemFailedToProcess) {
+            if (batchFailedToProcess) {
                 return Completable.error(new DataStoreException(
-                    "Failed to process " + next, "Check your internet connection."
+                    "Failed to process " + batch, "Check your internet connection."
                 ));
             }
         } while (true);
@@ -366,6 +386,7 @@ final class MutationProcessor {
             BuilderSteps.MutationOutboxStep,
             BuilderSteps.AppSyncStep,
             BuilderSteps.ConflictResolverStep,
+            BuilderSteps.DataStoreConfigurationProviderStep,
             BuilderSteps.BuildStep {
         private Merger merger;
         private VersionRepository versionRepository;
@@ -373,6 +394,7 @@ final class MutationProcessor {
         private MutationOutbox mutationOutbox;
         private AppSync appSync;
         private ConflictResolver conflictResolver;
+        private DataStoreConfigurationProvider dataStoreConfigurationProvider;
 
         @NonNull
         @Override
@@ -411,11 +433,20 @@ final class MutationProcessor {
 
         @NonNull
         @Override
-        public BuilderSteps.BuildStep conflictResolver(@NonNull ConflictResolver conflictResolver) {
+        public BuilderSteps.DataStoreConfigurationProviderStep conflictResolver(
+                @NonNull ConflictResolver conflictResolver) {
             this.conflictResolver = Objects.requireNonNull(conflictResolver);
             return Builder.this;
         }
 
+        @NonNull
+        @Override
+        public BuilderSteps.BuildStep dataStoreConfigurationProvider(
+                @NonNull DataStoreConfigurationProvider dataStoreConfigurationProvider) {
+            this.dataStoreConfigurationProvider = Objects.requireNonNull(dataStoreConfigurationProvider);
+            return Builder.this;
+        }
+
         @NonNull
         @Override
         public MutationProcessor build() {
@@ -451,7 +482,13 @@ final class MutationProcessor {
 
         interface ConflictResolverStep {
             @NonNull
-            BuildStep conflictResolver(@NonNull ConflictResolver conflictResolver);
+            DataStoreConfigurationProviderStep conflictResolver(@NonNull ConflictResolver conflictResolver);
+        }
+
+        interface DataStoreConfigurationProviderStep {
+            @NonNull
+            BuildStep dataStoreConfigurationProvider(
+                @NonNull DataStoreConfigurationProvider dataStoreConfigurationProvider);
         }
 
         interface BuildStep {
@@ -20,20 +20,34 @@ import androidx.annotation.Nullable;
 
 import com.amplifyframework.core.model.Model;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The {@link MutationQueue} is a LinkedHashMap like container , the goal of using this container is to
  * achieve O(1) time complexity for both getting a {@link PendingMutation} and update an existing mutation with
  * valid id.
  * MutationQueue is implementing the Queue interface and provide most of the queue operations,
+ *
+ * Besides the queue itself, the mutations for each model are kept in their own chain, in queue order,
+ * so that the next mutation for a given model can also be found in O(1) time, instead of by
+ * scanning the whole queue.
+ *
+ * An entry may be added before its {@link PendingMutation} has been read out of storage, with only
+ * the mutation ID and model ID that are needed to place it in the queue. Until the mutation is filled
+ * in with {@link #fillInUnloaded(PendingMutation)}, the entry counts towards the size of the queue and
+ * the chain of its model, but its mutation is returned as null.
  */
 public final class MutationQueue {
 
     private final Map<TimeBasedUuid, Node> mutationMap = new HashMap<>();
+    private final Map<String, ModelChain> modelChains = new HashMap<>();
     private final Node dummyHead;
     private final Node dummyTail;
+    private long nextSequence;
 
     /**
      * Default constructor for {@link MutationQueue}.
@@ -52,17 +66,96 @@ public final class MutationQueue {
      * @return the {@link PendingMutation} instance
      */
     synchronized PendingMutation<? extends Model> nextMutationForModelId(String modelId) {
-        Node head = dummyHead.next;
-        if (head == dummyTail) {
-            return null;
+        ModelChain chain = modelChains.get(modelId);
+        return chain == null ? null : chain.first.mutation;
+    }
+
+    /**
+     * Determine if there are any Pending Mutations for the model with the given id,
+     * whether or not they have been loaded yet.
+     *
+     * @param modelId the model id
+     * @return true if there is at least one mutation for the model
+     */
+    synchronized boolean hasMutationsForModelId(String modelId) {
+        return modelChains.containsKey(modelId);
+    }
+
+    /**
+     * Find the IDs of the Pending Mutations for the model with the given id,
+     * which have not been loaded yet, in queue order.
+     *
+     * @param modelId the model id
+     * @return the IDs of the unloaded mutations for the model; empty if there are none
+     */
+    synchronized List<TimeBasedUuid> unloadedIdsForModelId(String modelId) {
+        List<TimeBasedUuid> ids = new ArrayList<>();
+        ModelChain chain = modelChains.get(modelId);
+        for (Node node = chain == null ? null : chain.first; node != null; node = node.modelNext) {
+            if (node.mutation == null) {
+                ids.add(node.id);
+            }
         }
-        while (head != dummyTail) {
-            if (head.mutation.getMutatedItem().getId().equals(modelId)) {
-                return head.mutation;
+        return ids;
+    }
+
+    /**
+     * Find the IDs of the Pending Mutations which have not been loaded yet,
+     * among the first few at the head of the queue, in queue order.
+     *
+     * @param windowSize the number of mutations at the head of the queue to look at
+     * @return the IDs of the unloaded mutations in the window; empty if there are none
+     */
+    synchronized List<TimeBasedUuid> unloadedIdsAtHead(int windowSize) {
+        List<TimeBasedUuid> ids = new ArrayList<>();
+        Node node = dummyHead.next;
+        for (int position = 0; node != dummyTail && position < windowSize; position++) {
+            if (node.mutation == null) {
+                ids.add(node.id);
             }
-            head = head.next;
+            node = node.next;
         }
-        return null;
+        return ids;
+    }
+
+    /**
+     * Find all of the Pending Mutations whose model has the same id, in queue order.
+     *
+     * @param modelId the model id
+     * @return the {@link PendingMutation}s for the model; empty if there are none
+     */
+    synchronized List<PendingMutation<? extends Model>> mutationsForModelId(String modelId) {
+        List<PendingMutation<? extends Model>> mutations = new ArrayList<>();
+        ModelChain chain = modelChains.get(modelId);
+        for (Node node = chain == null ? null : chain.first; node != null; node = node.modelNext) {
+            mutations.add(node.mutation);
+        }
+        return mutations;
+    }
+
+    /**
+     * Find the first Pending Mutation of each model, in queue order, leaving out the excluded ones.
+     * The later mutations of a model are never returned, even if its first mutation is excluded.
+     * The search stops at the first mutation that would be returned, but hasn't been loaded yet.
+     *
+     * @param maxCount the maximum number of mutations to return
+     * @param excludedIds the IDs of mutations that must not be returned
+     * @return up to maxCount {@link PendingMutation}s, each for a different model
+     */
+    synchronized List<PendingMutation<? extends Model>> nextMutationsForDistinctModels(
+            int maxCount, @NonNull Set<TimeBasedUuid> excludedIds) {
+        List<PendingMutation<? extends Model>> mutations = new ArrayList<>();
+        Node node = dummyHead.next;
+        while (node != dummyTail && mutations.size() < maxCount) {
+            if (node.modelPrev == null && !excludedIds.contains(node.id)) {
+                if (node.mutation == null) {
+                    break;
+                }
+                mutations.add(node.mutation);
+            }
+            node = node.next;
+        }
+        return mutations;
     }
 
     /**
@@ -84,6 +177,8 @@ public final class MutationQueue {
         //remove from current linkedlist
         removingPrev.next = removingNext;
         removingNext.prev = removingPrev;
+        //remove from the chain of mutations for the same model
+        unlinkFromModelChain(removingNode);
         return true;
     }
 
@@ -94,9 +189,16 @@ public final class MutationQueue {
      * @return true if successfully added a pending mutation
      */
     private synchronized boolean addToTail(@NonNull PendingMutation<? extends Model> pendingMutation) {
+        return addToTail(pendingMutation.getMutationId(), pendingMutation.getMutatedItem().getId(), pendingMutation);
+    }
+
+    private boolean addToTail(@NonNull TimeBasedUuid mutationId,
+                              @NonNull String modelId,
+                              @Nullable PendingMutation<? extends Model> pendingMutation) {
         //constructing a new node
         Node pendingNode = new Node();
-        pendingNode.id = pendingMutation.getMutationId();
+        pendingNode.id = mutationId;
+        pendingNode.modelId = modelId;
         pendingNode.mutation = pendingMutation;
         //insert the new node into the current linkedlist
         Node addingPrev = dummyTail.prev;
@@ -105,10 +207,61 @@ public final class MutationQueue {
         pendingNode.prev = addingPrev;
         pendingNode.next = dummyTail;
         //put the mutation into the mutationmap
-        mutationMap.put(pendingMutation.getMutationId(), pendingNode);
+        mutationMap.put(mutationId, pendingNode);
+        //and at the end of the chain of mutations for the same model
+        pendingNode.sequence = nextSequence++;
+        linkIntoModelChain(pendingNode);
         return true;
     }
 
+    // Links a node into the chain of its model's mutations, keeping the chain in queue order.
+    // Nodes are almost always added at the tail of the queue, so the search starts from the chain's tail.
+    private void linkIntoModelChain(Node node) {
+        ModelChain chain = modelChains.get(node.modelId);
+        if (chain == null) {
+            chain = new ModelChain();
+            chain.first = node;
+            chain.last = node;
+            modelChains.put(node.modelId, chain);
+            return;
+        }
+        Node before = chain.last;
+        while (before != null && before.sequence > node.sequence) {
+            before = before.modelPrev;
+        }
+        node.modelPrev = before;
+        node.modelNext = before == null ? chain.first : before.modelNext;
+        if (node.modelPrev == null) {
+            chain.first = node;
+        } else {
+            node.modelPrev.modelNext = node;
+        }
+        if (node.modelNext == null) {
+            chain.last = node;
+        } else {
+            node.modelNext.modelPrev = node;
+        }
+    }
+
+    private void unlinkFromModelChain(Node node) {
+        ModelChain chain = modelChains.get(node.modelId);
+        if (node.modelPrev == null) {
+            chain.first = node.modelNext;
+        } else {
+            node.modelPrev.modelNext = node.modelNext;
+        }
+        if (node.modelNext == null) {
+            chain.last = node.modelPrev;
+        } else {
+            node.modelNext.modelPrev = node.modelPrev;
+        }
+        node.modelPrev = null;
+        node.modelNext = null;
+        if (chain.first == null) {
+            modelChains.remove(node.modelId);
+        }
+    }
+
     /**
      * Replace an existing {@link PendingMutation} inside the Queue.
      *
@@ -120,20 +273,40 @@ public final class MutationQueue {
         // If there is already a mutation with same ID in the queue,
         // we'll go find it, and then update it, with this contents.
         if (mutationMap.containsKey(timeBasedUuid)) {
-            mutationMap.get(timeBasedUuid).mutation = pendingMutation;
+            Node existingNode = mutationMap.get(timeBasedUuid);
+            existingNode.mutation = pendingMutation;
+            if (!existingNode.modelId.equals(pendingMutation.getMutatedItem().getId())) {
+                // The mutation now refers to a different model; move it over to that model's chain.
+                unlinkFromModelChain(existingNode);
+                existingNode.modelId = pendingMutation.getMutatedItem().getId();
+                linkIntoModelChain(existingNode);
+            }
         } else {
             // Otherwise, just add it to the end of the queue.
             addToTail(pendingMutation);
         }
     }
 
+    /**
+     * Fill in a {@link PendingMutation} which was added to the queue before it was loaded.
+     * Nothing happens if the mutation has since been loaded, replaced, or removed from the queue.
+     *
+     * @param pendingMutation the pending mutation's instance, as loaded
+     */
+    synchronized void fillInUnloaded(@NonNull PendingMutation<? extends Model> pendingMutation) {
+        Node existingNode = mutationMap.get(pendingMutation.getMutationId());
+        if (existingNode != null && existingNode.mutation == null) {
+            existingNode.mutation = pendingMutation;
+        }
+    }
+
     /**
      * Get a {@link PendingMutation} instance by its UUID from {@link #mutationMap}.
      *
      * @param timeBasedUuid the UUID of a pending mutation
      * @return an instance of {@link PendingMutation}
      */
-    @Nullable // When there is no match.
+    @Nullable // When there is no match, or the match hasn't been loaded yet.
     synchronized PendingMutation<? extends Model> getMutationById(TimeBasedUuid timeBasedUuid) {
         if (mutationMap.containsKey(timeBasedUuid)) {
             return mutationMap.get(timeBasedUuid).mutation;
@@ -141,6 +314,29 @@ public final class MutationQueue {
         return null;
     }
 
+    /**
+     * Get the id of the model mutated by a {@link PendingMutation}, whether or not it has been loaded yet.
+     *
+     * @param timeBasedUuid the UUID of a pending mutation
+     * @return the id of the mutated model
+     */
+    @Nullable // When there is no match.
+    synchronized String getModelIdById(TimeBasedUuid timeBasedUuid) {
+        Node node = mutationMap.get(timeBasedUuid);
+        return node == null ? null : node.modelId;
+    }
+
+    /**
+     * Determine if there is a {@link PendingMutation} with the given UUID in the queue,
+     * whether or not it has been loaded yet.
+     *
+     * @param timeBasedUuid the UUID of a pending mutation
+     * @return true if the queue contains the mutation
+     */
+    synchronized boolean containsId(TimeBasedUuid timeBasedUuid) {
+        return mutationMap.containsKey(timeBasedUuid);
+    }
+
     /**
      * Determine if the queue is empty.
      *
@@ -164,6 +360,21 @@ public final class MutationQueue {
         }
     }
 
+    /**
+     * Add a {@link PendingMutation} to the tail of the queue, before it has been loaded.
+     *
+     * @param mutationId the UUID of the pending mutation
+     * @param modelId the id of the model that it mutates
+     * @return return true if we successfully added the pending mutation into the queue
+     */
+    synchronized boolean addUnloaded(@NonNull TimeBasedUuid mutationId, @NonNull String modelId) {
+        if (!mutationMap.containsKey(mutationId)) {
+            return addToTail(mutationId, modelId, null);
+        } else {
+            return false;
+        }
+    }
+
     /**
      * Get the size of the queue.
      *
@@ -194,10 +405,12 @@ public final class MutationQueue {
         dummyHead.next = dummyTail;
         dummyTail.prev = dummyHead;
         mutationMap.clear();
+        modelChains.clear();
     }
 
     /**
      * Get the first {@link PendingMutation} instance from the queue, if queue is empty, return null.
+     * Also returns null if the first mutation hasn't been loaded yet.
      *
      * @return return a {@link PendingMutation} or null
      */
@@ -215,5 +428,18 @@ public final class MutationQueue {
         private PendingMutation<? extends Model> mutation;
         private Node next;
         private Node prev;
+        // Position in the queue, relative to other nodes, and links to the other mutations of the same model.
+        private long sequence;
+        private String modelId;
+        private Node modelNext;
+        private Node modelPrev;
+    }
+
+    /**
+     * The first and last node in the chain of mutations for a single model.
+     */
+    private class ModelChain {
+        private Node first;
+        private Node last;
     }
 }
@@ -63,6 +63,7 @@ public final class Orchestrator {
     private final Supplier<State> targetState;
     private final AtomicReference<State> currentState;
     private final MutationOutbox mutationOutbox;
+    private final VersionRepository versionRepository;
     private final CompositeDisposable disposables;
     private final Scheduler startStopScheduler;
     private final long adjustedTimeoutSeconds;
@@ -98,7 +99,7 @@ public final class Orchestrator {
         Objects.requireNonNull(localStorageAdapter);
 
         this.mutationOutbox = new PersistentMutationOutbox(localStorageAdapter);
-        VersionRepository versionRepository = new VersionRepository(localStorageAdapter);
+        this.versionRepository = new VersionRepository(localStorageAdapter);
         Merger merger = new Merger(mutationOutbox, versionRepository, localStorageAdapter);
         SyncTimeRegistry syncTimeRegistry = new SyncTimeRegistry(localStorageAdapter);
         ConflictResolver conflictResolver = new ConflictResolver(dataStoreConfigurationProvider, appSync);
@@ -111,6 +112,7 @@ public final class Orchestrator {
             .mutationOutbox(mutationOutbox)
             .appSync(appSync)
             .conflictResolver(conflictResolver)
+            .dataStoreConfigurationProvider(dataStoreConfigurationProvider)
             .build();
         this.syncProcessor = SyncProcessor.builder()
             .modelProvider(modelProvider)
@@ -255,6 +257,8 @@ public final class Orchestrator {
      */
     private void startObservingStorageChanges() throws DataStoreException {
         LOG.info("Starting to observe local storage changes.");
+        // The local store may have been cleared while stopped.
+        versionRepository.clearCachedVersions();
         try {
             boolean subscribed = mutationOutbox.load()
                 .andThen(Completable.create(emitter -> {
@@ -335,6 +339,10 @@ public final class Orchestrator {
 
             LOG.debug("Draining subscription buffer...");
             subscriptionProcessor.startDrainingMutationBuffer(this::stopApiSyncBlocking);
+
+            // If subscriptions are lost and re-established, a delta sync catches up on what they missed,
+            // instead of restarting the API sync. It isn't announced as a sync on the Hub.
+            subscriptionProcessor.startCatchingUpAfterResubscription(syncProcessor::catchUp);
             emitter.onComplete();
         })
         .doOnError(error -> {
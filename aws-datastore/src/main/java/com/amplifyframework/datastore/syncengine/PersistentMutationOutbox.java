@@ -20,24 +20,37 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.Action;
 import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.query.predicate.QueryField;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicateGroup;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.DataStoreQueryIterator;
 import com.amplifyframework.datastore.events.OutboxStatusEvent;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.datastore.storage.StorageOperation;
 import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.logging.Logger;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Semaphore;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.CompletableEmitter;
+import io.reactivex.rxjava3.core.Maybe;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.subjects.PublishSubject;
 import io.reactivex.rxjava3.subjects.Subject;
@@ -50,16 +63,25 @@ import io.reactivex.rxjava3.subjects.Subject;
  * This component is an "offline mutation queue,"; items in the mutation outbox are observed,
  * and written out over the network. When an item is written out over the network successfully,
  * it is safe to remove it from this outbox.
+ *
+ * When the outbox is loaded, only the first page of mutations is read out of storage in full.
+ * The rest are placed in the queue by their mutation ID and model ID alone, and are read in
+ * when they are needed, a page at a time. So, the time it takes to load the outbox, and the
+ * memory that it takes up, doesn't grow with the size of the data in it.
  */
 final class PersistentMutationOutbox implements MutationOutbox {
     private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
+    private static final int LOAD_PAGE_SIZE = 50;
 
     private final LocalStorageAdapter storage;
     private final MutationQueue mutationQueue;
     private final Set<TimeBasedUuid> inFlightMutations;
+    private final Set<TimeBasedUuid> possiblyPublishedMutations;
     private final PendingMutation.Converter converter;
     private final Subject<OutboxEvent> events;
     private final Semaphore semaphore;
+    private final Deque<PendingWrite> pendingWrites;
+    private boolean isCommitting;
 
     PersistentMutationOutbox(@NonNull final LocalStorageAdapter localStorageAdapter) {
         this(localStorageAdapter, new MutationQueue());
@@ -70,16 +92,19 @@ final class PersistentMutationOutbox implements MutationOutbox {
                              @NonNull MutationQueue mutationQueue) {
         this.storage = Objects.requireNonNull(localStorageAdapter);
         this.mutationQueue = mutationQueue;
-        this.inFlightMutations = new HashSet<>();
-        this.converter = new GsonPendingMutationConverter();
+        this.inFlightMutations = Collections.synchronizedSet(new HashSet<>());
+        this.possiblyPublishedMutations = Collections.synchronizedSet(new HashSet<>());
+        this.converter = new CompactPendingMutationConverter();
         this.events = PublishSubject.<OutboxEvent>create().toSerialized();
         this.semaphore = new Semaphore(1);
+        this.pendingWrites = new ArrayDeque<>();
+        this.isCommitting = false;
     }
 
     @Override
     public boolean hasPendingMutation(@NonNull String modelId) {
         Objects.requireNonNull(modelId);
-        return mutationQueue.nextMutationForModelId(modelId) != null;
+        return mutationQueue.hasMutationsForModelId(modelId);
     }
 
     @NonNull
@@ -89,6 +114,11 @@ final class PersistentMutationOutbox implements MutationOutbox {
         // If there is no existing mutation for the model, then just apply the incoming
         // mutation, and be done with this.
         String modelId = incomingMutation.getMutatedItem().getId();
+        List<TimeBasedUuid> unloadedIds = mutationQueue.unloadedIdsForModelId(modelId);
+        if (!unloadedIds.isEmpty()) {
+            return loadUnloaded(unloadedIds)
+                .andThen(Completable.defer(() -> enqueue(incomingMutation)));
+        }
         @SuppressWarnings("unchecked")
         PendingMutation<T> existingMutation = (PendingMutation<T>) mutationQueue.nextMutationForModelId(modelId);
         if (existingMutation == null || inFlightMutations.contains(existingMutation.getMutationId())) {
@@ -103,35 +133,33 @@ final class PersistentMutationOutbox implements MutationOutbox {
                                                           @NonNull PendingMutation<T> incomingMutation) {
         IncomingMutationConflictHandler<T> mutationConflictHandler =
             new IncomingMutationConflictHandler<>(existingMutation, incomingMutation);
-        return mutationConflictHandler.resolve();
+        return mutationConflictHandler.resolve()
+            // If the existing mutation changed before the resolution could be committed, start over.
+            .onErrorResumeNext(error -> error instanceof StaleWriteException ?
+                enqueue(incomingMutation) : Completable.error(error));
     }
 
     private <T extends Model> Completable save(PendingMutation<T> pendingMutation) {
-        return Completable.defer(() -> Completable.create(subscriber -> {
-            semaphore.acquire();
-            storage.save(
-                converter.toRecord(pendingMutation),
-                StorageItemChange.Initiator.SYNC_ENGINE,
-                QueryPredicates.all(),
-                saved -> {
-                    // The return value is StorageItemChange, referring to a PersistentRecord
-                    // that was saved. We could "unwrap" a PendingMutation from that PersistentRecord,
-                    // to get identically the thing that was saved. But we know the save succeeded.
-                    // So, let's skip the unwrapping, and use the thing that was enqueued,
-                    // the pendingMutation, directly.
-                    mutationQueue.updateExistingQueueItemOrAppendNew(pendingMutation.getMutationId(), pendingMutation);
-                    LOG.info("Successfully enqueued " + pendingMutation);
-                    announceEventEnqueued(pendingMutation);
-                    publishCurrentOutboxStatus();
-                    semaphore.release();
-                    subscriber.onComplete();
-                },
-                failure -> {
-                    semaphore.release();
-                    subscriber.onError(failure);
-                }
-            );
-        }));
+        return save(pendingMutation, null);
+    }
+
+    private <T extends Model> Completable save(PendingMutation<T> pendingMutation,
+                                               @Nullable Precondition precondition) {
+        return Completable.defer(() -> write(
+            Collections.singletonList(StorageOperation.save(
+                converter.toRecord(pendingMutation), StorageItemChange.Initiator.SYNC_ENGINE
+            )),
+            precondition,
+            () -> {
+                // The PersistentRecord that was saved could be "unwrapped" back into a PendingMutation,
+                // to get identically the thing that was saved. But we know the save succeeded.
+                // So, let's skip the unwrapping, and use the thing that was enqueued,
+                // the pendingMutation, directly.
+                mutationQueue.updateExistingQueueItemOrAppendNew(pendingMutation.getMutationId(), pendingMutation);
+                LOG.info("Successfully enqueued " + pendingMutation);
+                announceEventEnqueued(pendingMutation);
+            }
+        ));
     }
 
     @NonNull
@@ -139,35 +167,310 @@ final class PersistentMutationOutbox implements MutationOutbox {
     public Completable remove(@NonNull TimeBasedUuid pendingMutationId) {
         Objects.requireNonNull(pendingMutationId);
         PendingMutation<? extends Model> pendingMutation = mutationQueue.getMutationById(pendingMutationId);
-        if (pendingMutation == null) {
+        if (pendingMutation == null && mutationQueue.containsId(pendingMutationId)) {
+            return loadUnloaded(Collections.singletonList(pendingMutationId))
+                .andThen(Completable.defer(() -> remove(pendingMutationId)));
+        } else if (pendingMutation == null) {
             return Completable.error(new DataStoreException(
                 "Outbox was asked to remove a mutation with ID = " + pendingMutationId + ". " +
                     "However, there was no mutation with that ID in the outbox, to begin with.",
                 AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
             ));
         }
-        return Completable.defer(() -> Completable.create(subscriber -> {
-            semaphore.acquire();
-            storage.delete(
-                converter.toRecord(pendingMutation),
-                StorageItemChange.Initiator.SYNC_ENGINE,
-                QueryPredicates.all(),
-                ignored -> {
-                    mutationQueue.removeById(pendingMutation.getMutationId());
-                    inFlightMutations.remove(pendingMutationId);
-                    LOG.info("Successfully removed from mutations outbox" + pendingMutation);
-                    if (!mutationQueue.isEmpty()) {
-                        notifyContentAvailable();
+        return Completable.defer(() -> write(
+            Collections.singletonList(StorageOperation.delete(
+                converter.toRecord(pendingMutation), StorageItemChange.Initiator.SYNC_ENGINE
+            )),
+            null,
+            () -> {
+                mutationQueue.removeById(pendingMutation.getMutationId());
+                inFlightMutations.remove(pendingMutationId);
+                possiblyPublishedMutations.remove(pendingMutationId);
+                LOG.info("Successfully removed from mutations outbox" + pendingMutation);
+                if (!mutationQueue.isEmpty()) {
+                    notifyContentAvailable();
+                }
+            }
+        ));
+    }
+
+    /**
+     * Removes some mutations from the outbox and saves another one into it, in a single transaction.
+     * @param removals Mutations to remove from the outbox
+     * @param replacement A mutation to save in place of any existing mutation with the same ID,
+     *                    or null if mutations are only being removed
+     * @param precondition Checked just before the rewrite is committed; if it no longer holds,
+     *                     the outbox is left as it is
+     * @return A Completable which completes when the outbox has been rewritten, or emits an error
+     *         if it could not be, in which case the outbox is unchanged
+     */
+    private Completable rewrite(@NonNull List<PendingMutation<? extends Model>> removals,
+                                @Nullable PendingMutation<? extends Model> replacement,
+                                @NonNull Precondition precondition) {
+        return Completable.defer(() -> write(
+            rewriteOperations(removals, replacement),
+            precondition,
+            () -> applyRewrite(removals, replacement)
+        ));
+    }
+
+    private List<StorageOperation<? extends Model>> rewriteOperations(
+            @NonNull List<PendingMutation<? extends Model>> removals,
+            @Nullable PendingMutation<? extends Model> replacement) {
+        List<StorageOperation<? extends Model>> operations = new ArrayList<>();
+        for (PendingMutation<? extends Model> removal : removals) {
+            operations.add(StorageOperation.delete(
+                converter.toRecord(removal), StorageItemChange.Initiator.SYNC_ENGINE
+            ));
+        }
+        if (replacement != null) {
+            operations.add(StorageOperation.save(
+                converter.toRecord(replacement), StorageItemChange.Initiator.SYNC_ENGINE
+            ));
+        }
+        return operations;
+    }
+
+    private void applyRewrite(@NonNull List<PendingMutation<? extends Model>> removals,
+                              @Nullable PendingMutation<? extends Model> replacement) {
+        for (PendingMutation<? extends Model> removal : removals) {
+            mutationQueue.removeById(removal.getMutationId());
+            inFlightMutations.remove(removal.getMutationId());
+            possiblyPublishedMutations.remove(removal.getMutationId());
+        }
+        if (replacement != null) {
+            mutationQueue.updateExistingQueueItemOrAppendNew(replacement.getMutationId(), replacement);
+        }
+    }
+
+    /**
+     * Writes to the durable storage behind the outbox. Writes are group-committed: while one
+     * group of writes is being committed, any others that are requested wait, and are then
+     * all committed together, in a single transaction, followed by a single outbox status event.
+     * A write with a precondition is committed on its own, once every write requested before it
+     * has been committed, so that the precondition sees the outbox just as the write will find it.
+     * @param operations Storage operations to apply, in order
+     * @param precondition If not null, checked just before the operations are committed; if it no
+     *                     longer holds, they are not committed, and a {@link StaleWriteException} is emitted
+     * @param onCommitted Updates the in-memory state of the outbox, once the operations are committed
+     * @return A Completable which completes when the operations have been committed, or emits
+     *         an error if they could not be
+     */
+    private Completable write(@NonNull List<StorageOperation<? extends Model>> operations,
+                              @Nullable Precondition precondition,
+                              @NonNull Action onCommitted) {
+        return Completable.create(emitter -> {
+            boolean shouldCommit;
+            synchronized (pendingWrites) {
+                pendingWrites.addLast(new PendingWrite(operations, precondition, onCommitted, emitter));
+                shouldCommit = !isCommitting;
+                isCommitting = true;
+            }
+            if (shouldCommit) {
+                commitPendingWrites();
+            }
+        });
+    }
+
+    // Commits the writes that are waiting as one group, and then the next group, if more arrived meanwhile.
+    private void commitPendingWrites() {
+        final List<PendingWrite> group = new ArrayList<>();
+        synchronized (pendingWrites) {
+            if (pendingWrites.isEmpty()) {
+                isCommitting = false;
+                return;
+            }
+            if (pendingWrites.peekFirst().isIsolated) {
+                group.add(pendingWrites.pollFirst());
+            } else {
+                while (!pendingWrites.isEmpty() && !pendingWrites.peekFirst().isIsolated) {
+                    group.add(pendingWrites.pollFirst());
+                }
+            }
+        }
+        List<StorageOperation<? extends Model>> operations = new ArrayList<>();
+        for (PendingWrite pendingWrite : group) {
+            operations.addAll(pendingWrite.operations);
+        }
+        semaphore.acquireUninterruptibly();
+        PendingWrite first = group.get(0);
+        if (first.precondition != null && !first.precondition.holds()) {
+            semaphore.release();
+            first.emitter.onError(new StaleWriteException());
+            commitPendingWrites();
+            return;
+        } else if (operations.isEmpty()) {
+            // Nothing to store, e.g. the write only freezes a mutation by marking it in-flight.
+            first.onCommitted.call();
+            semaphore.release();
+            first.emitter.onComplete();
+            commitPendingWrites();
+            return;
+        }
+        storage.batch(
+            operations,
+            changes -> {
+                for (PendingWrite pendingWrite : group) {
+                    pendingWrite.onCommitted.call();
+                }
+                publishCurrentOutboxStatus();
+                semaphore.release();
+                for (PendingWrite pendingWrite : group) {
+                    pendingWrite.emitter.onComplete();
+                }
+                commitPendingWrites();
+            },
+            failure -> {
+                semaphore.release();
+                if (group.size() > 1) {
+                    // Don't let one bad write fail the others. Retry each of them on its own, in the same order.
+                    synchronized (pendingWrites) {
+                        for (int index = group.size() - 1; index >= 0; index--) {
+                            PendingWrite pendingWrite = group.get(index);
+                            pendingWrite.isIsolated = true;
+                            pendingWrites.addFirst(pendingWrite);
+                        }
                     }
-                    semaphore.release();
-                    subscriber.onComplete();
-                },
-                failure -> {
-                    semaphore.release();
-                    subscriber.onError(failure);
+                } else {
+                    group.get(0).emitter.onError(failure);
                 }
-            );
-        }));
+                commitPendingWrites();
+            }
+        );
+    }
+
+    @NonNull
+    @Override
+    public Maybe<PendingMutation<? extends Model>> coalesce(@NonNull TimeBasedUuid pendingMutationId) {
+        Objects.requireNonNull(pendingMutationId);
+        return Maybe.defer(() -> {
+            String modelId = mutationQueue.getModelIdById(pendingMutationId);
+            List<TimeBasedUuid> unloadedIds = modelId == null ?
+                Collections.emptyList() : mutationQueue.unloadedIdsForModelId(modelId);
+            if (!unloadedIds.isEmpty()) {
+                return loadUnloaded(unloadedIds).andThen(coalesce(pendingMutationId));
+            }
+            PendingMutation<? extends Model> pendingMutation = mutationQueue.getMutationById(pendingMutationId);
+            if (pendingMutation == null) {
+                return Maybe.error(new DataStoreException(
+                    "Outbox was asked to coalesce the mutations following ID = " + pendingMutationId + ". " +
+                        "However, there was no mutation with that ID in the outbox, to begin with.",
+                    AmplifyException.REPORT_BUG_TO_AWS_SUGGESTION
+                ));
+            }
+            return coalesce(pendingMutation);
+        });
+    }
+
+    private <T extends Model> Maybe<PendingMutation<? extends Model>> coalesce(
+            @NonNull PendingMutation<T> pendingMutation) {
+        TimeBasedUuid mutationId = pendingMutation.getMutationId();
+        String modelId = pendingMutation.getMutatedItem().getId();
+        List<PendingMutation<? extends Model>> mutationsForModel = mutationQueue.mutationsForModelId(modelId);
+        // Only the oldest mutation of a model may absorb the ones after it, and only until it is in-flight.
+        if (mutationsForModel.isEmpty() ||
+                !mutationsForModel.get(0).getMutationId().equals(mutationId) ||
+                inFlightMutations.contains(mutationId)) {
+            return Maybe.just(pendingMutation);
+        }
+
+        T item = pendingMutation.getMutatedItem();
+        PendingMutation.Type type = pendingMutation.getMutationType();
+        QueryPredicate predicate = pendingMutation.getPredicate();
+        // A creation that was loaded from storage may have reached the remote store before a restart,
+        // so it is published as it is. Later changes can't be folded into it, or cancel it out.
+        boolean isUnpublishedCreation = PendingMutation.Type.CREATE.equals(type) &&
+            !possiblyPublishedMutations.contains(mutationId);
+        boolean isCancelled = false;
+        List<PendingMutation<? extends Model>> absorbed = new ArrayList<>();
+        for (PendingMutation<? extends Model> next : mutationsForModel.subList(1, mutationsForModel.size())) {
+            @SuppressWarnings("unchecked") // Mutations for the same model ID are for the same type of model
+            T nextItem = (T) next.getMutatedItem();
+            boolean nextIsUnconditionalUpdate = PendingMutation.Type.UPDATE.equals(next.getMutationType()) &&
+                QueryPredicates.all().equals(next.getPredicate());
+            boolean nextIsDeletion = PendingMutation.Type.DELETE.equals(next.getMutationType());
+            if (isUnpublishedCreation && nextIsUnconditionalUpdate) {
+                // Create, then update -> create the updated item.
+                item = nextItem;
+            } else if (PendingMutation.Type.UPDATE.equals(type) && nextIsUnconditionalUpdate) {
+                // Update, then update -> just apply the last update, regardless of the first one's condition.
+                item = nextItem;
+                predicate = QueryPredicates.all();
+            } else if (PendingMutation.Type.UPDATE.equals(type) && nextIsDeletion) {
+                // Update, then delete -> just delete.
+                item = nextItem;
+                type = PendingMutation.Type.DELETE;
+                predicate = next.getPredicate();
+            } else if (isUnpublishedCreation && nextIsDeletion) {
+                // Create, then delete -> the model never existed remotely, so there's nothing to publish.
+                absorbed.add(next);
+                isCancelled = true;
+                break;
+            } else {
+                // Anything else (e.g., a conditional update) has to be published on its own.
+                break;
+            }
+            absorbed.add(next);
+        }
+
+        final List<PendingMutation<? extends Model>> removals = new ArrayList<>(absorbed);
+        final PendingMutation<? extends Model> replacement;
+        final PendingMutation<? extends Model> coalesced;
+        if (isCancelled) {
+            removals.add(0, pendingMutation);
+            replacement = null;
+            coalesced = null;
+        } else if (absorbed.isEmpty()) {
+            replacement = null;
+            coalesced = pendingMutation;
+        } else {
+            replacement = PendingMutation.instance(mutationId, item, pendingMutation.getModelSchema(), type, predicate);
+            coalesced = replacement;
+        }
+        // The mutation to publish is marked in-flight in the same step that commits it, so that
+        // a mutation enqueued after that is saved on its own, and isn't folded into it.
+        Completable commit = write(
+            rewriteOperations(removals, replacement),
+            () -> isUnchanged(pendingMutation, absorbed),
+            () -> {
+                applyRewrite(removals, replacement);
+                if (coalesced != null) {
+                    inFlightMutations.add(mutationId);
+                }
+            }
+        );
+        return commit
+            .doOnComplete(() -> {
+                if (coalesced == null) {
+                    LOG.debug("Coalesced " + removals.size() + " mutations, leaving none to publish.");
+                } else if (!absorbed.isEmpty()) {
+                    LOG.debug("Coalesced " + (absorbed.size() + 1) + " mutations into " + coalesced);
+                }
+            })
+            .andThen(coalesced == null ? Maybe.<PendingMutation<? extends Model>>empty() : Maybe.just(coalesced))
+            // If the mutations were changed by an enqueue in the meantime, coalesce them again, as they are now.
+            .onErrorResumeNext(error -> {
+                if (!(error instanceof StaleWriteException)) {
+                    return Maybe.error(error);
+                }
+                return mutationQueue.containsId(mutationId) ?
+                    coalesce(mutationId) : Maybe.<PendingMutation<? extends Model>>empty();
+            });
+    }
+
+    // Whether a model's oldest mutation is still not in-flight, and it and the ones after it are as they were.
+    private boolean isUnchanged(@NonNull PendingMutation<? extends Model> oldest,
+                                @NonNull List<PendingMutation<? extends Model>> following) {
+        if (mutationQueue.nextMutationForModelId(oldest.getMutatedItem().getId()) != oldest ||
+                inFlightMutations.contains(oldest.getMutationId())) {
+            return false;
+        }
+        for (PendingMutation<? extends Model> mutation : following) {
+            if (mutationQueue.getMutationById(mutation.getMutationId()) != mutation) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @NonNull
@@ -176,17 +479,17 @@ final class PersistentMutationOutbox implements MutationOutbox {
         return Completable.defer(() -> Completable.create(emitter -> {
             semaphore.acquire();
             inFlightMutations.clear();
+            possiblyPublishedMutations.clear();
             mutationQueue.clear();
-            storage.query(PendingMutation.PersistentRecord.class,
+            storage.queryLazily(PendingMutation.PersistentRecord.class, Where.matchesAll(),
                 results -> {
-                    while (results.hasNext()) {
-                        try {
-                            mutationQueue.add(converter.fromRecord(results.next()));
-                        } catch (DataStoreException conversionFailure) {
-                            semaphore.release();
-                            emitter.onError(conversionFailure);
-                            return;
-                        }
+                    try {
+                        addRecordsToQueue(results);
+                    } catch (DataStoreException | IllegalStateException loadFailure) {
+                        results.cancel();
+                        semaphore.release();
+                        emitter.onError(loadFailure);
+                        return;
                     }
                     // Publish outbox status upon loading
                     publishCurrentOutboxStatus();
@@ -201,6 +504,97 @@ final class PersistentMutationOutbox implements MutationOutbox {
         }));
     }
 
+    // Adds the first page of records to the queue in full, and the rest by their IDs alone. The rest
+    // are still read out of storage whole, since the storage adapter has no way to select only some
+    // columns; what is saved is converting them into mutations, and holding them in memory.
+    // Since in-flight status isn't persisted, any of them may have been published before a restart.
+    private void addRecordsToQueue(DataStoreQueryIterator<PendingMutation.PersistentRecord> records)
+            throws DataStoreException {
+        int position = 0;
+        while (records.hasNext()) {
+            PendingMutation.PersistentRecord record = records.next();
+            TimeBasedUuid mutationId = TimeBasedUuid.fromString(record.getId());
+            if (position < LOAD_PAGE_SIZE) {
+                mutationQueue.add(converter.fromRecord(record));
+            } else {
+                mutationQueue.addUnloaded(mutationId, record.getContainedModelId());
+            }
+            possiblyPublishedMutations.add(mutationId);
+            position++;
+        }
+    }
+
+    /**
+     * Reads mutations which were added to the queue before they were loaded, and fills them in.
+     * The mutations are read out of storage a page at a time. Any which are no longer in storage
+     * are dropped from the queue.
+     * @param mutationIds IDs of mutations in the queue that haven't been loaded yet
+     * @return A Completable which completes when the mutations have been filled in, or emits
+     *         an error if they could not be read
+     */
+    private Completable loadUnloaded(@NonNull List<TimeBasedUuid> mutationIds) {
+        int pageCount = (mutationIds.size() + LOAD_PAGE_SIZE - 1) / LOAD_PAGE_SIZE;
+        return Observable.range(0, pageCount)
+            .concatMapCompletable(page -> {
+                int fromIndex = page * LOAD_PAGE_SIZE;
+                int toIndex = Math.min(fromIndex + LOAD_PAGE_SIZE, mutationIds.size());
+                return loadPage(mutationIds.subList(fromIndex, toIndex));
+            });
+    }
+
+    private Completable loadPage(List<TimeBasedUuid> mutationIds) {
+        final QueryPredicate hasAnyMatchingId = hasAnyId(mutationIds);
+        return Completable.create(emitter -> storage.query(
+            PendingMutation.PersistentRecord.class,
+            Where.matches(hasAnyMatchingId),
+            results -> {
+                Set<TimeBasedUuid> missingIds = new HashSet<>(mutationIds);
+                while (results.hasNext()) {
+                    PendingMutation<? extends Model> mutation;
+                    try {
+                        mutation = converter.fromRecord(results.next());
+                    } catch (DataStoreException conversionFailure) {
+                        emitter.onError(conversionFailure);
+                        return;
+                    }
+                    mutationQueue.fillInUnloaded(mutation);
+                    missingIds.remove(mutation.getMutationId());
+                }
+                for (TimeBasedUuid missingId : missingIds) {
+                    // It was removed from storage, but not from the queue, e.g. by clearing the DataStore.
+                    if (mutationQueue.getMutationById(missingId) == null) {
+                        mutationQueue.removeById(missingId);
+                    }
+                }
+                emitter.onComplete();
+            },
+            emitter::onError
+        ));
+    }
+
+    // Matches the records of any of the mutations, of which there is at least one.
+    private static QueryPredicate hasAnyId(List<TimeBasedUuid> mutationIds) {
+        final QueryField idField = QueryField.field("id");
+        if (mutationIds.size() == 1) {
+            return idField.eq(mutationIds.get(0).toString());
+        }
+        // Adding to an OR group extends the same group, so this is a flat (id = ? OR id = ? ...).
+        QueryPredicateGroup anyOfIds =
+            idField.eq(mutationIds.get(0).toString()).or(idField.eq(mutationIds.get(1).toString()));
+        for (TimeBasedUuid mutationId : mutationIds.subList(2, mutationIds.size())) {
+            anyOfIds.or(idField.eq(mutationId.toString()));
+        }
+        return anyOfIds;
+    }
+
+    // Loads any mutations near the head of the queue that haven't been loaded yet, so that they can be peeked.
+    private void loadHeadOfQueue() {
+        List<TimeBasedUuid> unloadedIds = mutationQueue.unloadedIdsAtHead(LOAD_PAGE_SIZE);
+        if (!unloadedIds.isEmpty()) {
+            loadUnloaded(unloadedIds).blockingAwait();
+        }
+    }
+
     @NonNull
     @Override
     public Observable<OutboxEvent> events() {
@@ -214,16 +608,23 @@ final class PersistentMutationOutbox implements MutationOutbox {
     @Nullable
     @Override
     public PendingMutation<? extends Model> peek() {
+        loadHeadOfQueue();
         return mutationQueue.peek();
     }
 
+    @NonNull
+    @Override
+    public List<PendingMutation<? extends Model>> peekReady(int maxCount) {
+        loadHeadOfQueue();
+        return mutationQueue.nextMutationsForDistinctModels(maxCount, inFlightMutations);
+    }
+
     @NonNull
     @Override
     public Completable markInFlight(@NonNull TimeBasedUuid pendingMutationId) {
         return Completable.create(emitter -> {
-            PendingMutation<? extends Model> mutation = mutationQueue.getMutationById(pendingMutationId);
-            if (mutation != null) {
-                inFlightMutations.add(mutation.getMutationId());
+            if (mutationQueue.containsId(pendingMutationId)) {
+                inFlightMutations.add(pendingMutationId);
                 emitter.onComplete();
                 return;
             }
@@ -326,8 +727,8 @@ final class PersistentMutationOutbox implements MutationOutbox {
                 case UPDATE:
                     if (QueryPredicates.all().equals(incoming.getPredicate())) {
                         // If the incoming update does not have a condition, we want to delete any
-                        // existing mutations for the modelId before saving the incoming one.
-                        return remove(existing.getMutationId()).andThen(saveIncomingAndNotify());
+                        // existing mutations for the modelId, and save the incoming one, in one write.
+                        return replaceExistingAndNotify();
                     } else {
                         // If it has a condition, we want to just add it to the queue
                         return saveIncomingAndNotify();
@@ -348,13 +749,15 @@ final class PersistentMutationOutbox implements MutationOutbox {
             switch (existing.getMutationType()) {
                 case CREATE:
                     //
-                    if (inFlightMutations.contains(existing.getMutationId())) {
-                        // Existing create is already in flight, then save the delete
+                    if (inFlightMutations.contains(existing.getMutationId()) ||
+                            possiblyPublishedMutations.contains(existing.getMutationId())) {
+                        // Existing create is already in flight, or may have been published
+                        // before a restart, then save the delete
                         return save(incoming);
                     } else {
                         // The existing create mutation hasn't made it to the remote store, so we
                         // ignore the incoming and remove the existing create mutation from outbox.
-                        return remove(existing.getMutationId());
+                        return rewrite(Collections.singletonList(existing), null, this::existingIsUnchanged);
                     }
                 case UPDATE:
                 case DELETE:
@@ -372,7 +775,16 @@ final class PersistentMutationOutbox implements MutationOutbox {
             TimeBasedUuid id = existing.getMutationId();
             T item = incoming.getMutatedItem();
             ModelSchema schema = incoming.getModelSchema();
-            return save(PendingMutation.instance(id, item, schema, type, predicate))
+            return save(PendingMutation.instance(id, item, schema, type, predicate), this::existingIsUnchanged)
+                .andThen(notifyContentAvailable());
+        }
+
+        private Completable replaceExistingAndNotify() {
+            return rewrite(Collections.singletonList(existing), incoming, this::existingIsUnchanged)
+                .doOnComplete(() -> {
+                    LOG.info("Successfully enqueued " + incoming);
+                    announceEventEnqueued(incoming);
+                })
                 .andThen(notifyContentAvailable());
         }
 
@@ -381,6 +793,12 @@ final class PersistentMutationOutbox implements MutationOutbox {
                 .andThen(notifyContentAvailable());
         }
 
+        // The resolution is only committed if the existing mutation hasn't been changed,
+        // or put in-flight, since it was looked up.
+        private boolean existingIsUnchanged() {
+            return isUnchanged(existing, Collections.emptyList());
+        }
+
         private Completable conflictingCreationError() {
             return Completable.error(new DataStoreException(
                 "Attempted to enqueue a model creation, but there is already a pending creation for that model ID.",
@@ -410,4 +828,54 @@ final class PersistentMutationOutbox implements MutationOutbox {
             ));
         }
     }
+
+    /**
+     * A request to write to the storage behind the outbox, which is waiting to be committed.
+     */
+    private static final class PendingWrite {
+        private final List<StorageOperation<? extends Model>> operations;
+        private final Precondition precondition;
+        private final Action onCommitted;
+        private final CompletableEmitter emitter;
+        // Set if the write has a precondition, or once it has failed as part of a group,
+        // so that it is committed on its own.
+        private boolean isIsolated;
+
+        PendingWrite(List<StorageOperation<? extends Model>> operations,
+                     Precondition precondition,
+                     Action onCommitted,
+                     CompletableEmitter emitter) {
+            this.operations = operations;
+            this.precondition = precondition;
+            this.onCommitted = onCommitted;
+            this.emitter = emitter;
+            this.isIsolated = precondition != null;
+        }
+    }
+
+    /**
+     * A check of the in-memory state of the outbox, which a write depends upon.
+     */
+    private interface Precondition {
+        /**
+         * Checks whether the write may still be committed.
+         * @return true if the state that the write was based on is unchanged
+         */
+        boolean holds();
+    }
+
+    /**
+     * Emitted by a write whose precondition no longer held when it was time to commit it.
+     * The outbox is unchanged, so the write may be worked out again from the current state.
+     */
+    private static final class StaleWriteException extends DataStoreException {
+        private static final long serialVersionUID = 1L;
+
+        StaleWriteException() {
+            super(
+                "The outbox changed before a write that depended on it could be committed.",
+                "Work out the write again from the current content of the outbox."
+            );
+        }
+    }
 }
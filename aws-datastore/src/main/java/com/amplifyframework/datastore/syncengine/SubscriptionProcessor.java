@@ -17,6 +17,7 @@ package com.amplifyframework.datastore.syncengine;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import androidx.core.util.Supplier;
 
 import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.graphql.GraphQLResponse;
@@ -28,7 +29,7 @@ import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelProvider;
 import com.amplifyframework.core.model.ModelSchema;
-import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.CompiledQueryPredicate;
 import com.amplifyframework.datastore.AmplifyDisposables;
 import com.amplifyframework.datastore.DataStoreChannelEventName;
 import com.amplifyframework.datastore.DataStoreException;
@@ -51,9 +52,11 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 import io.reactivex.rxjava3.disposables.CompositeDisposable;
 import io.reactivex.rxjava3.schedulers.Schedulers;
+import io.reactivex.rxjava3.subjects.PublishSubject;
 import io.reactivex.rxjava3.subjects.ReplaySubject;
 
 /**
@@ -66,12 +69,14 @@ final class SubscriptionProcessor {
     private static final Logger LOG = Amplify.Logging.forNamespace("amplify:aws-datastore");
     private static final long TIMEOUT_SECONDS_PER_MODEL = 2;
     private static final long NETWORK_OP_TIMEOUT_SECONDS = 10;
+    private static final long RESUBSCRIPTION_QUIET_PERIOD_SECONDS = 2;
 
     private final AppSync appSync;
     private final ModelProvider modelProvider;
     private final Merger merger;
     private final QueryPredicateProvider queryPredicateProvider;
     private final CompositeDisposable ongoingOperationsDisposable;
+    private final PublishSubject<String> resubscriptions;
     private final long adjustedTimeoutSeconds;
     private ReplaySubject<SubscriptionEvent<? extends Model>> buffer;
 
@@ -85,6 +90,7 @@ final class SubscriptionProcessor {
         this.merger = builder.merger;
         this.queryPredicateProvider = builder.queryPredicateProvider;
         this.ongoingOperationsDisposable = new CompositeDisposable();
+        this.resubscriptions = PublishSubject.create();
 
         // Operation times out after 10 seconds. If there are more than 5 models,
         // then 2 seconds are added to the timer per additional model count.
@@ -172,6 +178,11 @@ final class SubscriptionProcessor {
                                    SubscriptionType subscriptionType,
                                    CountDownLatch latch,
                                    ModelSchema modelSchema) {
+        // The sync expression for the model doesn't change while subscriptions are active.
+        // Compile it once, instead of looking up the fields it compares for each event.
+        CompiledQueryPredicate syncExpression = CompiledQueryPredicate.compile(
+            queryPredicateProvider.getPredicate(modelSchema.getName()), modelSchema.getModelClass()
+        );
         return Observable.<GraphQLResponse<ModelWithMetadata<T>>>create(emitter -> {
             SubscriptionMethod method = subscriptionMethodFor(appSync, subscriptionType);
             AtomicReference<String> subscriptionId = new AtomicReference<>();
@@ -180,8 +191,12 @@ final class SubscriptionProcessor {
                 token -> {
                     LOG.debug("Subscription started for " + subscriptionType.name() + " " + modelSchema.getName() +
                             " subscriptionId: " + token);
-                    subscriptionId.set(token);
-                    latch.countDown();
+                    if (subscriptionId.getAndSet(token) == null) {
+                        latch.countDown();
+                    } else {
+                        // It was started again, after its connection was lost and re-established.
+                        resubscriptions.onNext(modelSchema.getName());
+                    }
                 },
                 emitter::onNext,
                 dataStoreException -> {
@@ -216,10 +231,7 @@ final class SubscriptionProcessor {
         .subscribeOn(Schedulers.io())
         .observeOn(Schedulers.io())
         .map(SubscriptionProcessor::unwrapResponse)
-        .filter(modelWithMetadata -> {
-            QueryPredicate predicate = queryPredicateProvider.getPredicate(modelSchema.getName());
-            return predicate.evaluate(modelWithMetadata.getModel());
-        })
+        .filter(modelWithMetadata -> syncExpression.evaluate(modelWithMetadata.getModel()))
         .map(modelWithMetadata -> SubscriptionEvent.<T>builder()
             .type(fromSubscriptionType(subscriptionType))
             .modelWithMetadata(modelWithMetadata)
@@ -258,6 +270,27 @@ final class SubscriptionProcessor {
         );
     }
 
+    /**
+     * Start catching up on the mutations that may have been missed while subscriptions were being
+     * re-established, after their connection was lost. Once no more subscriptions have been
+     * re-established for a little while, the catch-up task is run, so that a single task catches up
+     * after all of the subscriptions that were lost at once.
+     * This should be called after {@link #startSubscriptions()}.
+     * @param catchUp Supplies a task which fetches the mutations that may have been missed
+     */
+    void startCatchingUpAfterResubscription(Supplier<Completable> catchUp) {
+        ongoingOperationsDisposable.add(
+            resubscriptions
+                .debounce(RESUBSCRIPTION_QUIET_PERIOD_SECONDS, TimeUnit.SECONDS)
+                .doOnNext(modelName -> LOG.info("Subscriptions were re-established. Catching up on missed mutations."))
+                .concatMapCompletable(modelName -> catchUp.get()
+                    .doOnError(failure -> LOG.warn("Failed to catch up after resubscription.", failure))
+                    .onErrorComplete()
+                )
+                .subscribe()
+        );
+    }
+
     /**
      * Stop any active subscriptions, and stop draining the mutation buffer.
      */
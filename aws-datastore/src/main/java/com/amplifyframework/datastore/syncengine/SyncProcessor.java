@@ -44,8 +44,11 @@ import com.amplifyframework.util.Time;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
@@ -99,19 +102,7 @@ final class SyncProcessor {
      * @return An Rx {@link Completable} which can be used to perform the operation.
      */
     Completable hydrate() {
-        final List<Completable> hydrationTasks = new ArrayList<>();
-        List<ModelSchema> modelSchemas = new ArrayList<>(modelProvider.modelSchemas().values());
-
-        // And sort them all, according to their model's topological order,
-        // So that when we save them, the references will exist.
-        TopologicalOrdering ordering =
-            TopologicalOrdering.forRegisteredModels(modelSchemaRegistry, modelProvider);
-        Collections.sort(modelSchemas, ordering::compare);
-        for (ModelSchema schema : modelSchemas) {
-            hydrationTasks.add(createHydrationTask(schema));
-        }
-
-        return Completable.concat(hydrationTasks)
+        return catchUp()
             .doOnSubscribe(ignore -> {
                 // This is where we trigger the syncQueriesStarted event since
                 // doOnSubscribe means that all upstream hydration tasks
@@ -129,29 +120,76 @@ final class SyncProcessor {
             });
     }
 
+    /**
+     * Hydrates the DataStore in the same way as {@link #hydrate()}, but without publishing the
+     * syncQueriesStarted and syncQueriesReady events. Those announce the sync that is done when
+     * the DataStore starts; this is used to catch up on mutations that were missed while it was
+     * running, e.g. while its subscriptions were being re-established.
+     * @return An Rx {@link Completable} which can be used to perform the operation.
+     */
+    Completable catchUp() {
+        // The hydration tasks are created anew for each subscription, since they cache their results.
+        return Completable.defer(() -> {
+            int maxConcurrentModels = dataStoreConfigurationProvider.getConfiguration().getSyncMaxConcurrentModels();
+            return Completable.merge(Flowable.fromIterable(createHydrationTasks()), maxConcurrentModels);
+        });
+    }
+
+    /**
+     * Creates a task to hydrate each model. Each model is hydrated only once all of the models
+     * it depends on have been. Models that don't depend on one another may be hydrated at the same time.
+     * @return Hydration tasks, in the topological order of their models. Since each task is subscribed
+     *         after the tasks of the models it depends on, waiting on those tasks can't deadlock.
+     */
+    private List<Completable> createHydrationTasks() {
+        final List<Completable> hydrationTasks = new ArrayList<>();
+        List<ModelSchema> modelSchemas = new ArrayList<>(modelProvider.modelSchemas().values());
+
+        // And sort them all, according to their model's topological order,
+        // So that when we save them, the references will exist.
+        TopologicalOrdering ordering =
+            TopologicalOrdering.forRegisteredModels(modelSchemaRegistry, modelProvider);
+        Collections.sort(modelSchemas, ordering::compare);
+
+        final Map<String, Completable> hydrationTasksByModelName = new HashMap<>();
+        for (ModelSchema schema : modelSchemas) {
+            final List<Completable> dependencyTasks = new ArrayList<>();
+            for (ModelSchema dependency : ordering.dependenciesOf(schema)) {
+                Completable dependencyTask = hydrationTasksByModelName.get(dependency.getName());
+                if (dependencyTask != null) {
+                    dependencyTasks.add(dependencyTask);
+                }
+            }
+            // Cached, so that the model is hydrated once, no matter how many other tasks wait on it.
+            Completable hydrationTask = Completable.merge(dependencyTasks)
+                .andThen(Completable.defer(() -> createHydrationTask(schema)))
+                .cache();
+            hydrationTasksByModelName.put(schema.getName(), hydrationTask);
+            hydrationTasks.add(hydrationTask);
+        }
+        return hydrationTasks;
+    }
+
     private Completable createHydrationTask(ModelSchema schema) {
         ModelSyncMetricsAccumulator metricsAccumulator = new ModelSyncMetricsAccumulator(schema.getName());
         return syncTimeRegistry.lookupLastSyncTime(schema.getName())
             .map(this::filterOutOldSyncTimes)
             // And for each, perform a sync. The network response will contain an Iterable<ModelWithMetadata<T>>
             .flatMap(lastSyncTime -> {
+                // Up to this many pages may be fetched while an earlier one is still being merged.
+                final int syncPagePrefetchCount =
+                    dataStoreConfigurationProvider.getConfiguration().getSyncPagePrefetchCount();
                 // Sync all the pages
                 return syncModel(schema, lastSyncTime)
-                    // For each ModelWithMetadata, merge it into the local store.
-                    .flatMapCompletable(original -> {
-                        ModelWithMetadata<? extends Model> updated;
-                        if (original.getModel() instanceof SerializedModel) {
-                            SerializedModel originalModel = (SerializedModel) original.getModel();
-                            SerializedModel newModel = SerializedModel.builder()
-                                .serializedData(originalModel.getSerializedData())
-                                .modelSchema(schema)
-                                .build();
-                            updated = new ModelWithMetadata<>(newModel, original.getSyncMetadata());
-                        } else {
-                            updated = original;
+                    // Merge each page into the local store, as a whole. Pages are merged in order,
+                    // one at a time; the following pages are fetched in the meantime, and buffered.
+                    .concatMapCompletable(page -> {
+                        List<ModelWithMetadata<? extends Model>> updatedPage = new ArrayList<>(page.size());
+                        for (ModelWithMetadata<? extends Model> original : page) {
+                            updatedPage.add(withSchema(original, schema));
                         }
-                        return merger.merge(updated, metricsAccumulator::increment);
-                    })
+                        return merger.merge(updatedPage, metricsAccumulator::increment);
+                    }, syncPagePrefetchCount)
                     .toSingle(() -> lastSyncTime.exists() ? SyncType.DELTA : SyncType.BASE);
             })
             .flatMapCompletable(syncType -> {
@@ -178,6 +216,26 @@ final class SyncProcessor {
             );
     }
 
+    /**
+     * Models received from a sync as {@link SerializedModel}s don't know their schema.
+     * Returns a copy of such a model (and its metadata) that does. Other models are returned as-is.
+     * @param original A model with metadata, as received from a sync
+     * @param schema The schema of the model
+     * @return A model with metadata, where the model has its schema
+     */
+    private static ModelWithMetadata<? extends Model> withSchema(
+            ModelWithMetadata<? extends Model> original, ModelSchema schema) {
+        if (!(original.getModel() instanceof SerializedModel)) {
+            return original;
+        }
+        SerializedModel originalModel = (SerializedModel) original.getModel();
+        SerializedModel newModel = SerializedModel.builder()
+            .serializedData(originalModel.getSerializedData())
+            .modelSchema(schema)
+            .build();
+        return new ModelWithMetadata<>(newModel, original.getSyncMetadata());
+    }
+
     /**
      * If a sync time is older than (now) - (the base sync interval), regard the provided sync time
      * as "too old", and return {@link SyncTime#never()}, instead. In all other cases,
@@ -211,21 +269,28 @@ final class SyncProcessor {
      *     perform a *base* sync. A base sync is preformed by passing null.
      *  3. Continue fetching paged results until !hasNextResult() or we have synced the max records.
      *
+     * The next page is requested as soon as the current page is emitted, and pages are only emitted
+     * as the downstream requests them. So, a downstream which requests N pages up-front receives
+     * pages while it's still busy with earlier ones, but never has more than N pages fetched ahead of it.
+     *
      * @param schema The schema of the model to sync
      * @param syncTime The time of a last successful sync.
      * @param <T> The type of model to sync.
-     * @return a stream of all ModelWithMetadata&lt;T&gt; objects from all pages for the provided model.
+     * @return a stream of pages of ModelWithMetadata&lt;T&gt; objects, for the provided model.
      * @throws DataStoreException if dataStoreConfigurationProvider.getConfiguration() fails
      */
-    private <T extends Model> Flowable<ModelWithMetadata<T>> syncModel(ModelSchema schema, SyncTime syncTime)
+    private <T extends Model> Flowable<List<ModelWithMetadata<T>>> syncModel(ModelSchema schema, SyncTime syncTime)
             throws DataStoreException {
         final Long lastSyncTimeAsLong = syncTime.exists() ? syncTime.toLong() : null;
         final Integer syncPageSize = dataStoreConfigurationProvider.getConfiguration().getSyncPageSize();
+        final Integer syncMaxRecords = dataStoreConfigurationProvider.getConfiguration().getSyncMaxRecords();
         QueryPredicate predicate = queryPredicateProvider.getPredicate(schema.getName());
         // Create a BehaviorProcessor, and set the default value to a GraphQLRequest that fetches the first page.
         BehaviorProcessor<GraphQLRequest<PaginatedResult<ModelWithMetadata<T>>>> processor =
                 BehaviorProcessor.createDefault(
                         appSync.buildSyncRequest(schema, lastSyncTimeAsLong, syncPageSize, predicate));
+        // Count of records that may still be synced, before reaching the maximum configured records to sync.
+        final AtomicInteger recordsRemaining = new AtomicInteger(syncMaxRecords);
 
         return processor.concatMap(request -> syncPage(request).toFlowable())
                 .doOnNext(paginatedResult -> {
@@ -235,10 +300,20 @@ final class SyncProcessor {
                         processor.onComplete();
                     }
                 })
-                // Flatten the PaginatedResult objects into a stream of ModelWithMetadata objects.
-                .concatMapIterable(PaginatedResult::getItems)
-                // Stop after fetching the maximum configured records to sync.
-                .take(dataStoreConfigurationProvider.getConfiguration().getSyncMaxRecords());
+                // Keep the items of each page together, so they can be merged as a unit,
+                // but stop after fetching the maximum configured records to sync.
+                .map(paginatedResult -> {
+                    List<ModelWithMetadata<T>> page = new ArrayList<>();
+                    for (ModelWithMetadata<T> item : paginatedResult.getItems()) {
+                        if (recordsRemaining.get() <= 0) {
+                            break;
+                        }
+                        page.add(item);
+                        recordsRemaining.decrementAndGet();
+                    }
+                    return page;
+                })
+                .takeUntil(page -> recordsRemaining.get() <= 0);
     }
 
     /**
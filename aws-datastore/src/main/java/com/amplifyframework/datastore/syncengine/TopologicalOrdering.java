@@ -95,6 +95,30 @@ final class TopologicalOrdering {
         return onePosition - twoPosition;
     }
 
+    /**
+     * Gets the ModelSchema on which a ModelSchema directly depends. That is, the schema of the
+     * models to which the model belongs. Each of these comes before the given ModelSchema,
+     * in the ordering. A model's dependency on itself is not included.
+     * @param modelSchema A model schema
+     * @return The schema of the models that the model belongs to, possibly empty
+     */
+    @NonNull
+    List<ModelSchema> dependenciesOf(@NonNull ModelSchema modelSchema) {
+        Objects.requireNonNull(modelSchema);
+        final List<ModelSchema> dependencies = new ArrayList<>();
+        for (ModelAssociation association : modelSchema.getAssociations().values()) {
+            if (!association.isOwner() || association.getAssociatedType().equals(modelSchema.getName())) {
+                continue;
+            }
+            for (ModelSchema candidate : this.modelSchema) {
+                if (candidate.getName().equals(association.getAssociatedType()) && !dependencies.contains(candidate)) {
+                    dependencies.add(candidate);
+                }
+            }
+        }
+        return dependencies;
+    }
+
     /**
      * Check the ordering of a ModelSchema.
      * @param modelSchema A model schema
@@ -16,29 +16,48 @@
 package com.amplifyframework.datastore.syncengine;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.core.model.query.predicate.QueryField;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
+import com.amplifyframework.core.model.query.predicate.QueryPredicateGroup;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.storage.LocalStorageAdapter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Single;
 
 /**
  * The VersionRepository provides a higher-level facade to lookup the version
  * of the various models in the local storage.
+ *
+ * The most recently used versions are kept in memory, so that looking up the version
+ * of a model which was recently merged or published doesn't have to query the storage.
+ * The {@link Merger} keeps these up to date, as it saves new metadata for models.
  */
 @SuppressWarnings("CodeBlock2Expr")
 final class VersionRepository {
+    // Bounds the number of bound arguments, and the depth of the OR expression,
+    // in the WHERE clause of each bulk lookup. SQLite limits both to 999/1000, by default.
+    private static final int MAX_IDS_PER_LOOKUP = 250;
+    private static final int MAX_CACHED_VERSIONS = 1_000;
+    private static final float CACHE_LOAD_FACTOR = 0.75f;
+
     private final LocalStorageAdapter localStorageAdapter;
+    private final Map<String, Integer> cachedVersions;
 
     /**
      * Constructs a new VersionRepository.
@@ -46,6 +65,57 @@ final class VersionRepository {
      */
     VersionRepository(@NonNull LocalStorageAdapter localStorageAdapter) {
         this.localStorageAdapter = Objects.requireNonNull(localStorageAdapter);
+        // Access-ordered, so that the least recently used version is the one to be evicted.
+        this.cachedVersions = new LinkedHashMap<String, Integer>(MAX_CACHED_VERSIONS, CACHE_LOAD_FACTOR, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > MAX_CACHED_VERSIONS;
+            }
+        };
+    }
+
+    /**
+     * Updates the version that is remembered for a model, after new metadata for it has been
+     * saved to the local store.
+     * @param metadata Metadata that has been saved to the local store
+     */
+    void updateCachedVersion(@NonNull ModelMetadata metadata) {
+        synchronized (cachedVersions) {
+            if (metadata.getVersion() == null) {
+                cachedVersions.remove(metadata.getId());
+            } else {
+                cachedVersions.put(metadata.getId(), metadata.getVersion());
+            }
+        }
+    }
+
+    /**
+     * Forgets all of the versions that are remembered, e.g. because the local store may
+     * have been changed, or cleared, without going through the {@link Merger}.
+     */
+    void clearCachedVersions() {
+        synchronized (cachedVersions) {
+            cachedVersions.clear();
+        }
+    }
+
+    // Remembers a version that was read out of the local store. If a version was remembered
+    // for the model while it was being read, that one is at least as new, so it is kept instead.
+    private void cacheVersionIfAbsent(String modelId, int version) {
+        synchronized (cachedVersions) {
+            if (!cachedVersions.containsKey(modelId)) {
+                cachedVersions.put(modelId, version);
+            }
+        }
+    }
+
+    @Nullable
+    private Integer getCachedVersion(String modelId) {
+        synchronized (cachedVersions) {
+            return cachedVersions.get(modelId);
+        }
     }
 
     /**
@@ -55,12 +125,18 @@ final class VersionRepository {
      * @return Current version known locally
      */
     <T extends Model> Single<Integer> findModelVersion(T model) {
+        final Integer cachedVersion = getCachedVersion(model.getId());
+        if (cachedVersion != null) {
+            return Single.just(cachedVersion);
+        }
         // The ModelMetadata for the model uses the same ID as an identifier.
         final QueryPredicate hasMatchingId = QueryField.field("id").eq(model.getId());
         return Single.create(emitter -> {
             localStorageAdapter.query(ModelMetadata.class, Where.matches(hasMatchingId), iterableResults -> {
                 try {
-                    emitter.onSuccess(extractVersion(model, iterableResults));
+                    int version = extractVersion(model, iterableResults);
+                    cacheVersionIfAbsent(model.getId(), version);
+                    emitter.onSuccess(version);
                 } catch (DataStoreException badVersionFailure) {
                     emitter.onError(badVersionFailure);
                 }
@@ -68,6 +144,66 @@ final class VersionRepository {
         });
     }
 
+    /**
+     * Find the current versions of many models, that we have in the local store.
+     * Instead of looking up each model's metadata separately, the metadata is queried
+     * for (up to) several hundred models at a time, by matching any of their IDs.
+     * Only the models whose versions aren't already remembered are looked up in the store.
+     * @param models Models whose versions are to be found
+     * @return A map of model ID to the current version known locally. Models which have no
+     *         metadata in the local store, or whose metadata has no version, are absent from the map.
+     */
+    Single<Map<String, Integer>> findModelVersions(Collection<? extends Model> models) {
+        final Map<String, Integer> cachedVersionsOfModels = new HashMap<>();
+        final List<String> modelIds = new ArrayList<>(models.size());
+        for (Model model : models) {
+            Integer cachedVersion = getCachedVersion(model.getId());
+            if (cachedVersion != null) {
+                cachedVersionsOfModels.put(model.getId(), cachedVersion);
+            } else {
+                modelIds.add(model.getId());
+            }
+        }
+        if (modelIds.isEmpty()) {
+            return Single.just(cachedVersionsOfModels);
+        }
+        return Flowable.range(0, (modelIds.size() + MAX_IDS_PER_LOOKUP - 1) / MAX_IDS_PER_LOOKUP)
+            .concatMapSingle(chunk -> {
+                int fromIndex = chunk * MAX_IDS_PER_LOOKUP;
+                int toIndex = Math.min(fromIndex + MAX_IDS_PER_LOOKUP, modelIds.size());
+                return findVersionsById(modelIds.subList(fromIndex, toIndex));
+            })
+            .<Map<String, Integer>>collect(() -> new HashMap<>(cachedVersionsOfModels), Map::putAll);
+    }
+
+    // The ModelMetadata for each model uses the same ID as an identifier.
+    private Single<Map<String, Integer>> findVersionsById(List<String> modelIds) {
+        final QueryField idField = QueryField.field("id");
+        QueryPredicate hasAnyMatchingId = idField.eq(modelIds.get(0));
+        if (modelIds.size() > 1) {
+            // Adding to an OR group extends the same group, so this is a flat (id = ? OR id = ? ...).
+            QueryPredicateGroup anyOfIds = idField.eq(modelIds.get(0)).or(idField.eq(modelIds.get(1)));
+            for (String modelId : modelIds.subList(2, modelIds.size())) {
+                anyOfIds.or(idField.eq(modelId));
+            }
+            hasAnyMatchingId = anyOfIds;
+        }
+        final QueryOptions options = Where.matches(hasAnyMatchingId);
+        return Single.create(emitter -> {
+            localStorageAdapter.query(ModelMetadata.class, options, iterableResults -> {
+                final Map<String, Integer> versions = new HashMap<>();
+                while (iterableResults.hasNext()) {
+                    ModelMetadata metadata = iterableResults.next();
+                    if (metadata.getVersion() != null) {
+                        versions.put(metadata.getId(), metadata.getVersion());
+                        cacheVersionIfAbsent(metadata.getId(), metadata.getVersion());
+                    }
+                }
+                emitter.onSuccess(versions);
+            }, emitter::onError);
+        });
+    }
+
     /**
      * Extract a model version from an metadata iterator.
      * @param model The model for which metadata is being interrogated, used only for creating error messages.
@@ -56,6 +56,12 @@ public final class DataStoreConfigurationTest {
             dataStoreConfiguration.getSyncMaxRecords().intValue());
         assertEquals(DataStoreConfiguration.DEFAULT_SYNC_PAGE_SIZE,
             dataStoreConfiguration.getSyncPageSize().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_SYNC_PAGE_PREFETCH_COUNT,
+            dataStoreConfiguration.getSyncPagePrefetchCount().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_SYNC_MAX_CONCURRENT_MODELS,
+            dataStoreConfiguration.getSyncMaxConcurrentModels().intValue());
+        assertEquals(DataStoreConfiguration.DEFAULT_OUTBOX_MAX_CONCURRENT_MUTATIONS,
+            dataStoreConfiguration.getOutboxMaxConcurrentMutations().intValue());
 
         assertTrue(dataStoreConfiguration.getConflictHandler() instanceof AlwaysApplyRemoteHandler);
         assertTrue(dataStoreConfiguration.getErrorHandler() instanceof DefaultDataStoreErrorHandler);
@@ -98,6 +104,7 @@ public final class DataStoreConfigurationTest {
         long expectedSyncIntervalMinutes = 6L;
         Long expectedSyncIntervalMs = TimeUnit.MINUTES.toMillis(expectedSyncIntervalMinutes);
         Integer expectedSyncMaxRecords = 3;
+        Integer expectedSyncPagePrefetchCount = 5;
         DummyConflictHandler dummyConflictHandler = new DummyConflictHandler();
         DataStoreErrorHandler errorHandler = DefaultDataStoreErrorHandler.instance();
 
@@ -105,6 +112,7 @@ public final class DataStoreConfigurationTest {
         DataStoreConfiguration configObject = DataStoreConfiguration
             .builder()
             .syncMaxRecords(expectedSyncMaxRecords)
+            .syncPagePrefetchCount(expectedSyncPagePrefetchCount)
             .conflictHandler(dummyConflictHandler)
             .errorHandler(errorHandler)
             .syncExpression(BlogOwner.class, syncExpression)
@@ -121,12 +129,50 @@ public final class DataStoreConfigurationTest {
         assertEquals(DataStoreConfiguration.DEFAULT_SYNC_PAGE_SIZE,
             dataStoreConfiguration.getSyncPageSize().longValue());
 
+        assertEquals(expectedSyncPagePrefetchCount, dataStoreConfiguration.getSyncPagePrefetchCount());
+
         assertEquals(dummyConflictHandler, dataStoreConfiguration.getConflictHandler());
         assertEquals(errorHandler, dataStoreConfiguration.getErrorHandler());
         assertEquals(Collections.singletonMap(BlogOwner.class.getSimpleName(), syncExpression),
                 dataStoreConfiguration.getSyncExpressions());
     }
 
+    /**
+     * A sync page prefetch count of less than one is rejected, since at least the page
+     * currently being written must be buffered.
+     * @throws DataStoreException On failure to build a config object, as expected
+     */
+    @Test(expected = DataStoreException.class)
+    public void testNonPositiveSyncPagePrefetchCountThrowsException() throws DataStoreException {
+        DataStoreConfiguration.builder()
+            .syncPagePrefetchCount(0)
+            .build();
+    }
+
+    /**
+     * A max number of concurrently synced models of less than one is rejected,
+     * since no model could ever be synced.
+     * @throws DataStoreException On failure to build a config object, as expected
+     */
+    @Test(expected = DataStoreException.class)
+    public void testNonPositiveSyncMaxConcurrentModelsThrowsException() throws DataStoreException {
+        DataStoreConfiguration.builder()
+            .syncMaxConcurrentModels(0)
+            .build();
+    }
+
+    /**
+     * A max number of concurrently published mutations of less than one is rejected,
+     * since the mutation outbox could never be drained.
+     * @throws DataStoreException On failure to build a config object, as expected
+     */
+    @Test(expected = DataStoreException.class)
+    public void testNonPositiveOutboxMaxConcurrentMutationsThrowsException() throws DataStoreException {
+        DataStoreConfiguration.builder()
+            .outboxMaxConcurrentMutations(0)
+            .build();
+    }
+
     /**
      * If the config file contains an invalid key, the parsing code should through a
      * {@link DataStoreException}, to warn the user.
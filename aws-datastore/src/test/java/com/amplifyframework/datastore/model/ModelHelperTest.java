@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.model;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link ModelHelper}.
+ */
+public final class ModelHelperTest {
+    /**
+     * The value of a model's field can be read, through an accessor which is
+     * only looked up once per model class and field.
+     * @throws AmplifyException On failure to derive the schema of the model
+     */
+    @Test
+    public void readsValuesThroughCachedAccessors() throws AmplifyException {
+        ModelSchema schema = ModelSchema.fromModelClass(BlogOwner.class);
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        BlogOwner jane = BlogOwner.builder()
+            .name("Jane")
+            .build();
+
+        assertEquals("Joe", ModelHelper.getValue(joe, schema.getFields().get("name")));
+        assertEquals("Jane", ModelHelper.getValue(jane, schema.getFields().get("name")));
+        assertEquals(joe.getId(), ModelHelper.getValue(joe, schema.getFields().get("id")));
+        assertSame(
+            ModelHelper.getAccessor(BlogOwner.class, "name"),
+            ModelHelper.getAccessor(BlogOwner.class, "name")
+        );
+    }
+
+    /**
+     * A field which the model class has neither a getter nor a field for can't be read.
+     * @throws DataStoreException On failure to look up the field, as expected
+     */
+    @Test(expected = DataStoreException.class)
+    public void unknownFieldCannotBeRead() throws DataStoreException {
+        ModelHelper.getAccessor(BlogOwner.class, "favoriteColor");
+    }
+}
@@ -28,6 +28,7 @@ import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.datastore.DataStoreQueryIterator;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -136,6 +137,31 @@ public final class InMemoryStorageAdapter implements LocalStorageAdapter {
         onSuccess.accept(result.iterator());
     }
 
+    @Override
+    public <T extends Model> void queryLazily(
+            @NonNull final Class<T> itemClass,
+            @NonNull final QueryOptions options,
+            @NonNull final Consumer<DataStoreQueryIterator<T>> onSuccess,
+            @NonNull final Consumer<DataStoreException> onError
+    ) {
+        query(itemClass, options, results -> onSuccess.accept(new DataStoreQueryIterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return results.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return results.next();
+            }
+
+            @Override
+            public void cancel() {
+                // Nothing to release; results are already in memory.
+            }
+        }), onError);
+    }
+
     @Override
     public void query(
             @NonNull String modelName,
@@ -197,6 +223,57 @@ public final class InMemoryStorageAdapter implements LocalStorageAdapter {
         onSuccess.accept(deletion);
     }
 
+    @Override
+    public void batch(
+            @NonNull List<StorageOperation<? extends Model>> operations,
+            @NonNull Consumer<List<StorageItemChange<? extends Model>>> onSuccess,
+            @NonNull Consumer<DataStoreException> onError) {
+        final List<Model> itemsBeforeBatch = new ArrayList<>(items);
+        final List<StorageItemChange<? extends Model>> changes = new ArrayList<>();
+        final List<DataStoreException> errors = new ArrayList<>();
+        for (StorageOperation<? extends Model> operation : operations) {
+            apply(operation, changes::add, errors::add);
+            if (!errors.isEmpty()) {
+                // Roll back to the state from before the batch began.
+                items.clear();
+                items.addAll(itemsBeforeBatch);
+                onError.accept(errors.get(0));
+                return;
+            }
+        }
+        onSuccess.accept(changes);
+    }
+
+    private <T extends Model> void apply(
+            StorageOperation<T> operation,
+            Consumer<StorageItemChange<T>> onSuccess,
+            Consumer<DataStoreException> onError) {
+        if (StorageOperation.Type.DELETE.equals(operation.type())) {
+            if (indexOf(operation.item()) < 0) {
+                // Like the SQLite adapter, a batch tolerates the deletion of an item that is already gone.
+                onSuccess.accept(deletionOf(operation));
+                return;
+            }
+            delete(operation.item(), operation.initiator(), operation.predicate(), onSuccess, onError);
+        } else {
+            save(operation.item(), operation.initiator(), operation.predicate(), onSuccess, onError);
+        }
+    }
+
+    private <T extends Model> StorageItemChange<T> deletionOf(StorageOperation<T> operation) {
+        try {
+            return StorageItemChange.<T>builder()
+                .item(operation.item())
+                .modelSchema(ModelSchema.fromModelClass(operation.item().getClass()))
+                .type(StorageItemChange.Type.DELETE)
+                .predicate(operation.predicate())
+                .initiator(operation.initiator())
+                .build();
+        } catch (AmplifyException schemaBuildFailure) {
+            throw new IllegalStateException("Failed to build model schema.", schemaBuildFailure);
+        }
+    }
+
     @NonNull
     @Override
     public Cancelable observe(
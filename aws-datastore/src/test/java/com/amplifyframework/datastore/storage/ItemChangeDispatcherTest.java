@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage;
+
+import com.amplifyframework.core.async.Cancelable;
+import com.amplifyframework.core.model.Model;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link ItemChangeDispatcher}.
+ */
+public final class ItemChangeDispatcherTest {
+    private InMemoryStorageAdapter inMemoryStorageAdapter;
+    private SynchronousStorageAdapter storage;
+    private ItemChangeDispatcher dispatcher;
+    private BlogOwner joe;
+    private BlogOwner jane;
+    private Blog blog;
+
+    /**
+     * Sets up a dispatcher for the changes to an in-memory storage adapter, and some models to save in it.
+     */
+    @Before
+    public void setup() {
+        inMemoryStorageAdapter = InMemoryStorageAdapter.create();
+        storage = SynchronousStorageAdapter.delegatingTo(inMemoryStorageAdapter);
+        dispatcher = new ItemChangeDispatcher(inMemoryStorageAdapter);
+        joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        jane = BlogOwner.builder()
+            .name("Jane")
+            .build();
+        blog = Blog.builder()
+            .name("Joe's blog")
+            .owner(joe)
+            .build();
+    }
+
+    /**
+     * Each change only reaches the observers of all changes, of the changed model,
+     * and of the changed item.
+     * @throws DataStoreException On failure to save models into storage
+     */
+    @Test
+    public void changesOnlyReachMatchingObservers() throws DataStoreException {
+        List<Model> allChanges = new ArrayList<>();
+        List<Model> ownerChanges = new ArrayList<>();
+        List<Model> joeChanges = new ArrayList<>();
+        List<Model> blogChanges = new ArrayList<>();
+        dispatcher.observe(change -> allChanges.add(change.item()), this::fail, this::fail);
+        dispatcher.observe("BlogOwner", change -> ownerChanges.add(change.item()), this::fail, this::fail);
+        dispatcher.observe("BlogOwner", joe.getId(), change -> joeChanges.add(change.item()), this::fail, this::fail);
+        dispatcher.observe("Blog", change -> blogChanges.add(change.item()), this::fail, this::fail);
+
+        storage.save(joe, jane, blog);
+
+        assertEquals(Arrays.asList(joe, jane, blog), allChanges);
+        assertEquals(Arrays.asList(joe, jane), ownerChanges);
+        assertEquals(Collections.singletonList(joe), joeChanges);
+        assertEquals(Collections.singletonList(blog), blogChanges);
+    }
+
+    /**
+     * A canceled observer receives no more changes, and when the observation of the
+     * storage completes, each remaining observer is told so.
+     * @throws DataStoreException On failure to save models into storage
+     */
+    @Test
+    public void canceledObserversAreNotNotified() throws DataStoreException {
+        List<Model> canceledChanges = new ArrayList<>();
+        List<Model> remainingChanges = new ArrayList<>();
+        AtomicInteger completions = new AtomicInteger();
+        Cancelable canceled = dispatcher.observe(
+            "BlogOwner", change -> canceledChanges.add(change.item()), this::fail, completions::incrementAndGet
+        );
+        dispatcher.observe(
+            "BlogOwner", change -> remainingChanges.add(change.item()), this::fail, completions::incrementAndGet
+        );
+
+        storage.save(joe);
+        canceled.cancel();
+        storage.save(jane);
+        inMemoryStorageAdapter.terminate();
+
+        assertEquals(Collections.singletonList(joe), canceledChanges);
+        assertEquals(Arrays.asList(joe, jane), remainingChanges);
+        assertEquals(1, completions.get());
+    }
+
+    /**
+     * When an observer fails to handle a change, only that observer's observation ends, with an error.
+     * @throws DataStoreException On failure to save models into storage
+     */
+    @Test
+    public void failingObserverDoesNotAffectOthers() throws DataStoreException {
+        List<DataStoreException> failures = new ArrayList<>();
+        List<Model> changes = new ArrayList<>();
+        dispatcher.observe(change -> {
+            throw new IllegalStateException("Can't handle this.");
+        }, failures::add, this::fail);
+        dispatcher.observe(change -> changes.add(change.item()), this::fail, this::fail);
+
+        storage.save(joe, jane);
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).getCause() instanceof IllegalStateException);
+        assertEquals(Arrays.asList(joe, jane), changes);
+    }
+
+    private void fail(DataStoreException failure) {
+        throw new AssertionError("Observation failed unexpectedly.", failure);
+    }
+
+    private void fail() {
+        throw new AssertionError("Observation completed unexpectedly.");
+    }
+}
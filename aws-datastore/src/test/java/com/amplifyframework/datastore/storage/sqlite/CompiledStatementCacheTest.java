@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.os.Build;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the {@link CompiledStatementCache}.
+ */
+@Config(sdk = Build.VERSION_CODES.P, manifest = Config.NONE)
+@RunWith(RobolectricTestRunner.class)
+public final class CompiledStatementCacheTest {
+    private static final String INSERT_STATEMENT = "INSERT INTO `Person` (`id`, `name`) VALUES (?, ?)";
+    private static final String DELETE_STATEMENT = "DELETE FROM `Person` WHERE id = ?;";
+
+    private SQLiteDatabase database;
+    private CompiledStatementCache cache;
+
+    /**
+     * Creates an in-memory database with a simple table, and a cache on top of it.
+     */
+    @Before
+    public void setup() {
+        database = SQLiteDatabase.create(null);
+        database.execSQL("CREATE TABLE `Person` (`id` TEXT PRIMARY KEY NOT NULL, `name` TEXT);");
+        cache = new CompiledStatementCache(database);
+    }
+
+    /**
+     * Releases the cached statements and the database.
+     */
+    @After
+    public void teardown() {
+        cache.clear();
+        database.close();
+    }
+
+    /**
+     * The same SQL text is only compiled once; subsequent requests for it
+     * return the same statement.
+     */
+    @Test
+    public void sameStatementIsReturnedForSameSql() {
+        SQLiteStatement first = cache.get(INSERT_STATEMENT);
+        SQLiteStatement second = cache.get(INSERT_STATEMENT);
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+
+        assertNotSame(first, cache.get(DELETE_STATEMENT));
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * A cached statement can be bound and executed many times.
+     */
+    @Test
+    public void cachedStatementCanBeReused() {
+        for (int index = 0; index < 3; index++) {
+            SQLiteStatement statement = cache.get(INSERT_STATEMENT);
+            statement.clearBindings();
+            statement.bindString(1, "id-" + index);
+            statement.bindString(2, "Person " + index);
+            statement.executeInsert();
+        }
+        try (SQLiteStatement count = database.compileStatement("SELECT COUNT(*) FROM `Person`")) {
+            assertEquals(3, count.simpleQueryForLong());
+        }
+    }
+
+    /**
+     * After the cache is cleared, statements are compiled anew.
+     */
+    @Test
+    public void clearForgetsCompiledStatements() {
+        SQLiteStatement before = cache.get(INSERT_STATEMENT);
+        cache.clear();
+        assertEquals(0, cache.size());
+
+        assertNotSame(before, cache.get(INSERT_STATEMENT));
+        assertEquals(1, cache.size());
+    }
+
+    /**
+     * A statement compiled for a single use is not retained by the cache,
+     * and is closed when it is released.
+     */
+    @Test
+    public void singleUseStatementIsClosedOnRelease() {
+        SQLiteStatement statement = cache.compileOnce(DELETE_STATEMENT);
+        assertEquals(0, cache.size());
+        statement.bindString(1, "id-0");
+        statement.executeUpdateDelete();
+
+        cache.release(statement);
+        assertThrows(IllegalStateException.class, statement::executeUpdateDelete);
+    }
+
+    /**
+     * Releasing a cached statement leaves it open, so that it can be used again.
+     */
+    @Test
+    public void cachedStatementStaysOpenOnRelease() {
+        SQLiteStatement statement = cache.get(DELETE_STATEMENT);
+        cache.release(statement);
+
+        assertSame(statement, cache.get(DELETE_STATEMENT));
+        statement.bindString(1, "id-0");
+        assertEquals(0, statement.executeUpdateDelete());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.MatrixCursor;
+import android.os.Build;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelSchemaRegistry;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.util.GsonFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CursorQueryIterator}.
+ */
+@Config(sdk = Build.VERSION_CODES.P, manifest = Config.NONE)
+@RunWith(RobolectricTestRunner.class)
+public final class CursorQueryIteratorTest {
+    private SQLiteModelFieldTypeConverter converter;
+    private ModelMaterializer<Blog> materializer;
+    private MatrixCursor cursor;
+
+    /**
+     * Registers the schema of the Blog and its owner, and creates a cursor of Blog rows.
+     * @throws AmplifyException On failure to register schema
+     */
+    @Before
+    public void setup() throws AmplifyException {
+        ModelSchemaRegistry modelSchemaRegistry = ModelSchemaRegistry.instance();
+        modelSchemaRegistry.clear();
+        modelSchemaRegistry.register(new HashSet<>(Arrays.asList(Blog.class, BlogOwner.class)));
+        converter = new SQLiteModelFieldTypeConverter(
+            modelSchemaRegistry.getModelSchemaForModelClass(Blog.class),
+            modelSchemaRegistry,
+            GsonFactory.instance()
+        );
+        materializer = new ModelMaterializer<>(Blog.class, GsonFactory.instance());
+        cursor = new MatrixCursor(new String[] {
+            "Blog_id", "Blog_name", "Blog_blogOwnerId", "BlogOwner_id", "BlogOwner_name", "BlogOwner_wea"
+        });
+        cursor.addRow(new Object[] {"blog-1", "First Blog", "owner-1", "owner-1", "Jane", null});
+        cursor.addRow(new Object[] {"blog-2", "Second Blog", "owner-2", "owner-2", "John", "Sunny"});
+    }
+
+    /**
+     * Each row of the cursor is read into a model, in order, and the cursor
+     * is closed once all of its rows have been read.
+     */
+    @Test
+    public void rowsAreReadInOrderAndCursorIsClosedWhenExhausted() {
+        CursorQueryIterator<Blog> iterator = new CursorQueryIterator<>(cursor, converter, materializer);
+
+        assertTrue(iterator.hasNext());
+        assertTrue(iterator.hasNext()); // Does not advance the cursor.
+        Blog first = iterator.next();
+        assertEquals("blog-1", first.getId());
+        assertEquals("Jane", first.getOwner().getName());
+        Blog second = iterator.next();
+        assertEquals("Second Blog", second.getName());
+        assertFalse(cursor.isClosed());
+
+        assertFalse(iterator.hasNext());
+        assertTrue(cursor.isClosed());
+    }
+
+    /**
+     * Canceling the iterator closes the cursor, even though rows remain,
+     * and no further results are available from the iterator.
+     */
+    @Test
+    public void cancelClosesCursor() {
+        CursorQueryIterator<Blog> iterator = new CursorQueryIterator<>(cursor, converter, materializer);
+        assertEquals("blog-1", iterator.next().getId());
+
+        iterator.cancel();
+        iterator.cancel(); // Safe to cancel more than once.
+        assertTrue(cursor.isClosed());
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.os.Build;
+
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.testmodels.commentsblog.Post;
+import com.amplifyframework.testmodels.commentsblog.PostStatus;
+import com.amplifyframework.testmodels.parenting.Child;
+import com.amplifyframework.testmodels.parenting.Parent;
+import com.amplifyframework.util.GsonFactory;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link ModelMaterializer}.
+ */
+@Config(sdk = Build.VERSION_CODES.P, manifest = Config.NONE)
+@RunWith(RobolectricTestRunner.class)
+public final class ModelMaterializerTest {
+    /**
+     * A model is constructed from a map of its field values, including
+     * any associated models which were joined into the same row.
+     * @throws DataStoreException On failure to construct the model
+     */
+    @Test
+    public void modelIsMaterializedWithNestedAssociations() throws DataStoreException {
+        BlogOwner owner = BlogOwner.builder().name("Jane").build();
+        Blog blog = Blog.builder().name("Jane's Blog").owner(owner).build();
+        Post post = Post.builder()
+            .title("A post")
+            .status(PostStatus.ACTIVE)
+            .rating(5)
+            .blog(blog)
+            .build();
+
+        Map<String, Object> ownerMap = new HashMap<>();
+        ownerMap.put("id", owner.getId());
+        ownerMap.put("name", owner.getName());
+        ownerMap.put("wea", null);
+        Map<String, Object> blogMap = new HashMap<>();
+        blogMap.put("id", blog.getId());
+        blogMap.put("name", blog.getName());
+        blogMap.put("owner", ownerMap);
+        Map<String, Object> postMap = new HashMap<>();
+        postMap.put("id", post.getId());
+        postMap.put("title", post.getTitle());
+        postMap.put("status", PostStatus.ACTIVE);
+        postMap.put("rating", 5);
+        postMap.put("blog", blogMap);
+        postMap.put("comments", null);
+
+        ModelMaterializer<Post> materializer = new ModelMaterializer<>(Post.class, GsonFactory.instance());
+        Post materialized = materializer.fromMap(postMap);
+        assertEquals(post, materialized);
+        assertNull(materialized.getComments());
+    }
+
+    /**
+     * Values that can't be assigned to a field as-is, such as a list of custom types which
+     * was read without knowledge of its element type, are converted to the field's type.
+     * @throws DataStoreException On failure to construct the model
+     */
+    @Test
+    public void genericFieldValuesAreConvertedToFieldType() throws DataStoreException {
+        Map<String, Object> childMap = Collections.singletonMap("name", "Kiddo");
+        Map<String, Object> parentMap = new HashMap<>();
+        parentMap.put("id", "0d2a7b4d-1c5a-4c0f-9a1e-3b0d1f2e8c11");
+        parentMap.put("name", "Parent");
+        parentMap.put("children", Collections.singletonList(childMap));
+
+        ModelMaterializer<Parent> materializer = new ModelMaterializer<>(Parent.class, GsonFactory.instance());
+        Parent materialized = materializer.fromMap(parentMap);
+
+        assertEquals("Parent", materialized.getName());
+        assertEquals(1, materialized.getChildren().size());
+        Child child = materialized.getChildren().get(0);
+        assertEquals("Kiddo", child.getName());
+        assertNull(child.getAddress());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.database.MatrixCursor;
+import android.os.Build;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelSchemaRegistry;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+import com.amplifyframework.util.GsonFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests the {@link SQLiteModelFieldTypeConverter}'s conversion of query results.
+ */
+@Config(sdk = Build.VERSION_CODES.P, manifest = Config.NONE)
+@RunWith(RobolectricTestRunner.class)
+public final class SQLiteModelFieldTypeConverterTest {
+    private SQLiteModelFieldTypeConverter converter;
+
+    /**
+     * Registers the schema of the Blog and its owner, and creates a converter for Blogs.
+     * @throws AmplifyException On failure to register schema
+     */
+    @Before
+    public void setup() throws AmplifyException {
+        ModelSchemaRegistry modelSchemaRegistry = ModelSchemaRegistry.instance();
+        modelSchemaRegistry.clear();
+        modelSchemaRegistry.register(new HashSet<>(Arrays.asList(Blog.class, BlogOwner.class)));
+        converter = new SQLiteModelFieldTypeConverter(
+            modelSchemaRegistry.getModelSchemaForModelClass(Blog.class),
+            modelSchemaRegistry,
+            GsonFactory.instance()
+        );
+    }
+
+    /**
+     * Every row of a cursor is read into a map of field values, including the
+     * fields of an associated model which was joined into the same row.
+     * @throws AmplifyException On failure to convert values
+     */
+    @Test
+    public void rowsAreReadIncludingJoinedAssociations() throws AmplifyException {
+        MatrixCursor cursor = new MatrixCursor(new String[] {
+            "Blog_id", "Blog_name", "Blog_blogOwnerId", "BlogOwner_id", "BlogOwner_name", "BlogOwner_wea"
+        });
+        cursor.addRow(new Object[] {"blog-1", "First Blog", "owner-1", "owner-1", "Jane", null});
+        cursor.addRow(new Object[] {"blog-2", "Second Blog", "owner-2", "owner-2", "John", "Sunny"});
+
+        cursor.moveToFirst();
+        Map<String, Object> first = converter.buildMapForModel(cursor);
+        assertEquals("blog-1", first.get("id"));
+        assertEquals("First Blog", first.get("name"));
+        assertNull(first.get("posts"));
+        Map<?, ?> firstOwner = (Map<?, ?>) first.get("owner");
+        assertEquals("owner-1", firstOwner.get("id"));
+        assertEquals("Jane", firstOwner.get("name"));
+        assertNull(firstOwner.get("wea"));
+
+        cursor.moveToNext();
+        Map<String, Object> second = converter.buildMapForModel(cursor);
+        assertEquals("blog-2", second.get("id"));
+        assertEquals("Second Blog", second.get("name"));
+        Map<?, ?> secondOwner = (Map<?, ?>) second.get("owner");
+        assertEquals("owner-2", secondOwner.get("id"));
+        assertEquals("Sunny", secondOwner.get("wea"));
+        cursor.close();
+    }
+
+    /**
+     * A cursor that selects the same columns in a different order is read correctly,
+     * after another cursor has already been read by the same converter.
+     * @throws AmplifyException On failure to convert values
+     */
+    @Test
+    public void cursorWithDifferentColumnOrderIsReadCorrectly() throws AmplifyException {
+        MatrixCursor cursor = new MatrixCursor(new String[] {
+            "Blog_id", "Blog_name", "Blog_blogOwnerId", "BlogOwner_id", "BlogOwner_name", "BlogOwner_wea"
+        });
+        cursor.addRow(new Object[] {"blog-1", "First Blog", "owner-1", "owner-1", "Jane", null});
+        cursor.moveToFirst();
+        assertEquals("First Blog", converter.buildMapForModel(cursor).get("name"));
+        cursor.close();
+
+        MatrixCursor reordered = new MatrixCursor(new String[] {
+            "BlogOwner_wea", "BlogOwner_name", "BlogOwner_id", "Blog_blogOwnerId", "Blog_name", "Blog_id"
+        });
+        reordered.addRow(new Object[] {"Rainy", "John", "owner-2", "owner-2", "Second Blog", "blog-2"});
+        reordered.moveToFirst();
+        Map<String, Object> map = converter.buildMapForModel(reordered);
+        assertEquals("blog-2", map.get("id"));
+        assertEquals("Second Blog", map.get("name"));
+        assertEquals("Rainy", ((Map<?, ?>) map.get("owner")).get("wea"));
+        reordered.close();
+    }
+}
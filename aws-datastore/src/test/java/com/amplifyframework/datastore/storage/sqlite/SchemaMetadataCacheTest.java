@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.storage.sqlite;
+
+import android.os.Build;
+
+import com.amplifyframework.core.model.ModelField;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.core.model.ModelSchemaRegistry;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests the {@link SchemaMetadataCache}.
+ */
+@Config(sdk = Build.VERSION_CODES.P, manifest = Config.NONE)
+@RunWith(RobolectricTestRunner.class)
+public final class SchemaMetadataCacheTest {
+    private SchemaMetadataCache cache;
+
+    /**
+     * Creates a cache on top of the model schema registry.
+     */
+    @Before
+    public void setup() {
+        cache = new SchemaMetadataCache(ModelSchemaRegistry.instance());
+    }
+
+    /**
+     * Metadata is derived once for a schema, and then re-used.
+     */
+    @Test
+    public void metadataIsDerivedOncePerSchema() {
+        ModelSchema schema = guitarSchema();
+        assertSame(cache.tableFor(schema), cache.tableFor(schema));
+        assertSame(cache.selectFor(schema), cache.selectFor(schema));
+        assertEquals(
+            "SELECT `Guitar`.`id` AS `Guitar_id` FROM `Guitar`",
+            cache.selectFor(schema).sqlStatement()
+        );
+    }
+
+    /**
+     * When a different schema is presented for the same model, the metadata is derived anew.
+     * Likewise, after the cache is cleared.
+     */
+    @Test
+    public void metadataIsRebuiltWhenSchemaChanges() {
+        ModelSchema original = guitarSchema();
+        SqlCommand originalSelect = cache.selectFor(original);
+
+        ModelSchema replacement = guitarSchema();
+        SqlCommand replacementSelect = cache.selectFor(replacement);
+        assertNotSame(originalSelect, replacementSelect);
+        assertSame(replacementSelect, cache.selectFor(replacement));
+
+        cache.clear();
+        assertNotSame(replacementSelect, cache.selectFor(replacement));
+    }
+
+    private static ModelSchema guitarSchema() {
+        return ModelSchema.builder()
+            .name("Guitar")
+            .fields(Collections.singletonMap("id", ModelField.builder()
+                .name("id")
+                .isRequired(true)
+                .targetType("ID")
+                .javaClassForValue(String.class)
+                .build()))
+            .build();
+    }
+}
@@ -28,6 +28,8 @@ import com.amplifyframework.core.model.query.QueryPaginationInput;
 import com.amplifyframework.core.model.query.QuerySortBy;
 import com.amplifyframework.core.model.query.QuerySortOrder;
 import com.amplifyframework.core.model.query.Where;
+import com.amplifyframework.core.model.query.predicate.QueryField;
+import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.syncengine.PendingMutation;
 
@@ -244,6 +246,36 @@ public class SqlCommandTest {
         assertEquals(0, sqlCommand.getBindings().size());
     }
 
+    /**
+     * Validates that an INSERT OR IGNORE command is generated correctly, with
+     * a column for each field of the model.
+     */
+    @Test
+    public void insertOrIgnoreForReturnsExpectedSqlCommand() {
+        final ModelSchema personSchema = getPersonModelSchema();
+        final SqlCommand sqlCommand = sqlCommandFactory.insertOrIgnoreFor(personSchema);
+        assertEquals("Person", sqlCommand.tableName());
+        assertEquals(
+                "INSERT OR IGNORE INTO `Person` (`id`, `age`, `firstName`, `lastName`) VALUES (?, ?, ?, ?)",
+                sqlCommand.sqlStatement()
+        );
+        assertEquals(4, sqlCommand.getColumns().size());
+    }
+
+    /**
+     * Validates that a parameterized existence check is generated for a predicate,
+     * with the predicate's values held as bindings instead of literals.
+     * @throws DataStoreException From {@link SQLCommandFactory#existsFor(ModelSchema, QueryPredicate)}
+     */
+    @Test
+    public void existsForReturnsParameterizedSqlCommand() throws DataStoreException {
+        final ModelSchema personSchema = getPersonModelSchema();
+        final SqlCommand sqlCommand =
+                sqlCommandFactory.existsFor(personSchema, QueryField.field("id").eq("some-id"));
+        assertEquals("SELECT COUNT(*) FROM `Person` WHERE id = ?;", sqlCommand.sqlStatement());
+        assertEquals(Collections.singletonList("some-id"), sqlCommand.getBindings());
+    }
+
     private static ModelSchema getPersonModelSchema() {
         final SortedMap<String, ModelField> fields = getFieldsMap();
         return ModelSchema.builder()
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore.syncengine;
+
+import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.model.ModelSchema;
+import com.amplifyframework.datastore.DataStoreException;
+import com.amplifyframework.testmodels.commentsblog.Blog;
+import com.amplifyframework.testmodels.commentsblog.BlogOwner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the {@link CompactPendingMutationConverter}.
+ */
+@RunWith(RobolectricTestRunner.class)
+public final class CompactPendingMutationConverterTest {
+    private PendingMutation.Converter converter;
+    private ModelSchema schema;
+    private Blog blog;
+
+    /**
+     * Arranges a converter, and a model to be mutated.
+     * @throws AmplifyException On failure to arrange model schema
+     */
+    @Before
+    public void setup() throws AmplifyException {
+        converter = new CompactPendingMutationConverter();
+        schema = ModelSchema.fromModelClass(Blog.class);
+        blog = Blog.builder()
+            .name("A neat blog")
+            .owner(BlogOwner.builder()
+                .name("Joe Swanson")
+                .build())
+            .build();
+    }
+
+    /**
+     * A mutation can be converted to a record, and back, and is then the same.
+     * The record is much smaller than one written by the {@link GsonPendingMutationConverter}.
+     * @throws DataStoreException On failure to convert the record back into a mutation
+     */
+    @Test
+    public void convertMutationToRecordAndBack() throws DataStoreException {
+        PendingMutation<Blog> originalMutation = PendingMutation.creation(blog, schema);
+
+        PendingMutation.PersistentRecord record = converter.toRecord(originalMutation);
+        assertEquals(originalMutation.getMutationId().toString(), record.getId());
+        assertEquals(originalMutation, converter.fromRecord(record));
+
+        PendingMutation.PersistentRecord jsonRecord = new GsonPendingMutationConverter().toRecord(originalMutation);
+        assertTrue(record.getSerializedMutationData().length() < jsonRecord.getSerializedMutationData().length());
+    }
+
+    /**
+     * The condition of a conditional mutation survives the conversion.
+     * @throws DataStoreException On failure to convert the record back into a mutation
+     */
+    @Test
+    public void convertConditionalMutationToRecordAndBack() throws DataStoreException {
+        PendingMutation<Blog> originalMutation =
+            PendingMutation.update(blog, schema, Blog.NAME.eq("A neat blog"));
+
+        PendingMutation.PersistentRecord record = converter.toRecord(originalMutation);
+        assertEquals(originalMutation, converter.fromRecord(record));
+    }
+
+    /**
+     * The mutation type is stored by name, rather than by its position among the types,
+     * so that stored records don't depend on the order in which the types are declared.
+     * @throws DataStoreException On failure to convert the record back into a mutation
+     */
+    @Test
+    public void mutationTypeIsStoredByName() throws DataStoreException {
+        PendingMutation<Blog> originalMutation = PendingMutation.deletion(blog, schema);
+
+        PendingMutation.PersistentRecord record = converter.toRecord(originalMutation);
+        assertTrue(record.getSerializedMutationData().startsWith("v2 DELETE\n"));
+        assertEquals(PendingMutation.Type.DELETE, converter.fromRecord(record).getMutationType());
+    }
+
+    /**
+     * A record that was written as JSON, by the {@link GsonPendingMutationConverter},
+     * can still be read.
+     * @throws DataStoreException On failure to convert the record back into a mutation
+     */
+    @Test
+    public void recordWrittenAsJsonCanBeRead() throws DataStoreException {
+        PendingMutation<Blog> originalMutation = PendingMutation.deletion(blog, schema);
+
+        PendingMutation.PersistentRecord record = new GsonPendingMutationConverter().toRecord(originalMutation);
+        assertEquals(originalMutation, converter.fromRecord(record));
+    }
+
+    /**
+     * A record whose data was written in an unknown format can't be read.
+     * @throws DataStoreException On failure to convert the record back into a mutation, as expected
+     */
+    @Test(expected = DataStoreException.class)
+    public void recordWithUnknownFormatVersionIsRejected() throws DataStoreException {
+        PendingMutation.PersistentRecord record = PendingMutation.PersistentRecord.builder()
+            .mutationId(TimeBasedUuid.create())
+            .containedModelId(blog.getId())
+            .containedModelClassName(Blog.class.getName())
+            .serializedMutationData("v9 CREATE\n\n{}")
+            .build();
+        converter.fromRecord(record);
+    }
+}
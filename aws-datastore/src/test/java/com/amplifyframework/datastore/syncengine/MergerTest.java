@@ -24,6 +24,7 @@ import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.appsync.ModelMetadata;
 import com.amplifyframework.datastore.appsync.ModelWithMetadata;
 import com.amplifyframework.datastore.storage.InMemoryStorageAdapter;
+import com.amplifyframework.datastore.storage.StorageItemChange;
 import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
 import com.amplifyframework.testutils.random.RandomString;
@@ -33,7 +34,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -347,4 +351,71 @@ public final class MergerTest {
             storageAdapter.query(ModelMetadata.class, Where.id(existingModel.getId()))
         );
     }
+
+    /**
+     * When a page of items is merged, each item is merged according to the same rules
+     * as when it is merged by itself: newer versions are saved or deleted, stale versions
+     * are skipped, and deletions of items that aren't in the store are tolerated.
+     * @throws DataStoreException On failure to interact with storage during arrange/verification
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void pageIsMergedAccordingToVersions() throws DataStoreException, InterruptedException {
+        // Arrange: two blog owners are in the store.
+        BlogOwner updatedOwner = BlogOwner.builder()
+            .name("Jameson")
+            .build();
+        BlogOwner staleOwner = BlogOwner.builder()
+            .name("Cornelius Daniels")
+            .build();
+        ModelMetadata staleOwnerMetadata = new ModelMetadata(staleOwner.getId(), false, 10, Temporal.Timestamp.now());
+        storageAdapter.save(
+            updatedOwner, new ModelMetadata(updatedOwner.getId(), false, 1, Temporal.Timestamp.now()),
+            staleOwner, staleOwnerMetadata
+        );
+
+        // Act: merge a page with a newer version of one, an older version of the other,
+        // a brand new owner, and the deletion of an owner that was never in the store.
+        BlogOwner newerOwner = updatedOwner.copyOfBuilder()
+            .name("Jameson Williams")
+            .build();
+        ModelMetadata newerOwnerMetadata = new ModelMetadata(newerOwner.getId(), false, 2, Temporal.Timestamp.now());
+        BlogOwner createdOwner = BlogOwner.builder()
+            .name("Tony Danielsen")
+            .build();
+        ModelMetadata createdOwnerMetadata =
+            new ModelMetadata(createdOwner.getId(), false, 1, Temporal.Timestamp.now());
+        BlogOwner deletedOwner = BlogOwner.builder()
+            .name("Never Seen")
+            .build();
+        ModelMetadata deletedOwnerMetadata =
+            new ModelMetadata(deletedOwner.getId(), true, 1, Temporal.Timestamp.now());
+        List<ModelWithMetadata<BlogOwner>> page = Arrays.asList(
+            new ModelWithMetadata<>(newerOwner, newerOwnerMetadata),
+            new ModelWithMetadata<>(staleOwner.copyOfBuilder().name("Stale").build(),
+                new ModelMetadata(staleOwner.getId(), false, 9, Temporal.Timestamp.now())),
+            new ModelWithMetadata<>(createdOwner, createdOwnerMetadata),
+            new ModelWithMetadata<>(deletedOwner, deletedOwnerMetadata)
+        );
+        List<StorageItemChange.Type> changeTypes = new ArrayList<>();
+        TestObserver<Void> mergeObserver = merger.merge(page, changeTypes::add).test();
+        assertTrue(mergeObserver.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+        mergeObserver.assertNoErrors().assertComplete();
+
+        // Assert: the newer and brand new owners were saved; the stale one was not.
+        assertEquals(
+            new HashSet<>(Arrays.asList(newerOwner, staleOwner, createdOwner)),
+            new HashSet<>(storageAdapter.query(BlogOwner.class))
+        );
+        assertEquals(
+            new HashSet<>(Arrays.asList(
+                newerOwnerMetadata, staleOwnerMetadata, createdOwnerMetadata, deletedOwnerMetadata
+            )),
+            new HashSet<>(storageAdapter.query(ModelMetadata.class))
+        );
+        assertEquals(
+            Arrays.asList(StorageItemChange.Type.UPDATE, StorageItemChange.Type.CREATE, StorageItemChange.Type.DELETE),
+            changeTypes
+        );
+    }
 }
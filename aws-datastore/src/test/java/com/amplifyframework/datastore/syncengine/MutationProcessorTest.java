@@ -58,6 +58,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -90,6 +91,7 @@ public final class MutationProcessorTest {
         Merger merger = new Merger(mutationOutbox, versionRepository, localStorageAdapter);
         this.appSync = mock(AppSync.class);
         this.configurationProvider = mock(DataStoreConfigurationProvider.class);
+        when(configurationProvider.getConfiguration()).thenReturn(DataStoreConfiguration.defaults());
         ConflictResolver conflictResolver = new ConflictResolver(configurationProvider, appSync);
         modelSchemaRegistry = ModelSchemaRegistry.instance();
         modelSchemaRegistry.register(Collections.singleton(BlogOwner.class));
@@ -100,6 +102,7 @@ public final class MutationProcessorTest {
             .mutationOutbox(mutationOutbox)
             .appSync(appSync)
             .conflictResolver(conflictResolver)
+            .dataStoreConfigurationProvider(configurationProvider)
             .build();
     }
 
@@ -185,6 +188,7 @@ public final class MutationProcessorTest {
         CountDownLatch handlerInvocationsRemainingCount = new CountDownLatch(1);
         when(configurationProvider.getConfiguration())
             .thenReturn(DataStoreConfiguration.builder()
+                .outboxMaxConcurrentMutations(1)
                 .conflictHandler((conflictData, onDecision) ->
                     handlerInvocationsRemainingCount.countDown()
                 )
@@ -312,4 +316,44 @@ public final class MutationProcessorTest {
         mutationProcessor.startDrainingMutationOutbox();
         accumulator.await();
     }
+
+    /**
+     * When several mutations may be published at once, the outbox is still fully drained,
+     * and every mutation is published.
+     * @throws DataStoreException On failure to save models, or to build the configuration
+     */
+    @Test
+    public void canDrainMutationOutboxConcurrently() throws DataStoreException {
+        when(configurationProvider.getConfiguration())
+            .thenReturn(DataStoreConfiguration.builder()
+                .outboxMaxConcurrentMutations(4)
+                .build()
+            );
+        ModelSchema schema = modelSchemaRegistry.getModelSchemaForModelClass(BlogOwner.class);
+
+        // We will attempt to "sync" 10 models, up to 4 at a time.
+        final int modelCount = 10;
+        for (int index = 0; index < modelCount; index++) {
+            BlogOwner model = BlogOwner.builder()
+                .name("Blogger #" + index)
+                .build();
+            synchronousStorageAdapter.save(model);
+            AppSyncMocking.create(appSync).mockSuccessResponse(model);
+            assertTrue(mutationOutbox
+                .enqueue(PendingMutation.creation(model, schema))
+                .blockingAwait(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        // Start listening for Mutation Outbox Empty event.
+        HubAccumulator accumulator = HubAccumulator.create(
+            HubChannel.DATASTORE,
+            isOutboxEmpty(true),
+            1
+        ).start();
+
+        // Start draining the outbox, and wait for it to empty.
+        mutationProcessor.startDrainingMutationOutbox();
+        accumulator.await();
+        verify(appSync, times(modelCount)).create(any(), any(), any(), any());
+    }
 }
@@ -26,6 +26,7 @@ import org.robolectric.RobolectricTestRunner;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -122,4 +123,39 @@ public final class MutationQueueTest {
         mutationQueue.add(createTony);
         assertEquals(createQing, mutationQueue.peek());
     }
+
+    /**
+     * The next mutation for a model is the earliest one in the queue for that model.
+     * Once it is removed, the next mutation for that model is the one that followed it;
+     * once all of them are removed, there is no next mutation for the model.
+     */
+    @Test
+    public void nextMutationForModelIdFollowsQueueOrder() {
+        mutationQueue.clear();
+        BlogOwner qing = BlogOwner.builder()
+                .name("Qing Zhong")
+                .build();
+        BlogOwner tony = BlogOwner.builder()
+                .name("The Real Papa Tony")
+                .build();
+        PendingMutation<BlogOwner> createQing = PendingMutation.creation(qing, schema);
+        PendingMutation<BlogOwner> createTony = PendingMutation.creation(tony, schema);
+        PendingMutation<BlogOwner> updateQing = PendingMutation.update(qing, schema);
+
+        mutationQueue.add(createQing);
+        mutationQueue.add(createTony);
+        mutationQueue.add(updateQing);
+        assertEquals(createQing, mutationQueue.nextMutationForModelId(qing.getId()));
+        assertEquals(createTony, mutationQueue.nextMutationForModelId(tony.getId()));
+
+        mutationQueue.remove(createQing);
+        assertEquals(updateQing, mutationQueue.nextMutationForModelId(qing.getId()));
+
+        mutationQueue.remove(updateQing);
+        assertNull(mutationQueue.nextMutationForModelId(qing.getId()));
+        assertEquals(createTony, mutationQueue.nextMutationForModelId(tony.getId()));
+
+        mutationQueue.clear();
+        assertNull(mutationQueue.nextMutationForModelId(tony.getId()));
+    }
 }
@@ -16,12 +16,16 @@
 package com.amplifyframework.datastore.syncengine;
 
 import com.amplifyframework.AmplifyException;
+import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelSchema;
 import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.core.model.query.predicate.QueryPredicates;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.storage.InMemoryStorageAdapter;
+import com.amplifyframework.datastore.storage.LocalStorageAdapter;
+import com.amplifyframework.datastore.storage.StorageItemChange;
+import com.amplifyframework.datastore.storage.StorageOperation;
 import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.datastore.syncengine.MutationOutbox.OutboxEvent;
 import com.amplifyframework.datastore.syncengine.PendingMutation.PersistentRecord;
@@ -35,6 +39,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -50,6 +56,9 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 
 /**
  * Tests the {@link MutationOutbox}.
@@ -76,7 +85,7 @@ public final class PersistentMutationOutboxTest {
         storage = SynchronousStorageAdapter.delegatingTo(inMemoryStorageAdapter);
         mutationQueue = new MutationQueue();
         mutationOutbox = new PersistentMutationOutbox(inMemoryStorageAdapter, mutationQueue);
-        converter = new GsonPendingMutationConverter();
+        converter = new CompactPendingMutationConverter();
     }
 
     /**
@@ -209,6 +218,54 @@ public final class PersistentMutationOutboxTest {
         assertEquals(updateTony, mutationOutbox.peek());
     }
 
+    /**
+     * When there are many mutations on disk, load() only reads the first page of them in full.
+     * The others are read in once they reach the head of the outbox, or once another mutation
+     * is enqueued for the same model.
+     * @throws DataStoreException On failure to arrange models into storage before test action
+     */
+    @Test
+    public void loadDefersReadingMutationsPastFirstPage() throws DataStoreException {
+        // Arrange: more mutations than fit in a page.
+        List<PendingMutation<BlogOwner>> creations = new ArrayList<>();
+        for (int index = 0; index < 60; index++) {
+            BlogOwner owner = BlogOwner.builder()
+                .name("Owner " + index)
+                .build();
+            PendingMutation<BlogOwner> creation = PendingMutation.creation(owner, schema);
+            storage.save(converter.toRecord(creation));
+            creations.add(creation);
+        }
+
+        // Act: load the outbox.
+        mutationOutbox.load().blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        // Assert: every mutation is in the outbox, but the last ones haven't been read yet.
+        assertEquals(60, mutationQueue.size());
+        assertEquals(creations.get(0), mutationQueue.getMutationById(creations.get(0).getMutationId()));
+        assertNull(mutationQueue.getMutationById(creations.get(55).getMutationId()));
+        assertNull(mutationQueue.getMutationById(creations.get(59).getMutationId()));
+        assertTrue(mutationOutbox.hasPendingMutation(creations.get(59).getMutatedItem().getId()));
+
+        // Enqueuing an update for the last model reads in its creation, and folds the update into it.
+        BlogOwner updatedOwner = creations.get(59).getMutatedItem().copyOfBuilder()
+            .name("Updated owner")
+            .build();
+        mutationOutbox.enqueue(PendingMutation.update(updatedOwner, schema))
+            .blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        PendingMutation<BlogOwner> updatedCreation = PendingMutation.instance(
+            creations.get(59).getMutationId(), updatedOwner, schema, PendingMutation.Type.CREATE, QueryPredicates.all()
+        );
+        assertEquals(updatedCreation, mutationQueue.getMutationById(creations.get(59).getMutationId()));
+
+        // Once the mutations before it are removed, the next one is read in when it is peeked.
+        for (PendingMutation<BlogOwner> creation : creations.subList(0, 55)) {
+            mutationOutbox.remove(creation.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(creations.get(55), mutationOutbox.peek());
+        assertEquals(5, mutationOutbox.peekReady(10).size());
+    }
+
     /**
      * Tests {@link MutationOutbox#remove(TimeBasedUuid)}.
      * @throws DataStoreException On failure to query results, for assertions
@@ -820,6 +877,287 @@ public final class PersistentMutationOutboxTest {
         );
     }
 
+    /**
+     * {@link MutationOutbox#peekReady(int)} returns the first pending mutation of each model,
+     * in outbox order. A model's later mutations only become ready once its earlier ones
+     * have been removed, and a model with an in-flight mutation has nothing ready.
+     */
+    @Test
+    public void peekReadyReturnsFirstMutationOfEachModel() {
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> firstJoeUpdate = PendingMutation.update(joe, schema);
+        BlogOwner jane = BlogOwner.builder()
+            .name("Jane")
+            .build();
+        PendingMutation<BlogOwner> janeCreation = PendingMutation.creation(jane, schema);
+        BlogOwner renamedJoe = joe.copyOfBuilder()
+            .name("Joseph")
+            .build();
+        PendingMutation<BlogOwner> secondJoeUpdate =
+            PendingMutation.update(renamedJoe, schema, BlogOwner.NAME.eq("Joe"));
+        BlogOwner tom = BlogOwner.builder()
+            .name("Tom")
+            .build();
+        PendingMutation<BlogOwner> tomCreation = PendingMutation.creation(tom, schema);
+        for (PendingMutation<BlogOwner> mutation :
+                Arrays.asList(firstJoeUpdate, janeCreation, secondJoeUpdate, tomCreation)) {
+            mutationOutbox.enqueue(mutation)
+                .blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+
+        assertEquals(Arrays.asList(firstJoeUpdate, janeCreation, tomCreation), mutationOutbox.peekReady(10));
+        assertEquals(Arrays.asList(firstJoeUpdate, janeCreation), mutationOutbox.peekReady(2));
+
+        mutationOutbox.markInFlight(firstJoeUpdate.getMutationId())
+            .blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertEquals(Arrays.asList(janeCreation, tomCreation), mutationOutbox.peekReady(10));
+
+        mutationOutbox.remove(firstJoeUpdate.getMutationId())
+            .blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertEquals(Arrays.asList(janeCreation, secondJoeUpdate, tomCreation), mutationOutbox.peekReady(10));
+    }
+
+    /**
+     * A creation which was loaded from storage may have been published before a restart,
+     * so the updates after it are not folded into it. They are coalesced into a single update,
+     * which keeps the first update's ID and place in the outbox, once the creation is published.
+     * @throws DataStoreException On failure to arrange or query content in storage
+     */
+    @Test
+    public void coalesceDoesNotFoldUpdatesIntoLoadedCreation() throws DataStoreException {
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> creation = PendingMutation.creation(joe, schema);
+        BlogOwner joseph = joe.copyOfBuilder()
+            .name("Joseph")
+            .build();
+        PendingMutation<BlogOwner> firstUpdate = PendingMutation.update(joseph, schema);
+        BlogOwner joey = joe.copyOfBuilder()
+            .name("Joey")
+            .build();
+        PendingMutation<BlogOwner> secondUpdate = PendingMutation.update(joey, schema);
+        storage.save(converter.toRecord(creation), converter.toRecord(firstUpdate), converter.toRecord(secondUpdate));
+        mutationOutbox.load().blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        assertEquals(creation, mutationOutbox.coalesce(creation.getMutationId()).blockingGet());
+        assertEquals(3, storage.query(PersistentRecord.class).size());
+        mutationOutbox.remove(creation.getMutationId()).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        PendingMutation<? extends Model> coalesced =
+            mutationOutbox.coalesce(firstUpdate.getMutationId()).blockingGet();
+
+        PendingMutation<BlogOwner> expected = PendingMutation.instance(
+            firstUpdate.getMutationId(), joey, schema, PendingMutation.Type.UPDATE, QueryPredicates.all()
+        );
+        assertEquals(expected, coalesced);
+        assertEquals(expected, mutationOutbox.peek());
+        assertEquals(Collections.singletonList(expected), mutationQueue.mutationsForModelId(joe.getId()));
+        List<PersistentRecord> records = storage.query(PersistentRecord.class);
+        assertEquals(1, records.size());
+        assertEquals(expected, converter.fromRecord(records.get(0)));
+    }
+
+    /**
+     * When an update is followed by a deletion, they are coalesced into the deletion.
+     * Coalescing stops at a conditional update, which must be published on its own.
+     * @throws DataStoreException On failure to arrange content into storage
+     */
+    @Test
+    public void coalesceReplacesUpdateWithDeletionButStopsAtConditionalUpdate() throws DataStoreException {
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> update = PendingMutation.update(joe, schema);
+        PendingMutation<BlogOwner> deletion = PendingMutation.deletion(joe, schema);
+        BlogOwner jane = BlogOwner.builder()
+            .name("Jane")
+            .build();
+        PendingMutation<BlogOwner> janeUpdate = PendingMutation.update(jane, schema);
+        BlogOwner renamedJane = jane.copyOfBuilder()
+            .name("Janet")
+            .build();
+        PendingMutation<BlogOwner> conditionalJaneUpdate =
+            PendingMutation.update(renamedJane, schema, BlogOwner.NAME.eq("Jane"));
+        storage.save(
+            converter.toRecord(update),
+            converter.toRecord(deletion),
+            converter.toRecord(janeUpdate),
+            converter.toRecord(conditionalJaneUpdate)
+        );
+        mutationOutbox.load().blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        PendingMutation<BlogOwner> expectedDeletion = PendingMutation.instance(
+            update.getMutationId(), joe, schema, PendingMutation.Type.DELETE, QueryPredicates.all()
+        );
+        assertEquals(expectedDeletion, mutationOutbox.coalesce(update.getMutationId()).blockingGet());
+        assertEquals(janeUpdate, mutationOutbox.coalesce(janeUpdate.getMutationId()).blockingGet());
+        assertEquals(
+            Arrays.asList(janeUpdate, conditionalJaneUpdate),
+            mutationQueue.mutationsForModelId(jane.getId())
+        );
+    }
+
+    /**
+     * A creation which was loaded from storage may have been published before a restart,
+     * so a deletion after it doesn't cancel it out. Both are left in the outbox, to be published.
+     * @throws DataStoreException On failure to arrange or query content in storage
+     */
+    @Test
+    public void coalesceDoesNotCancelLoadedCreationWithDeletion() throws DataStoreException {
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> creation = PendingMutation.creation(joe, schema);
+        PendingMutation<BlogOwner> update = PendingMutation.update(joe, schema);
+        PendingMutation<BlogOwner> deletion = PendingMutation.deletion(joe, schema);
+        storage.save(converter.toRecord(creation), converter.toRecord(update), converter.toRecord(deletion));
+        mutationOutbox.load().blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        assertEquals(creation, mutationOutbox.coalesce(creation.getMutationId()).blockingGet());
+        assertEquals(
+            Arrays.asList(creation, update, deletion),
+            mutationQueue.mutationsForModelId(joe.getId())
+        );
+        assertEquals(3, storage.query(PersistentRecord.class).size());
+    }
+
+    /**
+     * When a creation was loaded from storage, an incoming deletion for the same model ID
+     * is enqueued after it, rather than removing it, since the creation may already have been published.
+     * @throws DataStoreException On failure to arrange or query content in storage
+     */
+    @Test
+    public void existingLoadedCreationIncomingDeletionIsEnqueued() throws DataStoreException {
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> creation = PendingMutation.creation(joe, schema);
+        storage.save(converter.toRecord(creation));
+        mutationOutbox.load().blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        PendingMutation<BlogOwner> deletion = PendingMutation.deletion(joe, schema);
+        mutationOutbox.enqueue(deletion).blockingAwait(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+
+        assertEquals(Arrays.asList(creation, deletion), mutationQueue.mutationsForModelId(joe.getId()));
+        assertEquals(2, storage.query(PersistentRecord.class).size());
+    }
+
+    /**
+     * Coalescing marks the mutation to publish as in-flight. A mutation which is enqueued
+     * after it was looked up, but committed after it was coalesced, is saved on its own,
+     * instead of overwriting the mutation that is being published.
+     */
+    @Test
+    public void enqueueCommittedAfterCoalesceDoesNotOverwriteCoalescedMutation() {
+        List<List<StorageOperation<? extends Model>>> batches = new ArrayList<>();
+        List<Consumer<List<StorageItemChange<? extends Model>>>> commits = new ArrayList<>();
+        MutationQueue queue = new MutationQueue();
+        MutationOutbox outbox = new PersistentMutationOutbox(slowStorage(batches, commits), queue);
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> update = PendingMutation.update(joe, schema);
+        outbox.enqueue(update).test();
+        commits.get(0).accept(Collections.emptyList());
+
+        // Hold up the outbox with a write for another model, while coalescing and enqueueing.
+        BlogOwner jane = BlogOwner.builder()
+            .name("Jane")
+            .build();
+        outbox.enqueue(PendingMutation.creation(jane, schema)).test();
+        TestObserver<PendingMutation<? extends Model>> coalesceObserver =
+            outbox.coalesce(update.getMutationId()).test();
+        PendingMutation<BlogOwner> deletion = PendingMutation.deletion(joe, schema);
+        TestObserver<Void> enqueueObserver = outbox.enqueue(deletion).test();
+        commits.get(1).accept(Collections.emptyList());
+
+        // The update is published as it is, and the deletion is saved after it.
+        coalesceObserver.assertValue(update);
+        assertEquals(3, batches.size());
+        commits.get(2).accept(Collections.emptyList());
+        enqueueObserver.assertComplete();
+        assertEquals(Arrays.asList(update, deletion), queue.mutationsForModelId(joe.getId()));
+    }
+
+    /**
+     * A mutation which is enqueued before a coalesce is committed changes what is coalesced.
+     * The coalesce starts over from the changed outbox, so that the latest change is published.
+     */
+    @Test
+    public void coalesceCommittedAfterEnqueueUsesEnqueuedChange() {
+        List<List<StorageOperation<? extends Model>>> batches = new ArrayList<>();
+        List<Consumer<List<StorageItemChange<? extends Model>>>> commits = new ArrayList<>();
+        MutationQueue queue = new MutationQueue();
+        MutationOutbox outbox = new PersistentMutationOutbox(slowStorage(batches, commits), queue);
+        BlogOwner joe = BlogOwner.builder()
+            .name("Joe")
+            .build();
+        PendingMutation<BlogOwner> update = PendingMutation.update(joe, schema);
+        outbox.enqueue(update).test();
+        commits.get(0).accept(Collections.emptyList());
+
+        // Hold up the outbox with a write for another model, while enqueueing and coalescing.
+        BlogOwner jane = BlogOwner.builder()
+            .name("Jane")
+            .build();
+        outbox.enqueue(PendingMutation.creation(jane, schema)).test();
+        PendingMutation<BlogOwner> deletion = PendingMutation.deletion(joe, schema);
+        TestObserver<Void> enqueueObserver = outbox.enqueue(deletion).test();
+        TestObserver<PendingMutation<? extends Model>> coalesceObserver =
+            outbox.coalesce(update.getMutationId()).test();
+        commits.get(1).accept(Collections.emptyList());
+        coalesceObserver.assertNoValues();
+        commits.get(2).accept(Collections.emptyList());
+
+        // The deletion overwrote the update, and that is what is published.
+        enqueueObserver.assertComplete();
+        PendingMutation<BlogOwner> expected = PendingMutation.instance(
+            update.getMutationId(), joe, schema, PendingMutation.Type.DELETE, deletion.getPredicate()
+        );
+        coalesceObserver.assertValue(expected);
+        assertEquals(Collections.singletonList(expected), queue.mutationsForModelId(joe.getId()));
+        assertEquals(3, batches.size());
+    }
+
+    /**
+     * Writes which are requested while an earlier write is still being committed are
+     * committed together, in a single batch, once the earlier write is done.
+     */
+    @Test
+    public void writesRequestedDuringCommitAreGroupCommitted() {
+        // Arrange storage which doesn't finish committing a batch until told to.
+        List<List<StorageOperation<? extends Model>>> batches = new ArrayList<>();
+        List<Consumer<List<StorageItemChange<? extends Model>>>> commits = new ArrayList<>();
+        MutationOutbox outbox = new PersistentMutationOutbox(slowStorage(batches, commits));
+
+        // Enqueue three mutations. Only the first one starts committing right away.
+        List<TestObserver<Void>> observers = new ArrayList<>();
+        for (String name : Arrays.asList("Joe", "Jane", "Tom")) {
+            BlogOwner owner = BlogOwner.builder()
+                .name(name)
+                .build();
+            observers.add(outbox.enqueue(PendingMutation.creation(owner, schema)).test());
+        }
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        observers.get(0).assertNotComplete();
+
+        // When the first commit is done, the other two are committed together.
+        commits.get(0).accept(Collections.emptyList());
+        observers.get(0).assertComplete();
+        observers.get(1).assertNotComplete();
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(1).size());
+
+        commits.get(1).accept(Collections.emptyList());
+        observers.get(1).assertComplete();
+        observers.get(2).assertComplete();
+        assertEquals(2, batches.size());
+    }
+
     /**
      * Ordinarily, a DELETE would remote a CREATE, in front of it. But if that
      * create is marked in flight, we can't remove it. We have to enqueue the new
@@ -884,6 +1222,19 @@ public final class PersistentMutationOutboxTest {
             );
     }
 
+    // Storage which doesn't finish committing a batch until told to, by calling its commit callback.
+    private static LocalStorageAdapter slowStorage(
+            List<List<StorageOperation<? extends Model>>> batches,
+            List<Consumer<List<StorageItemChange<? extends Model>>>> commits) {
+        LocalStorageAdapter slowStorage = mock(LocalStorageAdapter.class);
+        doAnswer(invocation -> {
+            batches.add(invocation.getArgument(0));
+            commits.add(invocation.getArgument(1));
+            return null;
+        }).when(slowStorage).batch(any(), any(), any());
+        return slowStorage;
+    }
+
     private void assertRecordCountForMutationId(String mutationId, int expectedCount) throws DataStoreException {
         List<PersistentRecord> recordsForExistingMutationId = getPendingMutationRecordFromStorage(mutationId);
         assertEquals(expectedCount, recordsForExistingMutationId.size());
@@ -51,10 +51,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Observable;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -68,6 +70,7 @@ import static org.mockito.Mockito.mock;
 @RunWith(RobolectricTestRunner.class)
 public final class SubscriptionProcessorTest {
     private static final long OPERATION_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(1);
+    private static final long RESUBSCRIPTION_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(5);
 
     private List<ModelSchema> modelSchemas;
     private AppSync appSync;
@@ -167,6 +170,43 @@ public final class SubscriptionProcessorTest {
         assertFalse(isDataMergedWhenBufferDrainedForBlogOwnerNamed("Paul Hudson"));
     }
 
+    /**
+     * When the subscriptions are started again, after their connection was lost and re-established,
+     * a single catch-up task is run for all of them.
+     * @throws InterruptedException On failure to await latch
+     */
+    @Test
+    public void catchUpRunsOnceWhenSubscriptionsAreReestablished() throws InterruptedException {
+        // Remember how each subscription is told that it has started, so it can be told so again.
+        List<Consumer<String>> startConsumers = Collections.synchronizedList(new ArrayList<>());
+        Answer<Cancelable> answer = invocation -> {
+            final int startConsumerIndex = 1;
+            Consumer<String> onStart = invocation.getArgument(startConsumerIndex);
+            startConsumers.add(onStart);
+            onStart.accept(RandomString.string());
+            return new NoOpCancelable();
+        };
+        arrangeSubscriptions(appSync, answer, modelSchemas, SubscriptionType.values());
+
+        AtomicInteger catchUpCount = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        subscriptionProcessor.startSubscriptions();
+        subscriptionProcessor.startCatchingUpAfterResubscription(() -> Completable.fromAction(() -> {
+            catchUpCount.incrementAndGet();
+            latch.countDown();
+        }));
+
+        // Act: re-establish all of the subscriptions.
+        synchronized (startConsumers) {
+            for (Consumer<String> onStart : startConsumers) {
+                onStart.accept(RandomString.string());
+            }
+        }
+
+        assertTrue(latch.await(RESUBSCRIPTION_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(1, catchUpCount.get());
+    }
+
     /**
      * Return whether a response with a BlogOwner with the given name gets merged with the merger.
      * @param name name of the BlogOwner returned in the subscription
@@ -20,6 +20,7 @@ import android.util.Range;
 import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.graphql.GraphQLRequest;
 import com.amplifyframework.api.graphql.PaginatedResult;
+import com.amplifyframework.core.Amplify;
 import com.amplifyframework.core.model.Model;
 import com.amplifyframework.core.model.ModelProvider;
 import com.amplifyframework.core.model.ModelSchema;
@@ -43,6 +44,7 @@ import com.amplifyframework.datastore.storage.SynchronousStorageAdapter;
 import com.amplifyframework.hub.HubChannel;
 import com.amplifyframework.hub.HubEvent;
 import com.amplifyframework.hub.HubEventFilter;
+import com.amplifyframework.hub.SubscriptionToken;
 import com.amplifyframework.testmodels.commentsblog.AmplifyModelProvider;
 import com.amplifyframework.testmodels.commentsblog.BlogOwner;
 import com.amplifyframework.testmodels.commentsblog.Post;
@@ -59,6 +61,7 @@ import org.robolectric.RobolectricTestRunner;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -241,6 +244,42 @@ public final class SyncProcessorTest {
         // Check - END
     }
 
+    /**
+     * When the DataStore catches up after its subscriptions were re-established, the models are
+     * synced as they are by {@link SyncProcessor#hydrate()}, but the sync queries are not announced
+     * on the Hub, since the DataStore has already been synced.
+     * @throws DataStoreException Not expected.
+     */
+    @Test
+    public void catchUpDoesNotPublishSyncQueryEvents() throws DataStoreException {
+        int expectedModelCount = Arrays.asList(Post.class, BlogOwner.class).size();
+        List<HubEvent<?>> syncQueryEvents = Collections.synchronizedList(new ArrayList<>());
+        SubscriptionToken token = Amplify.Hub.subscribe(HubChannel.DATASTORE,
+            hubEvent -> forEvent(DataStoreChannelEventName.SYNC_QUERIES_STARTED).filter(hubEvent) ||
+                forEvent(DataStoreChannelEventName.SYNC_QUERIES_READY).filter(hubEvent),
+            syncQueryEvents::add
+        );
+        HubAccumulator modelSyncedAccumulator =
+            createAccumulator(forEvent(DataStoreChannelEventName.MODEL_SYNCED), expectedModelCount).start();
+
+        storageAdapter.save(DRUM_POST.getModel());
+        storageAdapter.save(BLOGGER_ISLA.getModel());
+        AppSyncMocking.sync(appSync)
+            .mockSuccessResponse(Post.class, DELETED_DRUM_POST)
+            .mockSuccessResponse(BlogOwner.class, BLOGGER_ISLA, BLOGGER_JAMESON);
+
+        TestObserver<Void> catchUpObserver = syncProcessor.catchUp().test();
+
+        assertTrue(catchUpObserver.await(OP_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        catchUpObserver.assertNoErrors().assertComplete();
+        // The models are still synced, and their events are still published.
+        List<HubEvent<?>> modelSyncedEvents =
+            modelSyncedAccumulator.await((int) OP_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        assertEquals(expectedModelCount, modelSyncedEvents.size());
+        Amplify.Hub.unsubscribe(token);
+        assertTrue(syncQueryEvents.isEmpty());
+    }
+
     /**
      * When {@link SyncProcessor#hydrate()}'s {@link Completable} completes,
      * then the local storage adapter should have all of the remote model state.
@@ -27,6 +27,9 @@ import com.amplifyframework.testmodels.commentsblog.Post;
 
 import org.junit.Test;
 
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -65,6 +68,33 @@ public final class TopologicalOrderingTest {
         assertTrue(topologicalOrdering.check(postSchema).isAfter(blogSchema));
     }
 
+    /**
+     * Checks the direct dependencies of the Comment, Post, Blog and BlogOwner classes.
+     * Each depends only on the model it belongs to; the BlogOwner belongs to nothing.
+     * @throws AmplifyException On failure to load models into registry
+     */
+    @Test
+    public void dependenciesOfBlogPostComment() throws AmplifyException {
+        final SimpleModelProvider provider =
+            SimpleModelProvider.withRandomVersion(Comment.class, Blog.class, BlogOwner.class, Post.class);
+
+        final ModelSchemaRegistry registry = ModelSchemaRegistry.instance();
+        registry.clear();
+        registry.register(provider.models());
+
+        ModelSchema commentSchema = findSchema(registry, Comment.class);
+        ModelSchema postSchema = findSchema(registry, Post.class);
+        ModelSchema blogSchema = findSchema(registry, Blog.class);
+        ModelSchema blogOwnerSchema = findSchema(registry, BlogOwner.class);
+
+        TopologicalOrdering topologicalOrdering = TopologicalOrdering.forRegisteredModels(registry, provider);
+
+        assertEquals(Collections.singletonList(postSchema), topologicalOrdering.dependenciesOf(commentSchema));
+        assertEquals(Collections.singletonList(blogSchema), topologicalOrdering.dependenciesOf(postSchema));
+        assertEquals(Collections.singletonList(blogOwnerSchema), topologicalOrdering.dependenciesOf(blogSchema));
+        assertEquals(Collections.emptyList(), topologicalOrdering.dependenciesOf(blogOwnerSchema));
+    }
+
     /**
      * Find a {@link ModelSchema} in an {@link ModelSchemaRegistry}, looking up by the
      * model's {@link Class}.
@@ -25,12 +25,18 @@ import com.amplifyframework.testmodels.commentsblog.BlogOwner;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import io.reactivex.rxjava3.observers.TestObserver;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -147,4 +153,75 @@ public final class VersionRepositoryTest {
             .assertComplete()
             .assertValue(expectedVersion);
     }
+
+    /**
+     * When the versions of many models are looked up at once, a version is found for each
+     * model that has metadata in the store, even when there are more models than fit into
+     * a single lookup. Models without metadata are absent from the result.
+     * @throws DataStoreException On failure to arrange data into store
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void findsVersionsOfManyModelsAtOnce() throws DataStoreException, InterruptedException {
+        // Arrange versioning info for many models into the store; but leave one model without any.
+        final int modelCount = 600;
+        final List<BlogOwner> owners = new ArrayList<>();
+        final Map<String, Integer> expectedVersions = new HashMap<>();
+        for (int index = 0; index < modelCount; index++) {
+            BlogOwner owner = BlogOwner.builder()
+                .name("Owner " + index)
+                .build();
+            owners.add(owner);
+            expectedVersions.put(owner.getId(), index);
+            storageAdapter.save(new ModelMetadata(owner.getId(), false, index, Temporal.Timestamp.now()));
+        }
+        owners.add(BlogOwner.builder()
+            .name("Owner without metadata")
+            .build());
+
+        // Act: look up all of the versions.
+        TestObserver<Map<String, Integer>> observer = versionRepository.findModelVersions(owners).test();
+        assertTrue(observer.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+
+        // Assert: every arranged version was found, and nothing else.
+        observer
+            .assertNoErrors()
+            .assertComplete()
+            .assertValue(expectedVersions);
+    }
+
+    /**
+     * Once the version of a model has been looked up, or updated by a merge, it is found
+     * without going back to the store, until the remembered versions are cleared.
+     * @throws DataStoreException On failure to arrange data into store
+     * @throws InterruptedException If interrupted while awaiting terminal result in test observer
+     */
+    @Test
+    public void remembersVersionsUntilCleared() throws DataStoreException, InterruptedException {
+        // Arrange: a version is in the store, and has been looked up once.
+        BlogOwner owner = BlogOwner.builder()
+            .name("Jameson")
+            .build();
+        storageAdapter.save(new ModelMetadata(owner.getId(), false, 1, Temporal.Timestamp.now()));
+        assertEquals(1, versionRepository.findModelVersion(owner).blockingGet().intValue());
+
+        // Act: a merge saves a newer version, and the cached version is updated with it.
+        ModelMetadata newerMetadata = new ModelMetadata(owner.getId(), false, 2, Temporal.Timestamp.now());
+        versionRepository.updateCachedVersion(newerMetadata);
+        // Meanwhile, the store is changed by some other means.
+        storageAdapter.delete(new ModelMetadata(owner.getId(), false, 1, Temporal.Timestamp.now()));
+
+        // Assert: the remembered version is found, for a single model and for many models.
+        TestObserver<Integer> observer = versionRepository.findModelVersion(owner).test();
+        assertTrue(observer.await(REASONABLE_WAIT_TIME, TimeUnit.MILLISECONDS));
+        observer.assertValue(2);
+        assertEquals(
+            Collections.singletonMap(owner.getId(), 2),
+            versionRepository.findModelVersions(Collections.singletonList(owner)).blockingGet()
+        );
+
+        // Once cleared, the version is looked up in the store again, where there is none now.
+        versionRepository.clearCachedVersions();
+        assertTrue(versionRepository.findModelVersions(Collections.singletonList(owner)).blockingGet().isEmpty());
+    }
 }
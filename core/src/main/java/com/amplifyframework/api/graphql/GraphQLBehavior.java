@@ -134,7 +134,12 @@ public interface GraphQLBehavior {
      *
      * @param graphQlRequest Wrapper for request details
      * @param onSubscriptionEstablished
-     *        Called when a subscription has been established over the network
+     *        Called with the ID of the subscription when it has been established over
+     *        the network. If the connection is lost, and the subscription is then
+     *        re-established over a new connection, this is called again with the same ID.
+     *        Responses published while the connection was lost are not delivered to
+     *        onNextResponse, so a repeated call is a signal to re-query any state
+     *        which is kept up to date by the subscription.
      * @param onNextResponse
      *        Consumes a stream of responses on the subscription. This may be
      *        called 0..n times per subscription.
@@ -169,7 +174,12 @@ public interface GraphQLBehavior {
      * @param apiName The name of a configured API
      * @param graphQlRequest Wrapper for request details
      * @param onSubscriptionEstablished
-     *        Called when a subscription has been established over the network
+     *        Called with the ID of the subscription when it has been established over
+     *        the network. If the connection is lost, and the subscription is then
+     *        re-established over a new connection, this is called again with the same ID.
+     *        Responses published while the connection was lost are not delivered to
+     *        onNextResponse, so a repeated call is a signal to re-query any state
+     *        which is kept up to date by the subscription.
      * @param onNextResponse
      *        Consumes a stream of responses on the subscription. This may be
      *        called 0..n times per subscription.
@@ -21,6 +21,7 @@ import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiException;
 import com.amplifyframework.api.ApiOperation;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 /**
@@ -62,6 +63,23 @@ public abstract class GraphQLOperation<R> extends ApiOperation<GraphQLRequest<R>
         }
     }
 
+    /**
+     * Converts a response containing a single object, as it is read from a stream, to a
+     * formatted {@link GraphQLResponse} object that a response consumer can receive.
+     * @param responseReader reader of the json response from API to be converted
+     * @param type Type of R, the data contained in the GraphQLResponse
+     * @return wrapped response object
+     * @throws ApiException If the response can't be read, or if the class provided mismatches the data
+     */
+    protected final GraphQLResponse<R> wrapResponse(Reader responseReader, Type type) throws ApiException {
+        try {
+            return responseFactory.buildResponse(getRequest(), responseReader, type);
+        } catch (ClassCastException cce) {
+            throw new ApiException("Amplify encountered an error while deserializing an object",
+                    AmplifyException.TODO_RECOVERY_SUGGESTION);
+        }
+    }
+
     /**
      * Gets the Type to use for deserializing the response.
      * @return response type
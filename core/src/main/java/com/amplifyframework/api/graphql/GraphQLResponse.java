@@ -19,9 +19,12 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.util.ObjectsCompat;
 
+import com.amplifyframework.AmplifyException;
 import com.amplifyframework.api.ApiException;
 import com.amplifyframework.util.Immutable;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +37,8 @@ import java.util.Objects;
  * @param <R> queried data type
  */
 public final class GraphQLResponse<R> {
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
     private final R data;
     private final List<Error> errors;
 
@@ -242,5 +247,35 @@ public final class GraphQLResponse<R> {
          */
         <R> GraphQLResponse<R> buildResponse(GraphQLRequest<R> request, String apiResponseJson, Type typeOfR)
             throws ApiException;
+
+        /**
+         * Deserializes JSON read from a stream returned by an API into an object of the provided typeOfR.
+         * Implementations may decode the response as it is read, without holding all of its text in memory.
+         * By default, the stream is read into a String, which is then deserialized by
+         * {@link #buildResponse(GraphQLRequest, String, Type)}.
+         * @param request The request which resulted in this GraphQLResponse
+         * @param apiResponseReader A reader of the response from the endpoint
+         * @param typeOfR The typeOfR to which the JSON should be interpreted
+         * @param <R> The typeOfR of the response object
+         * @return An instance of provided typeOfR which models the data provided in the response JSON
+         * @throws ApiException If the response can't be read, or if the class provided mismatches the data
+         */
+        default <R> GraphQLResponse<R> buildResponse(GraphQLRequest<R> request, Reader apiResponseReader, Type typeOfR)
+                throws ApiException {
+            final StringBuilder apiResponseJson = new StringBuilder();
+            try {
+                final char[] buffer = new char[READ_BUFFER_SIZE];
+                int count;
+                while ((count = apiResponseReader.read(buffer)) != -1) {
+                    apiResponseJson.append(buffer, 0, count);
+                }
+            } catch (IOException exception) {
+                throw new ApiException(
+                    "Could not read the response from the API.",
+                    exception, AmplifyException.TODO_RECOVERY_SUGGESTION
+                );
+            }
+            return buildResponse(request, apiResponseJson.toString(), typeOfR);
+        }
     }
 }
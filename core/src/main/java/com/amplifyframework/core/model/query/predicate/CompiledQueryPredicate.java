@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.core.model.query.predicate;
+
+import androidx.annotation.NonNull;
+
+import com.amplifyframework.util.FieldFinder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link QueryPredicate} which has been prepared for evaluation against instances of a single class.
+ *
+ * Evaluating a {@link QueryPredicate} looks up each field that it compares by name, on the class
+ * of the object being evaluated. A compiled predicate looks up those fields once, when it is
+ * compiled, so that it can be evaluated many times over without any further lookups. The result
+ * of an evaluation is the same as that of the {@link QueryPredicate} it was compiled from.
+ */
+public final class CompiledQueryPredicate implements Evaluable<Object> {
+    private final QueryPredicate predicate;
+    private final Class<?> targetClass;
+    private final Evaluable<Object> compiled;
+
+    private CompiledQueryPredicate(QueryPredicate predicate, Class<?> targetClass) {
+        this.predicate = predicate;
+        this.targetClass = targetClass;
+        this.compiled = compile(predicate);
+    }
+
+    /**
+     * Compiles a predicate, for evaluation against instances of a class.
+     * @param predicate A predicate
+     * @param targetClass The class of the objects that the predicate will be evaluated against
+     * @return A compiled predicate
+     */
+    @NonNull
+    public static CompiledQueryPredicate compile(@NonNull QueryPredicate predicate, @NonNull Class<?> targetClass) {
+        return new CompiledQueryPredicate(Objects.requireNonNull(predicate), Objects.requireNonNull(targetClass));
+    }
+
+    /**
+     * Evaluates the predicate against an object. If the object is not an instance of the
+     * class that the predicate was compiled for, the uncompiled predicate is evaluated instead.
+     * @param object The object to evaluate against
+     * @return Evaluated result of the predicate
+     * @throws IllegalArgumentException when the object contains
+     *          a field with data type that cannot be evaluated
+     */
+    @Override
+    public boolean evaluate(@NonNull Object object) throws IllegalArgumentException {
+        if (object.getClass() != targetClass) {
+            return predicate.evaluate(object);
+        }
+        return compiled.evaluate(object);
+    }
+
+    private Evaluable<Object> compile(QueryPredicate predicate) {
+        if (predicate instanceof MatchAllQueryPredicate) {
+            return object -> true;
+        } else if (predicate instanceof QueryPredicateOperation) {
+            return compileOperation((QueryPredicateOperation<?>) predicate);
+        } else if (predicate instanceof QueryPredicateGroup) {
+            return compileGroup((QueryPredicateGroup) predicate);
+        } else {
+            return predicate;
+        }
+    }
+
+    private Evaluable<Object> compileOperation(QueryPredicateOperation<?> operation) {
+        final Field field;
+        try {
+            field = FieldFinder.findAccessibleField(targetClass, operation.field());
+        } catch (NoSuchFieldException | SecurityException lookupFailure) {
+            // Just as when the predicate is evaluated, an object without the field never matches.
+            return object -> false;
+        }
+        final QueryOperator<?> operator = operation.operator();
+        return object -> {
+            final Object fieldValue;
+            try {
+                fieldValue = field.get(object);
+            } catch (IllegalAccessException accessFailure) {
+                return false;
+            }
+            return evaluateOperator(operator, fieldValue, operation.field());
+        };
+    }
+
+    @SuppressWarnings("unchecked") // The operator is expected to match the type of the field, just as when uncompiled.
+    private static <T> boolean evaluateOperator(QueryOperator<T> operator, Object fieldValue, String fieldName) {
+        try {
+            return operator.evaluate((T) fieldValue);
+        } catch (ClassCastException castException) {
+            throw new IllegalArgumentException(fieldName + " field inside " +
+                    "provided object cannot be evaluated by the operator " +
+                    "type: " + operator.type().name(),
+                    castException);
+        } catch (Exception exception) {
+            return false;
+        }
+    }
+
+    private Evaluable<Object> compileGroup(QueryPredicateGroup group) {
+        final List<Evaluable<Object>> members = new ArrayList<>();
+        for (QueryPredicate member : group.predicates()) {
+            members.add(compile(member));
+        }
+        switch (group.type()) {
+            case OR:
+                return object -> {
+                    for (Evaluable<Object> member : members) {
+                        if (member.evaluate(object)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+            case AND:
+                return object -> {
+                    for (Evaluable<Object> member : members) {
+                        if (!member.evaluate(object)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            case NOT:
+                // predicates should never be empty!
+                final Evaluable<Object> negated = members.get(0);
+                return object -> !negated.evaluate(object);
+            default:
+                return object -> false;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * DataStore simplifies local storage of your application data on the
@@ -94,6 +95,18 @@ public final class DataStoreCategory
         getSelectedPlugin().delete(object, predicate, onItemDeleted, onFailureToDelete);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void batch(
+            @NonNull List<? extends Model> itemsToSave,
+            @NonNull List<? extends Model> itemsToDelete,
+            @NonNull Consumer<List<DataStoreItemChange<? extends Model>>> onBatchApplied,
+            @NonNull Consumer<DataStoreException> onBatchFailure) {
+        getSelectedPlugin().batch(itemsToSave, itemsToDelete, onBatchApplied, onBatchFailure);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -126,6 +139,18 @@ public final class DataStoreCategory
         getSelectedPlugin().query(itemClass, options, onQueryResults, onQueryFailure);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Model> void queryLazily(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<DataStoreQueryIterator<T>> onQueryResults,
+            @NonNull Consumer<DataStoreException> onQueryFailure) {
+        getSelectedPlugin().queryLazily(itemClass, options, onQueryResults, onQueryFailure);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -26,6 +26,7 @@ import com.amplifyframework.core.model.query.QueryOptions;
 import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * A DataStore is a high-level abstraction of an object repository.
@@ -97,6 +98,25 @@ public interface DataStoreCategoryBehavior {
             @NonNull Consumer<DataStoreException> onFailureToDelete
     );
 
+    /**
+     * Saves and deletes a number of items in the DataStore, as a single unit of work.
+     * All of the saves are applied first, in the order provided, followed by all of
+     * the deletions. Either every change is applied, or, on failure, none of them are.
+     * This is much more efficient than calling {@link #save(Model, Consumer, Consumer)} and
+     * {@link #delete(Model, Consumer, Consumer)} once per item, when writing a large number of items.
+     * @param itemsToSave Items to save into the DataStore
+     * @param itemsToDelete Items to delete from the DataStore
+     * @param onBatchApplied Called with one change per item, after all changes have been applied
+     * @param onBatchFailure Called upon failure to apply the batch; in this case,
+     *                       none of the items will have been saved or deleted
+     */
+    void batch(
+            @NonNull List<? extends Model> itemsToSave,
+            @NonNull List<? extends Model> itemsToDelete,
+            @NonNull Consumer<List<DataStoreItemChange<? extends Model>>> onBatchApplied,
+            @NonNull Consumer<DataStoreException> onBatchFailure
+    );
+
     /**
      * Query the DataStore to find all items of the requested Java class.
      * @param itemClass Items of this class will be targeted by this query
@@ -142,6 +162,25 @@ public interface DataStoreCategoryBehavior {
             @NonNull Consumer<DataStoreException> onQueryFailure
     );
 
+    /**
+     * Query the DataStore to find items of the requested Java class, using the provided
+     * {@link QueryOptions}, without reading all of the results into memory at once.
+     * Results are read out of storage one at a time, as the provided iterator is advanced.
+     * This is suitable for walking over a very large number of items. The iterator must
+     * be canceled if it is abandoned before it is exhausted; see {@link DataStoreQueryIterator}.
+     * @param itemClass Class of items that will be queried
+     * @param options Filtering, paging, and sorting options
+     * @param onQueryResults Called with an iterator over the results, once the query has begun
+     * @param onQueryFailure Called when there is a failure that prevents the query from beginning
+     * @param <T> The type of items being queried
+     */
+    <T extends Model> void queryLazily(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options,
+            @NonNull Consumer<DataStoreQueryIterator<T>> onQueryResults,
+            @NonNull Consumer<DataStoreException> onQueryFailure
+    );
+
     /**
      * Observe all changes to any/all item(s) in the DataStore.
      * @param onObservationStarted Called when observation begins
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amplifyframework.datastore;
+
+import com.amplifyframework.core.async.Cancelable;
+import com.amplifyframework.core.model.Model;
+
+import java.util.Iterator;
+
+/**
+ * An iterator over the results of a DataStore query, which reads each result out of
+ * storage only when it is requested, instead of reading all of them up-front.
+ *
+ * The iterator holds storage resources open until it has been exhausted (i.e.,
+ * {@link #hasNext()} has returned false). If the caller stops iterating before then,
+ * it must {@link #cancel()} the iterator, to release those resources. It is safe
+ * to cancel an iterator more than once, or after it has been exhausted.
+ *
+ * If a result can't be read out of storage, {@link #next()} throws an
+ * {@link IllegalStateException} whose cause is a {@link DataStoreException}.
+ * The iterator is canceled when that happens.
+ * @param <T> Type of model being iterated
+ */
+public interface DataStoreQueryIterator<T extends Model> extends Iterator<T>, Cancelable {
+}
@@ -26,12 +26,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility that operates on the fields of a
  * {@link com.amplifyframework.core.model.Model}.
  */
 public final class FieldFinder {
+    // Fields that have been looked up by name, and made accessible, by class.
+    private static final Map<Class<?>, Map<String, Field>> ACCESSIBLE_FIELDS = new ConcurrentHashMap<>();
 
     /**
      * Dis-allows instantiation of this utility.
@@ -88,6 +92,31 @@ public final class FieldFinder {
         return Immutable.of(fields);
     }
 
+    /**
+     * Find a field that is declared by a class, by its name, and make it accessible.
+     * The field is only looked up once for each class; after that, the same field is returned.
+     * @param clazz The class which declares the field
+     * @param fieldName Name of the field
+     * @return The field, which is accessible
+     * @throws NoSuchFieldException if the class does not declare a field that matches fieldName
+     */
+    @NonNull
+    public static Field findAccessibleField(@NonNull Class<?> clazz,
+                                            @NonNull String fieldName) throws NoSuchFieldException {
+        Map<String, Field> fieldsOfClass = ACCESSIBLE_FIELDS.get(clazz);
+        if (fieldsOfClass == null) {
+            fieldsOfClass = new ConcurrentHashMap<>();
+            ACCESSIBLE_FIELDS.put(clazz, fieldsOfClass);
+        }
+        Field field = fieldsOfClass.get(fieldName);
+        if (field == null) {
+            field = clazz.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            fieldsOfClass.put(fieldName, field);
+        }
+        return field;
+    }
+
     /**
      * Extract the value of a field in an Object by field name.
      * @param object Object to obtain field value from
@@ -100,9 +129,7 @@ public final class FieldFinder {
     public static Object extractFieldValue(@NonNull Object object,
                                        @NonNull String fieldName) throws NoSuchFieldException {
         try {
-            Field objectField = object.getClass().getDeclaredField(fieldName);
-            objectField.setAccessible(true);
-            return objectField.get(object);
+            return findAccessibleField(object.getClass(), fieldName).get(object);
         } catch (NoSuchFieldException noSuchFieldException) {
             throw noSuchFieldException;
         } catch (Exception exception) {
@@ -112,5 +112,34 @@ public final class PredicateTest {
         assertFalse(not(Person.AGE.eq(21))
                 .evaluate(jane));
     }
-}
 
+    /**
+     * Tests that a compiled predicate evaluates the same as the predicate it was compiled from.
+     */
+    @Test
+    public void testCompiledPredicateEvaluation() {
+        final Person jane = Person.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .age(21)
+                .build();
+        final Person joe = Person.builder()
+                .firstName("Joe")
+                .lastName("Doe")
+                .age(42)
+                .build();
+        final QueryPredicate predicate = Person.AGE.lt(30)
+                .and(Person.FIRST_NAME.beginsWith("J"))
+                .and(not(Person.LAST_NAME.eq("Smith")));
+
+        CompiledQueryPredicate compiled = CompiledQueryPredicate.compile(predicate, Person.class);
+        assertTrue(compiled.evaluate(jane));
+        assertFalse(compiled.evaluate(joe));
+
+        // A field that the class doesn't have never matches, just as when evaluated without compiling.
+        CompiledQueryPredicate unknownField =
+                CompiledQueryPredicate.compile(QueryField.field("nickname").eq("JJ"), Person.class);
+        assertFalse(unknownField.evaluate(jane));
+        assertTrue(CompiledQueryPredicate.compile(QueryPredicates.all(), Person.class).evaluate(jane));
+    }
+}
@@ -27,13 +27,17 @@ import com.amplifyframework.datastore.DataStoreCategory;
 import com.amplifyframework.datastore.DataStoreCategoryBehavior;
 import com.amplifyframework.datastore.DataStoreException;
 import com.amplifyframework.datastore.DataStoreItemChange;
+import com.amplifyframework.datastore.DataStoreQueryIterator;
 import com.amplifyframework.rx.RxAdapters.VoidBehaviors;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.core.Single;
 
 final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
     private final DataStoreCategoryBehavior dataStore;
@@ -72,6 +76,14 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
             dataStore.delete(item, predicate, onResult, onError));
     }
 
+    @NonNull
+    @Override
+    public Completable batch(
+            @NonNull List<? extends Model> itemsToSave, @NonNull List<? extends Model> itemsToDelete) {
+        return VoidBehaviors.<DataStoreException>toCompletable((onComplete, onError) ->
+            dataStore.batch(itemsToSave, itemsToDelete, result -> onComplete.call(), onError));
+    }
+
     @NonNull
     @Override
     public <T extends Model> Observable<T> query(@NonNull Class<T> itemClass) {
@@ -94,6 +106,35 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
             dataStore.query(itemClass, options, onResult, onError));
     }
 
+    @NonNull
+    @Override
+    public <T extends Model> Flowable<T> queryLazily(
+            @NonNull Class<T> itemClass, @NonNull QueryOptions options) {
+        // The iterator is released when the stream ends, however it ends. That includes when the
+        // subscriber goes away before the iterator has been handed over to it.
+        return Flowable.using(QueryIteratorHolder<T>::new, holder ->
+            Single.<DataStoreQueryIterator<T>>create(subscriber ->
+                dataStore.queryLazily(itemClass, options, iterator -> {
+                    if (holder.hold(iterator)) {
+                        subscriber.onSuccess(iterator);
+                    }
+                }, subscriber::onError)
+            ).flatMapPublisher(iterator -> Flowable.<T>generate(emitter -> {
+                try {
+                    if (iterator.hasNext()) {
+                        emitter.onNext(iterator.next());
+                    } else {
+                        emitter.onComplete();
+                    }
+                } catch (IllegalStateException failure) {
+                    Throwable cause = failure.getCause();
+                    emitter.onError(cause instanceof DataStoreException ? cause : failure);
+                }
+            })),
+            QueryIteratorHolder::cancel
+        );
+    }
+
     @NonNull
     @Override
     public Observable<DataStoreItemChange<? extends Model>> observe() {
@@ -175,4 +216,35 @@ final class RxDataStoreBinding implements RxDataStoreCategoryBehavior {
         return VoidBehaviors.<DataStoreException>toCompletable((onComplete, onError) ->
                 method.emitTo(result -> onComplete.call(), onError));
     }
+
+    /**
+     * Holds the iterator of a lazy query, which may arrive after the query's stream has ended.
+     * @param <T> Type of model being iterated
+     */
+    private static final class QueryIteratorHolder<T extends Model> {
+        private DataStoreQueryIterator<T> iterator;
+        private boolean isCanceled;
+
+        /**
+         * Holds an iterator, until the holder is canceled.
+         * @param iterator An iterator
+         * @return true if the iterator is held, or false if the holder was already canceled,
+         *         in which case the iterator is canceled right away
+         */
+        synchronized boolean hold(DataStoreQueryIterator<T> iterator) {
+            if (isCanceled) {
+                iterator.cancel();
+                return false;
+            }
+            this.iterator = iterator;
+            return true;
+        }
+
+        synchronized void cancel() {
+            isCanceled = true;
+            if (iterator != null) {
+                iterator.cancel();
+            }
+        }
+    }
 }
@@ -23,7 +23,10 @@ import com.amplifyframework.core.model.query.predicate.QueryPredicate;
 import com.amplifyframework.datastore.DataStoreCategoryBehavior;
 import com.amplifyframework.datastore.DataStoreItemChange;
 
+import java.util.List;
+
 import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
 
 /**
@@ -79,6 +82,21 @@ public interface RxDataStoreCategoryBehavior {
             @NonNull QueryPredicate predicate
     );
 
+    /**
+     * Saves and deletes a number of items in the DataStore, as a single unit of work.
+     * All of the saves are applied first, followed by all of the deletions.
+     * Either every change is applied, or, on failure, none of them are.
+     * @param itemsToSave Items to save into the DataStore
+     * @param itemsToDelete Items to delete from the DataStore
+     * @return A {@link Completable} which completes after all changes are applied,
+     *         emits error if the batch could not be applied
+     */
+    @NonNull
+    Completable batch(
+            @NonNull List<? extends Model> itemsToSave,
+            @NonNull List<? extends Model> itemsToDelete
+    );
+
     /**
      * Query the DataStore to find all items of the requested Java class.
      * @param itemClass Items of this class will be targeted by this query
@@ -121,6 +139,24 @@ public interface RxDataStoreCategoryBehavior {
             @NonNull QueryOptions options
     );
 
+    /**
+     * Query the DataStore to find items of the requested Java class, using the provided
+     * {@link QueryOptions}. Unlike {@link #query(Class, QueryOptions)}, results are read out of
+     * storage only as they are requested by the subscriber, so that a large result set need
+     * not be held in memory all at once. Storage resources are held open until the Flowable
+     * completes, fails, or the subscription is disposed.
+     * @param itemClass Class of items that will be queried
+     * @param options Filtering, paging, and sorting options
+     * @param <T> The type of items being queried
+     * @return A backpressure-aware stream of 0..n query results, if available.
+     *         The Flowable will then terminate with either a completion or error.
+     */
+    @NonNull
+    <T extends Model> Flowable<T> queryLazily(
+            @NonNull Class<T> itemClass,
+            @NonNull QueryOptions options
+    );
+
     /**
      * Observe all changes to any/all item(s) in the DataStore.
      * @return An observable stream of {@link DataStoreItemChange}s,
@@ -72,7 +72,8 @@ public final class RxOperations {
         /**
          * Returns an {@link Observable} which consumers can use to
          * receive notfication about the status of the subscription connection. Currently,
-         * only {@link ConnectionState#CONNECTED} is emitted.
+         * only {@link ConnectionState#CONNECTED} is emitted. It is emitted again each time that
+         * the subscription is re-established after its connection was lost.
          * @return Reference to the {@link Observable} that receives connection events.
          */
         public Observable<ConnectionStateEvent> observeConnectionState() {
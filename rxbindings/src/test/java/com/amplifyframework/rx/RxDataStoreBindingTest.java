@@ -23,6 +23,8 @@ import com.amplifyframework.core.Consumer;
 import com.amplifyframework.core.async.Cancelable;
 import com.amplifyframework.core.async.NoOpCancelable;
 import com.amplifyframework.core.model.Model;
+import com.amplifyframework.core.model.query.QueryOptions;
+import com.amplifyframework.core.model.query.Where;
 import com.amplifyframework.datastore.DataStoreCategory;
 import com.amplifyframework.datastore.DataStoreCategoryConfiguration;
 import com.amplifyframework.datastore.DataStoreException;
@@ -30,6 +32,7 @@ import com.amplifyframework.datastore.DataStoreItemChange;
 import com.amplifyframework.datastore.DataStoreItemChange.Initiator;
 import com.amplifyframework.datastore.DataStoreItemChange.Type;
 import com.amplifyframework.datastore.DataStorePlugin;
+import com.amplifyframework.datastore.DataStoreQueryIterator;
 import com.amplifyframework.testutils.random.RandomModel;
 import com.amplifyframework.testutils.random.RandomString;
 
@@ -37,14 +40,19 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
 
 import static com.amplifyframework.rx.Matchers.anyAction;
 import static com.amplifyframework.rx.Matchers.anyConsumer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -214,6 +222,66 @@ public final class RxDataStoreBindingTest {
             .delete(eq(model), anyConsumer(), anyConsumer());
     }
 
+    /**
+     * When the DataStore batch behavior emits a result, the Rx binding
+     * should just complete.
+     * @throws InterruptedException If interrupted while test observer is awaiting terminal event
+     */
+    @Test
+    public void batchCompletesWhenBehaviorEmitsResult() throws InterruptedException {
+        // Arrange: batch() category behavior will callback result consumer
+        List<Model> itemsToSave = Arrays.asList(RandomModel.model(), RandomModel.model());
+        List<Model> itemsToDelete = Collections.singletonList(RandomModel.model());
+        doAnswer(invocation -> {
+            final int indexOfResultConsumer = 2;
+            Consumer<List<DataStoreItemChange<? extends Model>>> resultConsumer =
+                invocation.getArgument(indexOfResultConsumer);
+            resultConsumer.accept(Collections.emptyList());
+            return null;
+        }).when(delegate)
+            .batch(eq(itemsToSave), eq(itemsToDelete), anyConsumer(), anyConsumer());
+
+        // Act: try to apply a batch via the Rx binding
+        TestObserver<Void> observer = rxDataStore.batch(itemsToSave, itemsToDelete).test();
+
+        // Assert: the operation completed
+        observer.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        observer.assertComplete();
+
+        verify(delegate)
+            .batch(eq(itemsToSave), eq(itemsToDelete), anyConsumer(), anyConsumer());
+    }
+
+    /**
+     * When the DataStore batch behavior emits an error, the Rx binding
+     * should do the same.
+     * @throws InterruptedException If interrupted while test observer is awaiting terminal event
+     */
+    @Test
+    public void batchEmitsErrorWhenBehaviorDoes() throws InterruptedException {
+        // Arrange: batch() category behavior will callback failure consumer
+        List<Model> itemsToSave = Collections.singletonList(RandomModel.model());
+        List<Model> itemsToDelete = Collections.emptyList();
+        DataStoreException expectedFailure = new DataStoreException("Expected", "Failure");
+        doAnswer(invocation -> {
+            final int indexOfFailureConsumer = 3;
+            Consumer<DataStoreException> failureConsumer = invocation.getArgument(indexOfFailureConsumer);
+            failureConsumer.accept(expectedFailure);
+            return null;
+        }).when(delegate)
+            .batch(eq(itemsToSave), eq(itemsToDelete), anyConsumer(), anyConsumer());
+
+        // Act: try to apply a batch via the Rx binding
+        TestObserver<Void> observer = rxDataStore.batch(itemsToSave, itemsToDelete).test();
+
+        // Assert: the same failure bubbled out from the category behavior
+        observer.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        observer.assertError(expectedFailure);
+
+        verify(delegate)
+            .batch(eq(itemsToSave), eq(itemsToDelete), anyConsumer(), anyConsumer());
+    }
+
     /**
      * When the DataStore category behavior emits a query result, those results
      * should be emitted onto an Observable in the Rx binding.
@@ -266,6 +334,123 @@ public final class RxDataStoreBindingTest {
             .query(eq(Model.class), anyConsumer(), anyConsumer());
     }
 
+    /**
+     * When the DataStore category behavior provides an iterator over lazily-read query
+     * results, the Rx binding should emit each of its results, and then release
+     * the iterator once it has been exhausted.
+     * @throws InterruptedException If interrupted while test subscriber is awaiting terminal event
+     */
+    @Test
+    public void queryLazilyEmitsResultsAndReleasesIterator() throws InterruptedException {
+        // Arrange: lazy query will provide an iterator over some results
+        List<Model> models = Arrays.asList(RandomModel.model(), RandomModel.model());
+        FakeQueryIterator iterator = new FakeQueryIterator(models);
+        QueryOptions options = Where.matchesAll();
+        doAnswer(invocation -> {
+            final int positionOfResultConsumer = 2; // 0 = clazz, 1 = options, 2 = results, 3 = error
+            Consumer<DataStoreQueryIterator<Model>> resultConsumer = invocation.getArgument(positionOfResultConsumer);
+            resultConsumer.accept(iterator);
+            return null;
+        }).when(delegate)
+            .queryLazily(eq(Model.class), eq(options), anyConsumer(), anyConsumer());
+
+        // Act: call Rx Binding to lazily query for Model.class
+        TestSubscriber<Model> subscriber = rxDataStore.queryLazily(Model.class, options).test();
+
+        // Assert: all results were emitted, and the iterator was released.
+        subscriber.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        subscriber.assertValueSequence(models);
+        subscriber.assertComplete();
+        assertTrue(iterator.isCanceled);
+    }
+
+    /**
+     * Results of a lazy query are only read as they are requested by the subscriber.
+     * When the subscription is canceled early, the iterator should be released,
+     * without reading any further results.
+     */
+    @Test
+    public void queryLazilyHonorsBackpressureAndReleasesIteratorWhenCanceled() {
+        // Arrange: lazy query will provide an iterator over some results
+        List<Model> models = Arrays.asList(RandomModel.model(), RandomModel.model(), RandomModel.model());
+        FakeQueryIterator iterator = new FakeQueryIterator(models);
+        QueryOptions options = Where.matchesAll();
+        doAnswer(invocation -> {
+            final int positionOfResultConsumer = 2;
+            Consumer<DataStoreQueryIterator<Model>> resultConsumer = invocation.getArgument(positionOfResultConsumer);
+            resultConsumer.accept(iterator);
+            return null;
+        }).when(delegate)
+            .queryLazily(eq(Model.class), eq(options), anyConsumer(), anyConsumer());
+
+        // Act: request a single result, then cancel.
+        TestSubscriber<Model> subscriber = rxDataStore.queryLazily(Model.class, options).test(1);
+        subscriber.assertValues(models.get(0));
+        subscriber.cancel();
+
+        // Assert: only the requested result was read, and the iterator was released.
+        assertEquals(1, iterator.readCount);
+        assertTrue(iterator.isCanceled);
+        subscriber.assertNotComplete();
+    }
+
+    /**
+     * When the subscription is canceled before the iterator over lazily-read query results
+     * has been provided, the iterator should be released as soon as it is provided.
+     */
+    @Test
+    public void queryLazilyReleasesIteratorProvidedAfterCancellation() {
+        // Arrange: lazy query will hold on to its result consumer, instead of calling it.
+        List<Model> models = Collections.singletonList(RandomModel.model());
+        FakeQueryIterator iterator = new FakeQueryIterator(models);
+        QueryOptions options = Where.matchesAll();
+        AtomicReference<Consumer<DataStoreQueryIterator<Model>>> resultConsumer = new AtomicReference<>();
+        doAnswer(invocation -> {
+            final int positionOfResultConsumer = 2;
+            resultConsumer.set(invocation.getArgument(positionOfResultConsumer));
+            return null;
+        }).when(delegate)
+            .queryLazily(eq(Model.class), eq(options), anyConsumer(), anyConsumer());
+
+        // Act: cancel the subscription, and only then provide the iterator.
+        TestSubscriber<Model> subscriber = rxDataStore.queryLazily(Model.class, options).test();
+        subscriber.cancel();
+        resultConsumer.get().accept(iterator);
+
+        // Assert: nothing was read, and the iterator was released.
+        assertEquals(0, iterator.readCount);
+        assertTrue(iterator.isCanceled);
+        subscriber.assertNoValues();
+    }
+
+    /**
+     * When a lazily-read query result can't be read out of storage, the Rx binding should
+     * terminate with the underlying DataStore failure.
+     * @throws InterruptedException If interrupted while test subscriber is awaiting terminal event
+     */
+    @Test
+    public void queryLazilyEmitsFailureWhenResultCannotBeRead() throws InterruptedException {
+        DataStoreException expectedFailure = new DataStoreException("Expected", "Failure");
+        QueryOptions options = Where.matchesAll();
+        doAnswer(invocation -> {
+            final int positionOfResultConsumer = 2;
+            Consumer<DataStoreQueryIterator<Model>> resultConsumer = invocation.getArgument(positionOfResultConsumer);
+            resultConsumer.accept(new FakeQueryIterator(Collections.singletonList(RandomModel.model())) {
+                @Override
+                public Model next() {
+                    cancel();
+                    throw new IllegalStateException("Failed to read.", expectedFailure);
+                }
+            });
+            return null;
+        }).when(delegate)
+            .queryLazily(eq(Model.class), eq(options), anyConsumer(), anyConsumer());
+
+        TestSubscriber<Model> subscriber = rxDataStore.queryLazily(Model.class, options).test();
+        subscriber.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        subscriber.assertError(expectedFailure);
+    }
+
     /**
      * The Rx binding for observing the DataStore should be an Observable stream
      * of DataStore changes. It should emit events whenever they are observed
@@ -519,4 +704,34 @@ public final class RxDataStoreBindingTest {
         observer.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
         observer.assertComplete();
     }
+
+    /**
+     * A query iterator over an in-memory list of models, which records how
+     * many results have been read from it, and whether it has been canceled.
+     */
+    private static class FakeQueryIterator implements DataStoreQueryIterator<Model> {
+        private final Iterator<Model> results;
+        private int readCount;
+        private boolean isCanceled;
+
+        FakeQueryIterator(List<Model> results) {
+            this.results = results.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !isCanceled && results.hasNext();
+        }
+
+        @Override
+        public Model next() {
+            readCount++;
+            return results.next();
+        }
+
+        @Override
+        public void cancel() {
+            isCanceled = true;
+        }
+    }
 }